@@ -0,0 +1,95 @@
+package com.jobplatform.extraction;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Skill detection on postings of 1 KB to 1 MB: the Aho-Corasick automaton over the bundled dictionary
+ * against the keyword loop it replaced, which lower-cased the whole text once per skill. The loop is
+ * measured with its original six skills and with every term of the bundled dictionary.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SkillMatchingBenchmark {
+
+    private static final String[] LEGACY_SKILLS = { "java", "typescript", "react", "spring boot", "docker", "kubernetes" };
+
+    private static final String SAMPLE = """
+        We are hiring a Full Stack Developer (Java 17, Spring Boot, Angular) to join our product team in Paris.
+        You will design REST APIs, deploy microservices on Kubernetes (k8s) with Docker and GitLab CI,
+        and work with PostgreSQL, Redis and Kafka. Nice to have: React, TypeScript, AWS, Terraform.
+        Stage de fin d'études de 6 mois, rémunération selon profil, télétravail partiel.
+        """;
+
+    @Param({ "1024", "65536", "1048576" })
+    public int textBytes;
+
+    private String text;
+
+    private AhoCorasickMatcher matcher;
+
+    private String[] dictionaryTerms;
+
+    @Setup
+    public void setUp() throws IOException {
+        StringBuilder builder = new StringBuilder(textBytes + SAMPLE.length());
+        while (builder.length() < textBytes) {
+            builder.append(SAMPLE);
+        }
+        text = builder.substring(0, textBytes);
+
+        Map<String, String> terms;
+        try (InputStream in = new ClassPathResource("skills.txt").getInputStream()) {
+            terms = SkillDictionary.parse(in);
+        }
+        matcher = new AhoCorasickMatcher(terms);
+        dictionaryTerms = terms.keySet().stream().map(String::toLowerCase).toArray(String[]::new);
+    }
+
+    @Benchmark
+    public List<SkillMatch> ahoCorasickDictionary() {
+        return matcher.match(text);
+    }
+
+    @Benchmark
+    public List<String> keywordLoopLegacySkills() {
+        return keywordLoop(LEGACY_SKILLS);
+    }
+
+    @Benchmark
+    public List<String> keywordLoopDictionary() {
+        return keywordLoop(dictionaryTerms);
+    }
+
+    // As ExtractorService did it before the dictionary: one toLowerCase and contains per skill
+    private List<String> keywordLoop(String[] skills) {
+        List<String> found = new ArrayList<>();
+        for (String skill : skills) {
+            if (text.toLowerCase().contains(skill)) {
+                found.add(skill);
+            }
+        }
+        return found;
+    }
+}
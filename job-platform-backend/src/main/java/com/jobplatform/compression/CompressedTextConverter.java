@@ -0,0 +1,22 @@
+package com.jobplatform.compression;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores a String attribute through TextCodec. Columns using it hold encoded text, so they must not be
+ * searched with LIKE or FULLTEXT in SQL.
+ */
+@Converter
+public class CompressedTextConverter implements AttributeConverter<String, String> {
+
+    @Override
+    public String convertToDatabaseColumn(String attribute) {
+        return TextCodec.encode(attribute);
+    }
+
+    @Override
+    public String convertToEntityAttribute(String dbData) {
+        return TextCodec.decode(dbData);
+    }
+}
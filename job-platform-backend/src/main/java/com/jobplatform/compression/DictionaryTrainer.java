@@ -0,0 +1,155 @@
+package com.jobplatform.compression;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Builds a Deflate preset dictionary from sample texts, in the manner of zstd's fast cover trainer:
+ * 8-byte substrings are counted once per sample in a hashed table, the samples are cut into as many
+ * epochs as the dictionary has 64-byte segments, and each epoch contributes its best-scoring segment.
+ * The substrings of a chosen segment stop counting, so later segments cover new material. The best
+ * segments go last, where Deflate reaches them with the shortest distances.
+ */
+public final class DictionaryTrainer {
+
+    // Length of the substrings whose repetition across samples is counted
+    private static final int DMER = 8;
+
+    private static final int SEGMENT = 64;
+
+    private static final int TABLE_BITS = 20;
+
+    // Substrings seen in fewer samples than this are not worth a place in the dictionary
+    private static final int MIN_SAMPLES = 2;
+
+    private DictionaryTrainer() {}
+
+    /**
+     * Dictionary of at most maxBytes, valid UTF-8; empty when the samples share nothing
+     */
+    public static byte[] train(List<String> samples, int maxBytes) {
+        List<byte[]> texts = new ArrayList<>(samples.size());
+        samples.forEach(sample -> texts.add(sample.getBytes(StandardCharsets.UTF_8)));
+
+        int[] frequency = new int[1 << TABLE_BITS];
+        int[] lastSample = new int[1 << TABLE_BITS];
+        for (int s = 0; s < texts.size(); s++) {
+            byte[] text = texts.get(s);
+            for (int i = 0; i + DMER <= text.length; i++) {
+                int slot = slot(text, i);
+                if (lastSample[slot] != s + 1) {
+                    lastSample[slot] = s + 1;
+                    frequency[slot]++;
+                }
+            }
+        }
+        for (int slot = 0; slot < frequency.length; slot++) {
+            if (frequency[slot] < MIN_SAMPLES) {
+                frequency[slot] = 0;
+            }
+        }
+
+        long windows = 0;
+        for (byte[] text : texts) {
+            windows += Math.max(0, text.length - SEGMENT + 1);
+        }
+        long epochSize = Math.max(1, windows / Math.max(1, maxBytes / SEGMENT));
+
+        List<Segment> chosen = new ArrayList<>();
+        int[] size = new int[1];
+        Segment best = null;
+        long position = 0;
+        for (byte[] text : texts) {
+            long score = -1;
+            for (int start = 0; start + SEGMENT <= text.length; start++) {
+                // Sums are recomputed after every epoch, whose chosen segment zeroes some counts
+                if (score < 0) {
+                    score = 0;
+                    for (int i = start; i + DMER <= start + SEGMENT; i++) {
+                        score += frequency[slot(text, i)];
+                    }
+                } else {
+                    score += frequency[slot(text, start + SEGMENT - DMER)] - frequency[slot(text, start - 1)];
+                }
+                if (score > 0 && (best == null || score > best.score)) {
+                    best = new Segment(text, start, score);
+                }
+                if (++position % epochSize == 0) {
+                    if (!take(best, frequency, chosen, size, maxBytes)) {
+                        return concatenate(chosen);
+                    }
+                    best = null;
+                    score = -1;
+                }
+            }
+        }
+        take(best, frequency, chosen, size, maxBytes);
+        return concatenate(chosen);
+    }
+
+    // Add the epoch's best segment; false once the dictionary is full
+    private static boolean take(Segment best, int[] frequency, List<Segment> chosen, int[] size, int maxBytes) {
+        if (best == null) {
+            return true;
+        }
+        // Never cut a multi-byte UTF-8 sequence
+        int start = best.start;
+        int end = best.start + SEGMENT;
+        while (start < end && isContinuation(best.text[start])) {
+            start++;
+        }
+        while (end < best.text.length && end > start && isContinuation(best.text[end])) {
+            end--;
+        }
+        if (size[0] + end - start > maxBytes) {
+            return false;
+        }
+        for (int i = start; i + DMER <= end; i++) {
+            frequency[slot(best.text, i)] = 0;
+        }
+        chosen.add(new Segment(best.text, start, end, best.score));
+        size[0] += end - start;
+        return true;
+    }
+
+    private static byte[] concatenate(List<Segment> chosen) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        chosen.stream()
+            .sorted(Comparator.comparingLong(segment -> segment.score))
+            .forEach(segment -> out.write(segment.text, segment.start, segment.end - segment.start));
+        return out.toByteArray();
+    }
+
+    private static int slot(byte[] text, int i) {
+        long dmer = 0;
+        for (int j = 0; j < DMER; j++) {
+            dmer = (dmer << 8) | (text[i + j] & 0xFF);
+        }
+        return (int) ((dmer * 0x9E3779B97F4A7C15L) >>> (64 - TABLE_BITS));
+    }
+
+    private static boolean isContinuation(byte b) {
+        return (b & 0xC0) == 0x80;
+    }
+
+    private static final class Segment {
+        final byte[] text;
+        final int start;
+        final int end;
+        final long score;
+
+        Segment(byte[] text, int start, long score) {
+            this(text, start, start + SEGMENT, score);
+        }
+
+        Segment(byte[] text, int start, int end, long score) {
+            this.text = text;
+            this.start = start;
+            this.end = end;
+            this.score = score;
+        }
+    }
+}
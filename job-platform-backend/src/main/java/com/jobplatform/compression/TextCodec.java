@@ -0,0 +1,219 @@
+package com.jobplatform.compression;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compact text encoding for stored postings, cover letters and extraction JSON: raw Deflate primed
+ * with a preset dictionary of posting vocabulary, written as "dz" + dictionary version + ":" + Base64
+ * so it fits the existing TEXT/LONGTEXT columns. Short values, and values that would not shrink, are
+ * kept as plain text; anything without a known prefix decodes to itself, so rows written before
+ * compression stay readable. Dictionaries are bundled as compression/posting-dictionary-v<n>.txt and
+ * are part of the format: a bundled version is never edited, new text is written with the highest
+ * one. New versions come from DictionaryTrainer, see TextCompressionService.trainDictionary.
+ */
+public final class TextCodec {
+
+    private static final String DICTIONARY_RESOURCE = "/compression/posting-dictionary-v%d.txt";
+
+    // Below this many characters Deflate plus Base64 rarely beats the plain text
+    private static final int MIN_LENGTH = 128;
+
+    // Bundled dictionaries by version; index 0 is unused
+    private static final byte[][] DICTIONARIES = loadDictionaries();
+
+    private static final int CURRENT_VERSION = DICTIONARIES.length - 1;
+
+    private static final String PREFIX = prefix(CURRENT_VERSION);
+
+    private static final LongAdder encoded = new LongAdder();
+    private static final LongAdder compressed = new LongAdder();
+    private static final LongAdder plainBytes = new LongAdder();
+    private static final LongAdder storedBytes = new LongAdder();
+    private static final LongAdder encodeNanos = new LongAdder();
+    private static final LongAdder decoded = new LongAdder();
+    private static final LongAdder decodeNanos = new LongAdder();
+
+    private TextCodec() {}
+
+    public static String encode(String text) {
+        if (text == null) {
+            return null;
+        }
+        long start = System.nanoTime();
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+        String stored = text;
+        // Plain text that happens to start with a prefix, even of a version not bundled yet, is always
+        // encoded so it cannot be misread
+        boolean looksEncoded = prefixVersion(text) > 0;
+        if (text.length() >= MIN_LENGTH || looksEncoded) {
+            byte[] deflated = deflate(utf8, DICTIONARIES[CURRENT_VERSION]);
+            String candidate = PREFIX + Base64.getEncoder().encodeToString(deflated);
+            if (candidate.length() < utf8.length || looksEncoded) {
+                stored = candidate;
+                compressed.increment();
+            }
+        }
+        encoded.increment();
+        plainBytes.add(utf8.length);
+        storedBytes.add(stored == text ? utf8.length : stored.length());
+        encodeNanos.add(System.nanoTime() - start);
+        return stored;
+    }
+
+    public static String decode(String stored) {
+        int version = versionOf(stored);
+        if (version == 0) {
+            return stored;
+        }
+        long start = System.nanoTime();
+        String text = new String(inflate(Base64.getDecoder().decode(stored.substring(prefix(version).length())),
+            DICTIONARIES[version]), StandardCharsets.UTF_8);
+        decoded.increment();
+        decodeNanos.add(System.nanoTime() - start);
+        return text;
+    }
+
+    public static boolean isEncoded(String stored) {
+        return versionOf(stored) > 0;
+    }
+
+    /**
+     * Version of the dictionary new text is encoded with
+     */
+    public static int currentVersion() {
+        return CURRENT_VERSION;
+    }
+
+    public static byte[] currentDictionary() {
+        return DICTIONARIES[CURRENT_VERSION].clone();
+    }
+
+    /**
+     * Raw Deflate size of the text primed with the given dictionary, to compare candidate dictionaries
+     */
+    public static int deflatedSize(String text, byte[] dictionary) {
+        return deflate(text.getBytes(StandardCharsets.UTF_8), dictionary).length;
+    }
+
+    /**
+     * Totals since startup of everything written and read through the codec
+     */
+    public static Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        long plain = plainBytes.sum();
+        stats.put("encoded", encoded.sum());
+        stats.put("compressed", compressed.sum());
+        stats.put("plainBytes", plain);
+        stats.put("storedBytes", storedBytes.sum());
+        stats.put("ratio", plain == 0 ? null : (double) storedBytes.sum() / plain);
+        stats.put("avgEncodeMicros", encoded.sum() == 0 ? null : encodeNanos.sum() / 1000.0 / encoded.sum());
+        stats.put("decoded", decoded.sum());
+        stats.put("avgDecodeMicros", decoded.sum() == 0 ? null : decodeNanos.sum() / 1000.0 / decoded.sum());
+        stats.put("dictionaryVersion", CURRENT_VERSION);
+        stats.put("dictionaryBytes", DICTIONARIES[CURRENT_VERSION].length);
+        return stats;
+    }
+
+    // Bundled dictionary version named by the value's prefix, 0 for plain text
+    private static int versionOf(String stored) {
+        int version = prefixVersion(stored);
+        return version <= CURRENT_VERSION ? version : 0;
+    }
+
+    // Number in a "dz<n>:" prefix, 0 without one
+    private static int prefixVersion(String stored) {
+        if (stored == null || !stored.startsWith("dz")) {
+            return 0;
+        }
+        int colon = stored.indexOf(':', 2);
+        if (colon < 3 || colon > 6) {
+            return 0;
+        }
+        int version = 0;
+        for (int i = 2; i < colon; i++) {
+            char c = stored.charAt(i);
+            if (c < '0' || c > '9') {
+                return 0;
+            }
+            version = version * 10 + (c - '0');
+        }
+        return version;
+    }
+
+    private static String prefix(int version) {
+        return "dz" + version + ":";
+    }
+
+    private static byte[] deflate(byte[] input, byte[] dictionary) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION, true);
+        try {
+            deflater.setDictionary(dictionary);
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length / 2 + 16);
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] input, byte[] dictionary) {
+        // nowrap streams carry no dictionary id, so the dictionary is set before any input is read
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setDictionary(dictionary);
+            inflater.setInput(input);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length * 4);
+            byte[] buffer = new byte[4096];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new RuntimeException("Truncated compressed text");
+                }
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new RuntimeException("Corrupt compressed text: " + e.getMessage());
+        } finally {
+            inflater.end();
+        }
+    }
+
+    // Versions 1, 2, ... up to the first one missing from the classpath
+    private static byte[][] loadDictionaries() {
+        List<byte[]> dictionaries = new ArrayList<>();
+        dictionaries.add(null);
+        while (true) {
+            String resource = String.format(DICTIONARY_RESOURCE, dictionaries.size());
+            try (InputStream in = TextCodec.class.getResourceAsStream(resource)) {
+                if (in == null) {
+                    break;
+                }
+                dictionaries.add(in.readAllBytes());
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to read " + resource, e);
+            }
+        }
+        if (dictionaries.size() == 1) {
+            throw new IllegalStateException("Missing " + String.format(DICTIONARY_RESOURCE, 1));
+        }
+        return dictionaries.toArray(new byte[0][]);
+    }
+}
@@ -0,0 +1,55 @@
+package com.jobplatform.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Moves documents of tasks queued before extraction_task_documents existed out of
+ * extraction_tasks.document_content. The extraction worker starts claiming only after this has run;
+ * db/extraction-task-documents.sql drops the emptied column for good.
+ */
+@Component
+public class ExtractionTaskDocumentMigration {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void migrate() {
+        try {
+            if (!hasLegacyColumn()) {
+                return;
+            }
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                jdbcTemplate.update(
+                    "INSERT INTO extraction_task_documents (task_id, document_content) " +
+                    "SELECT t.id, t.document_content FROM extraction_tasks t WHERE t.document_content IS NOT NULL " +
+                    "AND NOT EXISTS (SELECT 1 FROM extraction_task_documents d WHERE d.task_id = t.id)");
+                jdbcTemplate.update(
+                    "UPDATE extraction_tasks SET document_length = OCTET_LENGTH(document_content), document_content = NULL " +
+                    "WHERE document_content IS NOT NULL");
+            });
+        } catch (Exception e) {
+            System.err.println("Failed to migrate queued extraction documents: " + e.getMessage());
+        }
+    }
+
+    private boolean hasLegacyColumn() {
+        Integer columns = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM information_schema.columns WHERE table_schema = DATABASE() " +
+            "AND table_name = 'extraction_tasks' AND column_name = 'document_content'",
+            Integer.class);
+        return columns != null && columns == 1;
+    }
+}
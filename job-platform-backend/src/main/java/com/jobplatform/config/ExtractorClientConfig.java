@@ -0,0 +1,270 @@
+package com.jobplatform.config;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.core5.concurrent.Cancellable;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.StreamingHttpOutputMessage;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pooled, keep-alive HTTP client used to talk to the Flask extractor service
+ */
+@Configuration
+public class ExtractorClientConfig {
+
+    @Value("${extractor.service.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${extractor.service.max-connections-per-route:20}")
+    private int maxConnectionsPerRoute;
+
+    @Value("${extractor.service.connect-timeout-ms:2000}")
+    private long connectTimeoutMs;
+
+    @Value("${extractor.service.read-timeout-ms:30000}")
+    private long readTimeoutMs;
+
+    @Value("${extractor.service.total-timeout-ms:60000}")
+    private long totalTimeoutMs;
+
+    @Value("${extractor.service.connection-request-timeout-ms:2000}")
+    private long connectionRequestTimeoutMs;
+
+    @Value("${extractor.service.keep-alive-ms:30000}")
+    private long keepAliveMs;
+
+    @Value("${extractor.service.idle-eviction-ms:30000}")
+    private long idleEvictionMs;
+
+    @Value("${extractor.service.validate-after-inactivity-ms:2000}")
+    private long validateAfterInactivityMs;
+
+    @Value("${extractor.health.timeout-ms:1000}")
+    private int healthTimeoutMs;
+
+    @Bean(destroyMethod = "close")
+    public MeteredConnectionManager extractorConnectionManager() {
+        MeteredConnectionManager connectionManager = new MeteredConnectionManager();
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+        connectionManager.setDefaultConnectionConfig(ConnectionConfig.custom()
+            .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+            .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+            .setTimeToLive(TimeValue.ofMilliseconds(keepAliveMs))
+            .setValidateAfterInactivity(TimeValue.ofMilliseconds(validateAfterInactivityMs))
+            .build());
+        return connectionManager;
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient extractorHttpClient(MeteredConnectionManager extractorConnectionManager) {
+        RequestConfig requestConfig = RequestConfig.custom()
+            .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeoutMs))
+            .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+            .build();
+
+        return HttpClients.custom()
+            .setConnectionManager(extractorConnectionManager)
+            .setDefaultRequestConfig(requestConfig)
+            .setKeepAliveStrategy((response, context) -> TimeValue.ofMilliseconds(keepAliveMs))
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.ofMilliseconds(idleEvictionMs))
+            .build();
+    }
+
+    @Bean
+    public DeadlineRequestFactory extractorRequestFactory(CloseableHttpClient extractorHttpClient) {
+        return new DeadlineRequestFactory(extractorHttpClient, totalTimeoutMs);
+    }
+
+    @Bean
+    public RestTemplate extractorRestTemplate(DeadlineRequestFactory extractorRequestFactory) {
+        return new RestTemplate(extractorRequestFactory);
+    }
+
+    /**
+     * Client of the health probe: short timeouts and no pooled connection to wait for, so a stalled
+     * extractor or a saturated pool cannot hold the probe's scheduler thread for long
+     */
+    @Bean
+    public RestTemplate extractorHealthRestTemplate() {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(healthTimeoutMs);
+        requestFactory.setReadTimeout(healthTimeoutMs);
+        return new RestTemplate(requestFactory);
+    }
+
+    /**
+     * Request factory that aborts any exchange still running after the total timeout,
+     * so a stalled extractor can never pin a Tomcat thread indefinitely. The deadline is
+     * cancelled as soon as the exchange ends, so finished requests are not kept queued.
+     */
+    static class DeadlineRequestFactory extends HttpComponentsClientHttpRequestFactory {
+
+        private final ScheduledThreadPoolExecutor scheduler;
+        private final long totalTimeoutMs;
+
+        // Hands the deadline scheduled in createHttpUriRequest to the enclosing createRequest call
+        private final ThreadLocal<ScheduledFuture<?>> pendingDeadline = new ThreadLocal<>();
+
+        DeadlineRequestFactory(CloseableHttpClient httpClient, long totalTimeoutMs) {
+            super(httpClient);
+            this.totalTimeoutMs = totalTimeoutMs;
+            this.scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable, "extractor-deadline");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.scheduler.setRemoveOnCancelPolicy(true);
+        }
+
+        @Override
+        public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+            ClientHttpRequest request;
+            try {
+                request = super.createRequest(uri, httpMethod);
+            } catch (IOException | RuntimeException e) {
+                cancelPendingDeadline();
+                throw e;
+            }
+            ScheduledFuture<?> deadline = pendingDeadline.get();
+            pendingDeadline.remove();
+            return deadline == null ? request : new DeadlineRequest(request, deadline);
+        }
+
+        @Override
+        protected ClassicHttpRequest createHttpUriRequest(HttpMethod httpMethod, URI uri) {
+            ClassicHttpRequest request = super.createHttpUriRequest(httpMethod, uri);
+            if (totalTimeoutMs > 0 && request instanceof Cancellable cancellable) {
+                pendingDeadline.set(scheduler.schedule(cancellable::cancel, totalTimeoutMs, TimeUnit.MILLISECONDS));
+            }
+            return request;
+        }
+
+        private void cancelPendingDeadline() {
+            ScheduledFuture<?> deadline = pendingDeadline.get();
+            pendingDeadline.remove();
+            if (deadline != null) {
+                deadline.cancel(false);
+            }
+        }
+
+        @Override
+        public void destroy() throws Exception {
+            scheduler.shutdownNow();
+            super.destroy();
+        }
+    }
+
+    /**
+     * Request whose deadline is cancelled when the exchange fails or its response is closed. Keeps the
+     * streaming body support of the wrapped request, so uploads are still not buffered.
+     */
+    static class DeadlineRequest implements ClientHttpRequest, StreamingHttpOutputMessage {
+
+        private final ClientHttpRequest delegate;
+        private final ScheduledFuture<?> deadline;
+
+        DeadlineRequest(ClientHttpRequest delegate, ScheduledFuture<?> deadline) {
+            this.delegate = delegate;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public ClientHttpResponse execute() throws IOException {
+            ClientHttpResponse response;
+            try {
+                response = delegate.execute();
+            } catch (IOException | RuntimeException e) {
+                deadline.cancel(false);
+                throw e;
+            }
+            return new DeadlineResponse(response, deadline);
+        }
+
+        @Override
+        public void setBody(Body body) {
+            ((StreamingHttpOutputMessage) delegate).setBody(body);
+        }
+
+        @Override
+        public OutputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public HttpMethod getMethod() {
+            return delegate.getMethod();
+        }
+
+        @Override
+        public URI getURI() {
+            return delegate.getURI();
+        }
+    }
+
+    static class DeadlineResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final ScheduledFuture<?> deadline;
+
+        DeadlineResponse(ClientHttpResponse delegate, ScheduledFuture<?> deadline) {
+            this.delegate = delegate;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public void close() {
+            deadline.cancel(false);
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.jobplatform.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Creates the InnoDB FULLTEXT indexes used by search.backend=fulltext when they are missing.
+ * Hibernate's schema update cannot declare FULLTEXT indexes.
+ */
+@Component
+public class FullTextSchemaInitializer {
+
+    // "ALTER TABLE <table> ADD FULLTEXT INDEX <name> ..." statements of the migration
+    private static final Pattern ADD_INDEX = Pattern.compile(
+        "ALTER\\s+TABLE\\s+(\\w+)\\s+ADD\\s+FULLTEXT\\s+INDEX\\s+(\\w+)", Pattern.CASE_INSENSITIVE);
+
+    private static final String MIGRATION = "db/fulltext-indexes.sql";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${search.backend:lucene}")
+    private String backend;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexIfMissing() {
+        if (!"fulltext".equalsIgnoreCase(backend)) {
+            return;
+        }
+        try {
+            String script = new String(new ClassPathResource(MIGRATION).getInputStream().readAllBytes(),
+                StandardCharsets.UTF_8);
+            for (String statement : script.replaceAll("(?m)^--.*$", "").split(";")) {
+                Matcher matcher = ADD_INDEX.matcher(statement);
+                if (!statement.isBlank() && (!matcher.find() || !indexExists(matcher.group(1), matcher.group(2)))) {
+                    jdbcTemplate.execute(statement.trim());
+                }
+            }
+        } catch (Exception e) {
+            // Searches fall back to the LIKE query until the indexes exist
+            System.err.println("Failed to create FULLTEXT indexes: " + e.getMessage());
+        }
+    }
+
+    private boolean indexExists(String table, String index) {
+        Integer existing = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM information_schema.statistics " +
+            "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?",
+            Integer.class, table, index);
+        return existing != null && existing > 0;
+    }
+}
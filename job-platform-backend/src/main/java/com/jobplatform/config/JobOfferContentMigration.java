@@ -0,0 +1,77 @@
+package com.jobplatform.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Moves description, raw_text and extracted_data of rows written before job_offer_content existed
+ * out of job_offers, in id-range batches. Hibernate's schema update leaves the old columns in place;
+ * once emptied they take no row space, and db/job-offer-content.sql drops them for good.
+ */
+@Component
+public class JobOfferContentMigration {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String HAS_CONTENT =
+        "(j.description IS NOT NULL OR j.raw_text IS NOT NULL OR j.extracted_data IS NOT NULL)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * Runs before the other startup listeners, so the search index and dedup loaders see the moved text
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void migrate() {
+        try {
+            if (!hasLegacyColumns()) {
+                return;
+            }
+            Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM job_offers", Long.class);
+            if (maxId == null) {
+                return;
+            }
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            for (long from = 0; from < maxId; from += BATCH_SIZE) {
+                long start = from;
+                transaction.executeWithoutResult(status -> moveBatch(start, start + BATCH_SIZE));
+            }
+        } catch (Exception e) {
+            System.err.println("Failed to migrate job offer content: " + e.getMessage());
+        }
+    }
+
+    private boolean hasLegacyColumns() {
+        Integer columns = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM information_schema.columns WHERE table_schema = DATABASE() " +
+            "AND table_name = 'job_offers' AND column_name IN ('description', 'raw_text', 'extracted_data')",
+            Integer.class);
+        return columns != null && columns == 3;
+    }
+
+    // Rows that already have content keep it; their leftover legacy values are only cleared
+    private void moveBatch(long fromExclusive, long toInclusive) {
+        jdbcTemplate.update(
+            "INSERT INTO job_offer_content (job_offer_id, description, raw_text, extracted_data) " +
+            "SELECT j.id, j.description, j.raw_text, j.extracted_data FROM job_offers j " +
+            "WHERE j.id > ? AND j.id <= ? AND " + HAS_CONTENT + " " +
+            "AND NOT EXISTS (SELECT 1 FROM job_offer_content c WHERE c.job_offer_id = j.id)",
+            fromExclusive, toInclusive);
+        jdbcTemplate.update(
+            "UPDATE job_offers j SET j.description = NULL, j.raw_text = NULL, j.extracted_data = NULL " +
+            "WHERE j.id > ? AND j.id <= ? AND " + HAS_CONTENT,
+            fromExclusive, toInclusive);
+    }
+}
@@ -0,0 +1,76 @@
+package com.jobplatform.config;
+
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.LeaseRequest;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.Timeout;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pooling connection manager that records how long callers wait to lease a connection
+ */
+public class MeteredConnectionManager extends PoolingHttpClientConnectionManager {
+
+    private final AtomicLong leaseCount = new AtomicLong();
+    private final AtomicLong leaseTimeouts = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    @Override
+    public LeaseRequest lease(String id, HttpRoute route, Timeout requestTimeout, Object state) {
+        LeaseRequest delegate = super.lease(id, route, requestTimeout, state);
+        return new LeaseRequest() {
+            @Override
+            public ConnectionEndpoint get(Timeout timeout) throws InterruptedException, ExecutionException, TimeoutException {
+                long start = System.nanoTime();
+                try {
+                    ConnectionEndpoint endpoint = delegate.get(timeout);
+                    recordWait(System.nanoTime() - start);
+                    return endpoint;
+                } catch (TimeoutException e) {
+                    leaseTimeouts.incrementAndGet();
+                    recordWait(System.nanoTime() - start);
+                    throw e;
+                }
+            }
+
+            @Override
+            public boolean cancel() {
+                return delegate.cancel();
+            }
+        };
+    }
+
+    private void recordWait(long nanos) {
+        leaseCount.incrementAndGet();
+        totalWaitNanos.addAndGet(nanos);
+        maxWaitNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * Snapshot of pool utilisation and lease wait times
+     */
+    public Map<String, Object> getMetrics() {
+        PoolStats stats = getTotalStats();
+        long leases = leaseCount.get();
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("leased", stats.getLeased());
+        metrics.put("available", stats.getAvailable());
+        metrics.put("pending", stats.getPending());
+        metrics.put("max", stats.getMax());
+        metrics.put("maxPerRoute", getDefaultMaxPerRoute());
+        metrics.put("utilisation", stats.getMax() > 0 ? (double) stats.getLeased() / stats.getMax() : 0.0);
+        metrics.put("leaseCount", leases);
+        metrics.put("leaseTimeouts", leaseTimeouts.get());
+        metrics.put("leaseWaitAvgMs", leases > 0 ? totalWaitNanos.get() / leases / 1_000_000.0 : 0.0);
+        metrics.put("leaseWaitMaxMs", maxWaitNanos.get() / 1_000_000.0);
+        return metrics;
+    }
+}
@@ -0,0 +1,45 @@
+package com.jobplatform.config;
+
+import com.jobplatform.entity.Skill;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Gives skills.normalized_name a binary collation on MySQL. Skill.normalize decides which names are the
+ * same skill; under the default accent- and case-insensitive collation the unique key would also merge
+ * names it keeps apart ("café" and "cafe"), and inserting the second would fail. Hibernate's schema
+ * update never changes the collation of an existing column.
+ */
+@Component
+public class SkillCollationMigration {
+
+    private static final String COLLATION = "utf8mb4_bin";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void migrate() {
+        try {
+            List<String> collations = jdbcTemplate.queryForList(
+                "SELECT collation_name FROM information_schema.columns WHERE table_schema = DATABASE() " +
+                "AND table_name = 'skills' AND column_name = 'normalized_name'", String.class);
+            // No such column (table not created yet) or a database without collations
+            if (collations.isEmpty() || collations.get(0) == null || COLLATION.equals(collations.get(0))) {
+                return;
+            }
+            jdbcTemplate.execute("ALTER TABLE skills MODIFY normalized_name VARCHAR(" + Skill.MAX_NAME_LENGTH + ") " +
+                "CHARACTER SET utf8mb4 COLLATE " + COLLATION + " NOT NULL");
+        } catch (Exception e) {
+            System.err.println("Failed to set the collation of skills.normalized_name: " + e.getMessage());
+        }
+    }
+}
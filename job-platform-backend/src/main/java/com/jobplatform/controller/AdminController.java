@@ -2,6 +2,12 @@ package com.jobplatform.controller;
 
 import com.jobplatform.repository.JobOfferRepository;
 import com.jobplatform.repository.UserRepository;
+import com.jobplatform.service.DuplicateDetectionService;
+import com.jobplatform.service.JobOfferFilterIndex;
+import com.jobplatform.service.JobOfferSearchCache;
+import com.jobplatform.service.JobOfferSearchIndex;
+import com.jobplatform.service.JobOfferVectorIndex;
+import com.jobplatform.service.TextCompressionService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -21,6 +27,24 @@ public class AdminController {
     @Autowired
     private JobOfferRepository jobOfferRepository;
     
+    @Autowired
+    private JobOfferVectorIndex jobOfferVectorIndex;
+    
+    @Autowired
+    private DuplicateDetectionService duplicateDetectionService;
+    
+    @Autowired
+    private JobOfferSearchIndex jobOfferSearchIndex;
+    
+    @Autowired
+    private JobOfferFilterIndex jobOfferFilterIndex;
+    
+    @Autowired
+    private JobOfferSearchCache jobOfferSearchCache;
+    
+    @Autowired
+    private TextCompressionService textCompressionService;
+    
     @GetMapping("/stats")
     public ResponseEntity<Map<String, Object>> getAdminStats() {
         Map<String, Object> stats = new HashMap<>();
@@ -60,4 +84,111 @@ public class AdminController {
         
         return ResponseEntity.ok(stats);
     }
+    
+    /**
+     * Similarity index state plus recall@k and latency against an exact scan on sampled offers
+     */
+    @GetMapping("/similarity")
+    public ResponseEntity<Map<String, Object>> getSimilarityStats(
+            @RequestParam(defaultValue = "100") int samples,
+            @RequestParam(defaultValue = "10") int k,
+            @RequestParam(required = false) Integer efSearch) {
+        Map<String, Object> stats = jobOfferVectorIndex.getStats();
+        stats.put("benchmark", jobOfferVectorIndex.measureRecall(samples, k, efSearch));
+        return ResponseEntity.ok(stats);
+    }
+    
+    /**
+     * Rebuild the similarity index from stored embeddings
+     */
+    @PostMapping("/similarity/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildSimilarityIndex() {
+        jobOfferVectorIndex.rebuild();
+        return ResponseEntity.ok(jobOfferVectorIndex.getStats());
+    }
+    
+    /**
+     * Near-duplicate detection settings and counters
+     */
+    @GetMapping("/dedup")
+    public ResponseEntity<Map<String, Object>> getDedupStats() {
+        return ResponseEntity.ok(duplicateDetectionService.getStats());
+    }
+    
+    /**
+     * Search index state
+     */
+    @GetMapping("/search-index")
+    public ResponseEntity<Map<String, Object>> getSearchIndexStats() {
+        return ResponseEntity.ok(jobOfferSearchIndex.getStats());
+    }
+    
+    /**
+     * Rebuild the search index from the database
+     */
+    @PostMapping("/search-index/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildSearchIndex() {
+        jobOfferSearchIndex.rebuild();
+        return ResponseEntity.ok(jobOfferSearchIndex.getStats());
+    }
+    
+    /**
+     * Filter index state: active offers, distinct values, bitmap memory and query latency
+     */
+    @GetMapping("/filter-index")
+    public ResponseEntity<Map<String, Object>> getFilterIndexStats() {
+        return ResponseEntity.ok(jobOfferFilterIndex.getStats());
+    }
+    
+    /**
+     * Reload the filter index from the database
+     */
+    @PostMapping("/filter-index/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildFilterIndex() {
+        jobOfferFilterIndex.load();
+        return ResponseEntity.ok(jobOfferFilterIndex.getStats());
+    }
+    
+    /**
+     * Search result cache counters: fresh and stale hits, misses, coalesced misses and refreshes
+     */
+    @GetMapping("/search-cache")
+    public ResponseEntity<Map<String, Object>> getSearchCacheStats() {
+        return ResponseEntity.ok(jobOfferSearchCache.getStats());
+    }
+    
+    /**
+     * Drop every cached search result page
+     */
+    @PostMapping("/search-cache/clear")
+    public ResponseEntity<Map<String, Object>> clearSearchCache() {
+        jobOfferSearchCache.clear();
+        return ResponseEntity.ok(jobOfferSearchCache.getStats());
+    }
+    
+    /**
+     * Codec counters plus stored size and encode/decode cost of the compressed columns on sampled rows
+     */
+    @GetMapping("/compression")
+    public ResponseEntity<Map<String, Object>> getCompressionStats(
+            @RequestParam(defaultValue = "100") int samples) {
+        return ResponseEntity.ok(textCompressionService.measure(samples));
+    }
+    
+    /**
+     * Compress text stored before compression was enabled
+     */
+    @PostMapping("/compression/compact")
+    public ResponseEntity<Map<String, Object>> compactCompressedText() {
+        return ResponseEntity.ok(textCompressionService.compact());
+    }
+    
+    /**
+     * Train the next compression dictionary version on recent stored text and write it for bundling
+     */
+    @PostMapping("/compression/dictionary")
+    public ResponseEntity<Map<String, Object>> trainCompressionDictionary(
+            @RequestParam(defaultValue = "2000") int samples) {
+        return ResponseEntity.ok(textCompressionService.trainDictionary(samples));
+    }
 }
@@ -1,6 +1,7 @@
 package com.jobplatform.controller;
 
 import com.jobplatform.dto.ApplicationDto;
+import com.jobplatform.dto.CursorSlice;
 import com.jobplatform.entity.Application;
 import com.jobplatform.service.ApplicationService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -21,6 +22,8 @@ public class ApplicationController {
     @Autowired
     private ApplicationService applicationService;
     
+    private static final int MAX_FEED_SIZE = 100;
+    
     /**
      * Apply to a job offer
      */
@@ -96,6 +99,51 @@ public class ApplicationController {
         return ResponseEntity.ok(applications);
     }
     
+    /**
+     * Get applications by seeker newest first, paged by cursor: pass nextCursor from the previous response
+     */
+    @GetMapping("/seeker/{seekerId}/feed")
+    public ResponseEntity<CursorSlice<ApplicationDto>> getApplicationFeedBySeeker(
+            @PathVariable Long seekerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        try {
+            return ResponseEntity.ok(applicationService.getApplicationFeedBySeeker(seekerId, cursor, feedSize(size)));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    /**
+     * Get applications by job offer newest first, paged by cursor
+     */
+    @GetMapping("/job-offer/{jobOfferId}/feed")
+    public ResponseEntity<CursorSlice<ApplicationDto>> getApplicationFeedByJobOffer(
+            @PathVariable Long jobOfferId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        try {
+            return ResponseEntity.ok(applicationService.getApplicationFeedByJobOffer(jobOfferId, cursor, feedSize(size)));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    /**
+     * Get applications by offerer newest first, paged by cursor
+     */
+    @GetMapping("/offerer/{offererId}/feed")
+    public ResponseEntity<CursorSlice<ApplicationDto>> getApplicationFeedByOfferer(
+            @PathVariable Long offererId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        try {
+            return ResponseEntity.ok(applicationService.getApplicationFeedByOfferer(offererId, cursor, feedSize(size)));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
     /**
      * Get applications by status
      */
@@ -228,4 +276,8 @@ public class ApplicationController {
         Map<String, Object> stats = applicationService.getApplicationStatsByJobOffer(jobOfferId);
         return ResponseEntity.ok(stats);
     }
+    
+    private static int feedSize(int size) {
+        return Math.max(1, Math.min(size, MAX_FEED_SIZE));
+    }
 }
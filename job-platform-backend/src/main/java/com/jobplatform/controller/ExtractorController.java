@@ -2,11 +2,16 @@ package com.jobplatform.controller;
 
 import com.jobplatform.dto.ExtractorRequest;
 import com.jobplatform.dto.ExtractorResponse;
+import com.jobplatform.extraction.SkillDictionary;
+import com.jobplatform.service.BatchExtractionService;
 import com.jobplatform.service.ExtractorService;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.Map;
 
@@ -18,6 +23,12 @@ public class ExtractorController {
     @Autowired
     private ExtractorService extractorService;
     
+    @Autowired
+    private BatchExtractionService batchExtractionService;
+    
+    @Autowired
+    private SkillDictionary skillDictionary;
+    
     /**
      * Extract job information from text
      */
@@ -44,6 +55,29 @@ public class ExtractorController {
         }
     }
     
+    /**
+     * Extract many texts at once; accepts a JSON array or NDJSON and streams NDJSON results in completion order
+     */
+    @PostMapping(value = "/extract-batch", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> extractBatch(HttpServletRequest request) {
+        StreamingResponseBody body = out -> batchExtractionService.extractBatch(request.getInputStream(), out);
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType("application/x-ndjson"))
+            .body(body);
+    }
+    
+    /**
+     * Reload the skill dictionary from its source file
+     */
+    @PostMapping("/skills/reload")
+    public ResponseEntity<Map<String, Object>> reloadSkills() {
+        try {
+            return ResponseEntity.ok(skillDictionary.reload());
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
     /**
      * Check if extractor service is available
      */
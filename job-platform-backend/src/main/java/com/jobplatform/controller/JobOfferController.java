@@ -1,7 +1,10 @@
 package com.jobplatform.controller;
 
+import com.jobplatform.dto.CursorSlice;
 import com.jobplatform.dto.JobOfferDto;
+import com.jobplatform.dto.JobOfferFields;
 import com.jobplatform.dto.JobOfferLiteDto;
+import com.jobplatform.service.ExtractionQueueService;
 import com.jobplatform.service.JobOfferService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -12,6 +15,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -22,64 +27,193 @@ public class JobOfferController {
     @Autowired
     private JobOfferService jobOfferService;
     
+    @Autowired
+    private ExtractionQueueService extractionQueueService;
+    
+    private static final int MAX_SIMILAR = 100;
+    
+    private static final int MAX_FEED_SIZE = 100;
+    
     /**
-     * Get all active job offers with pagination
+     * Get all active job offers with pagination. List endpoints return the full offer by default;
+     * fields= selects properties (e.g. "card" for the compact card, "card,rawText" or "id,title").
      */
     @GetMapping
-    public ResponseEntity<Page<JobOfferDto>> getAllJobOffers(
+    public ResponseEntity<Page<?>> getAllJobOffers(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "desc") String sortDir) {
-        
-        Sort sort = sortDir.equalsIgnoreCase("desc") ? 
-            Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
-        Pageable pageable = PageRequest.of(page, size, sort);
-        
-        Page<JobOfferDto> jobOffers = jobOfferService.getAllJobOffers(pageable);
-        return ResponseEntity.ok(jobOffers);
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(required = false) String fields) {
+        try {
+            Sort sort = sortDir.equalsIgnoreCase("desc") ? 
+                Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
+            Pageable pageable = PageRequest.of(page, size, sort);
+            
+            Page<?> jobOffers = jobOfferService.getAllJobOffers(pageable, JobOfferFields.parse(fields));
+            return ResponseEntity.ok(jobOffers);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
     
     /**
-     * Search job offers with filters
+     * Active job offers newest first, paged by cursor: pass nextCursor from the previous response to continue
+     */
+    @GetMapping("/feed")
+    public ResponseEntity<CursorSlice<?>> getJobOfferFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String fields) {
+        try {
+            return ResponseEntity.ok(jobOfferService.getJobOfferFeed(cursor, feedSize(size), JobOfferFields.parse(fields)));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    /**
+     * Search job offers with filters, newest first, paged by cursor
+     */
+    @GetMapping("/search/feed")
+    public ResponseEntity<CursorSlice<?>> searchJobOfferFeed(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String domain,
+            @RequestParam(required = false) String contractType,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String fields) {
+        try {
+            return ResponseEntity.ok(jobOfferService.searchJobOfferFeed(
+                keyword, domain, contractType, location, cursor, feedSize(size), JobOfferFields.parse(fields)));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    /**
+     * Search job offers with filters; sortBy=relevance ranks keyword matches by BM25 score,
+     * facets=true adds counts per domain, contract type, location and type for the whole result
      */
     @GetMapping("/search")
-    public ResponseEntity<Page<JobOfferDto>> searchJobOffers(
+    public ResponseEntity<Page<?>> searchJobOffers(
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) String domain,
             @RequestParam(required = false) String contractType,
             @RequestParam(required = false) String location,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "relevance") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(defaultValue = "false") boolean facets,
+            @RequestParam(required = false) String fields) {
+        try {
+            Sort sort = sortDir.equalsIgnoreCase("desc") ? 
+                Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
+            Pageable pageable = PageRequest.of(page, size, sort);
+            
+            Page<?> jobOffers = jobOfferService.searchJobOffers(
+                keyword, domain, contractType, location, pageable, facets, JobOfferFields.parse(fields));
+            return ResponseEntity.ok(jobOffers);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    /**
+     * Filter active job offers without a keyword: values separated by | are alternatives, the
+     * parameters are combined with AND; skills match by name, the other fields by contained text
+     */
+    @GetMapping("/filter")
+    public ResponseEntity<Page<?>> filterJobOffers(
+            @RequestParam(required = false) String domain,
+            @RequestParam(required = false) String contractType,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String skills,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "desc") String sortDir) {
-        
-        Sort sort = sortDir.equalsIgnoreCase("desc") ? 
-            Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
-        Pageable pageable = PageRequest.of(page, size, sort);
-        
-        Page<JobOfferDto> jobOffers = jobOfferService.searchJobOffers(
-            keyword, domain, contractType, location, pageable);
-        return ResponseEntity.ok(jobOffers);
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(defaultValue = "false") boolean facets,
+            @RequestParam(required = false) String fields) {
+        try {
+            Sort sort = sortDir.equalsIgnoreCase("desc") ?
+                Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
+            Pageable pageable = PageRequest.of(page, size, sort);
+
+            Page<?> jobOffers = jobOfferService.filterJobOffers(alternatives(domain), alternatives(contractType),
+                alternatives(location), alternatives(type), alternatives(skills), pageable, facets,
+                JobOfferFields.parse(fields));
+            return ResponseEntity.ok(jobOffers);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
     
     /**
      * Get job offers by offerer
      */
     @GetMapping("/offerer/{offererId}")
-    public ResponseEntity<Page<JobOfferDto>> getJobOffersByOfferer(
+    public ResponseEntity<Page<?>> getJobOffersByOfferer(
             @PathVariable Long offererId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "desc") String sortDir) {
-        
-        Sort sort = sortDir.equalsIgnoreCase("desc") ? 
-            Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
-        Pageable pageable = PageRequest.of(page, size, sort);
-        
-        Page<JobOfferDto> jobOffers = jobOfferService.getJobOffersByOfferer(offererId, pageable);
-        return ResponseEntity.ok(jobOffers);
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(required = false) String fields) {
+        try {
+            Sort sort = sortDir.equalsIgnoreCase("desc") ? 
+                Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
+            Pageable pageable = PageRequest.of(page, size, sort);
+            
+            Page<?> jobOffers = jobOfferService.getJobOffersByOfferer(offererId, pageable, JobOfferFields.parse(fields));
+            return ResponseEntity.ok(jobOffers);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Get active job offers by skill: every skill in all and at least one in any (comma-separated)
+     */
+    @GetMapping("/by-skills")
+    public ResponseEntity<Page<?>> getJobOffersBySkills(
+            @RequestParam(required = false) List<String> all,
+            @RequestParam(required = false) List<String> any,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(required = false) String fields) {
+        try {
+            Sort sort = sortDir.equalsIgnoreCase("desc") ?
+                Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
+            Pageable pageable = PageRequest.of(page, size, sort);
+
+            Page<?> jobOffers = jobOfferService.getJobOffersBySkills(all, any, pageable, JobOfferFields.parse(fields));
+            return ResponseEntity.ok(jobOffers);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Get job offers by offerer newest first, paged by cursor
+     */
+    @GetMapping("/offerer/{offererId}/feed")
+    public ResponseEntity<CursorSlice<?>> getJobOfferFeedByOfferer(
+            @PathVariable Long offererId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String fields) {
+        try {
+            return ResponseEntity.ok(jobOfferService.getJobOfferFeedByOfferer(
+                offererId, cursor, feedSize(size), JobOfferFields.parse(fields)));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     /**
@@ -111,6 +245,30 @@ public class JobOfferController {
             .orElse(ResponseEntity.notFound().build());
     }
     
+    /**
+     * Get the job offers most similar to this one by embedding
+     */
+    @GetMapping("/{id}/similar")
+    public ResponseEntity<List<JobOfferDto>> getSimilarJobOffers(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "10") int k) {
+        if (jobOfferService.getJobOfferById(id).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        int limit = Math.max(1, Math.min(k, MAX_SIMILAR));
+        return ResponseEntity.ok(jobOfferService.getSimilarJobOffers(id, limit));
+    }
+    
+    /**
+     * Poll extraction status of a job offer
+     */
+    @GetMapping("/{id}/extraction")
+    public ResponseEntity<Map<String, Object>> getExtractionStatus(@PathVariable Long id) {
+        return extractionQueueService.getStatus(id)
+            .map(ResponseEntity::ok)
+            .orElse(ResponseEntity.notFound().build());
+    }
+    
     /**
      * Create job offer from form data
      */
@@ -206,6 +364,14 @@ public class JobOfferController {
         }
     }
     
+    /**
+     * Get clusters of near-duplicate job offers
+     */
+    @GetMapping("/duplicates")
+    public ResponseEntity<List<Map<String, Object>>> getDuplicateClusters() {
+        return ResponseEntity.ok(jobOfferService.getDuplicateClusters());
+    }
+    
     /**
      * Get job offer statistics
      */
@@ -223,4 +389,18 @@ public class JobOfferController {
         Map<String, Object> stats = jobOfferService.getJobOfferStatsByOfferer(offererId);
         return ResponseEntity.ok(stats);
     }
+    
+    private static List<String> alternatives(String value) {
+        if (value == null) {
+            return List.of();
+        }
+        return Arrays.stream(value.split("\\|"))
+            .map(String::trim)
+            .filter(alternative -> !alternative.isEmpty())
+            .toList();
+    }
+    
+    private static int feedSize(int size) {
+        return Math.max(1, Math.min(size, MAX_FEED_SIZE));
+    }
 }
@@ -22,6 +22,23 @@ public class ApplicationDto {
     // Constructors
     public ApplicationDto() {}
     
+    public ApplicationDto(Long id, Long seekerId, String seekerName, String seekerEmail, Long jobOfferId,
+                          String jobTitle, String company, Application.ApplicationStatus status,
+                          String coverLetter, String resumeUrl, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.seekerId = seekerId;
+        this.seekerName = seekerName;
+        this.seekerEmail = seekerEmail;
+        this.jobOfferId = jobOfferId;
+        this.jobTitle = jobTitle;
+        this.company = company;
+        this.status = status;
+        this.coverLetter = coverLetter;
+        this.resumeUrl = resumeUrl;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+    
     public ApplicationDto(Application application) {
         this.id = application.getId();
         this.seekerId = application.getSeeker().getId();
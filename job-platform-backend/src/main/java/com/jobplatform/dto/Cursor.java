@@ -0,0 +1,60 @@
+package com.jobplatform.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/**
+ * Position in a feed ordered by (createdAt, id) descending, exchanged with clients as an opaque token
+ */
+public final class Cursor {
+
+    private static final String VERSION = "v1";
+
+    // Sorts after every real row, so the first page needs no special query
+    public static final Cursor START = new Cursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    private final LocalDateTime createdAt;
+    private final long id;
+
+    public Cursor(LocalDateTime createdAt, long id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String encode() {
+        long seconds = createdAt.toEpochSecond(ZoneOffset.UTC);
+        String raw = VERSION + ":" + seconds + ":" + createdAt.getNano() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Parse a token from a previous response; a missing token means the start of the feed
+     */
+    public static Cursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            if (parts.length != 4 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("unknown format");
+            }
+            LocalDateTime createdAt = LocalDateTime.ofEpochSecond(
+                Long.parseLong(parts[1]), Integer.parseInt(parts[2]), ZoneOffset.UTC);
+            return new Cursor(createdAt, Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid cursor: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.jobplatform.dto;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * One slice of a keyset-paginated feed; nextCursor fetches the following slice and is null on the last one
+ */
+public class CursorSlice<T> extends SliceImpl<T> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String nextCursor;
+
+    public CursorSlice(List<T> content, int size, String nextCursor) {
+        super(content, PageRequest.ofSize(Math.max(1, size)), nextCursor != null);
+        this.nextCursor = nextCursor;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    /**
+     * Build a slice from rows fetched with a limit of size + 1; the extra row only signals that more exist
+     */
+    public static <E, T> CursorSlice<T> of(List<E> rows, int size, Function<E, T> mapper,
+                                           Function<E, LocalDateTime> createdAt, ToLongFunction<E> id) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            E last = page.get(page.size() - 1);
+            nextCursor = new Cursor(createdAt.apply(last), id.applyAsLong(last)).encode();
+        }
+        return new CursorSlice<>(page.stream().map(mapper).toList(), size, nextCursor);
+    }
+}
@@ -6,7 +6,7 @@ import java.util.Map;
 public class ExtractorResponse {
     
     private String fingerprint;
-    private List<Double> embedding;
+    private float[] embedding;
     private String rawText;
     private String language;
     private JobTitle jobTitle;
@@ -194,11 +194,11 @@ public class ExtractorResponse {
         this.fingerprint = fingerprint;
     }
     
-    public List<Double> getEmbedding() {
+    public float[] getEmbedding() {
         return embedding;
     }
     
-    public void setEmbedding(List<Double> embedding) {
+    public void setEmbedding(float[] embedding) {
         this.embedding = embedding;
     }
     
@@ -0,0 +1,205 @@
+package com.jobplatform.dto;
+
+import com.jobplatform.entity.JobOffer;
+
+import java.time.LocalDateTime;
+
+/**
+ * Compact job offer for list views: every column except the TEXT/LONGTEXT ones, filled by a JPQL
+ * constructor expression so the large columns are never read
+ */
+public class JobOfferCardDto {
+
+    private Long id;
+    private Long offererId;
+    private String offererName;
+    private String title;
+    private String company;
+    private String location;
+    private String contractType;
+    private String domain;
+    private String salary;
+    private String duration;
+    private String deadline;
+    private String language;
+    private String type;
+    private LocalDateTime createdAt;
+    private Boolean isActive;
+    private JobOffer.ExtractionStatus extractionStatus;
+    private Long duplicateOfId;
+    private Double duplicateSimilarity;
+
+    // Constructors
+    public JobOfferCardDto() {}
+
+    public JobOfferCardDto(Long id, Long offererId, String offererName, String title, String company,
+                           String location, String contractType, String domain, String salary,
+                           String duration, String deadline, String language, String type,
+                           LocalDateTime createdAt, Boolean isActive,
+                           JobOffer.ExtractionStatus extractionStatus, Long duplicateOfId,
+                           Double duplicateSimilarity) {
+        this.id = id;
+        this.offererId = offererId;
+        this.offererName = offererName;
+        this.title = title;
+        this.company = company;
+        this.location = location;
+        this.contractType = contractType;
+        this.domain = domain;
+        this.salary = salary;
+        this.duration = duration;
+        this.deadline = deadline;
+        this.language = language;
+        this.type = type;
+        this.createdAt = createdAt;
+        this.isActive = isActive;
+        this.extractionStatus = extractionStatus;
+        this.duplicateOfId = duplicateOfId;
+        this.duplicateSimilarity = duplicateSimilarity;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getOffererId() {
+        return offererId;
+    }
+
+    public void setOffererId(Long offererId) {
+        this.offererId = offererId;
+    }
+
+    public String getOffererName() {
+        return offererName;
+    }
+
+    public void setOffererName(String offererName) {
+        this.offererName = offererName;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getCompany() {
+        return company;
+    }
+
+    public void setCompany(String company) {
+        this.company = company;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public String getContractType() {
+        return contractType;
+    }
+
+    public void setContractType(String contractType) {
+        this.contractType = contractType;
+    }
+
+    public String getDomain() {
+        return domain;
+    }
+
+    public void setDomain(String domain) {
+        this.domain = domain;
+    }
+
+    public String getSalary() {
+        return salary;
+    }
+
+    public void setSalary(String salary) {
+        this.salary = salary;
+    }
+
+    public String getDuration() {
+        return duration;
+    }
+
+    public void setDuration(String duration) {
+        this.duration = duration;
+    }
+
+    public String getDeadline() {
+        return deadline;
+    }
+
+    public void setDeadline(String deadline) {
+        this.deadline = deadline;
+    }
+
+    public String getLanguage() {
+        return language;
+    }
+
+    public void setLanguage(String language) {
+        this.language = language;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Boolean getIsActive() {
+        return isActive;
+    }
+
+    public void setIsActive(Boolean isActive) {
+        this.isActive = isActive;
+    }
+
+    public JobOffer.ExtractionStatus getExtractionStatus() {
+        return extractionStatus;
+    }
+
+    public void setExtractionStatus(JobOffer.ExtractionStatus extractionStatus) {
+        this.extractionStatus = extractionStatus;
+    }
+
+    public Long getDuplicateOfId() {
+        return duplicateOfId;
+    }
+
+    public void setDuplicateOfId(Long duplicateOfId) {
+        this.duplicateOfId = duplicateOfId;
+    }
+
+    public Double getDuplicateSimilarity() {
+        return duplicateSimilarity;
+    }
+
+    public void setDuplicateSimilarity(Double duplicateSimilarity) {
+        this.duplicateSimilarity = duplicateSimilarity;
+    }
+}
@@ -1,6 +1,7 @@
 package com.jobplatform.dto;
 
 import com.jobplatform.entity.JobOffer;
+import com.jobplatform.entity.JobOfferContent;
 
 import java.time.LocalDateTime;
 
@@ -26,11 +27,17 @@ public class JobOfferDto {
     private String type;
     private LocalDateTime createdAt;
     private Boolean isActive;
+    private JobOffer.ExtractionStatus extractionStatus;
+    private Long duplicateOfId;
+    private Double duplicateSimilarity;
     
     // Constructors
     public JobOfferDto() {}
     
-    public JobOfferDto(JobOffer jobOffer) {
+    /**
+     * content is the offer's job_offer_content row, or null when it has none
+     */
+    public JobOfferDto(JobOffer jobOffer, JobOfferContent content) {
         this.id = jobOffer.getId();
         this.offererId = jobOffer.getOfferer().getId();
         this.offererName = jobOffer.getOfferer().getName();
@@ -43,14 +50,19 @@ public class JobOfferDto {
         this.salary = jobOffer.getSalary();
         this.duration = jobOffer.getDuration();
         this.deadline = jobOffer.getDeadline();
-        this.description = jobOffer.getDescription();
-        this.rawText = jobOffer.getRawText();
-        this.extractedData = jobOffer.getExtractedData();
+        if (content != null) {
+            this.description = content.getDescription();
+            this.rawText = content.getRawText();
+            this.extractedData = content.getExtractedData();
+        }
         this.contacts = jobOffer.getContacts();
         this.language = jobOffer.getLanguage();
         this.type = jobOffer.getType();
         this.createdAt = jobOffer.getCreatedAt();
         this.isActive = jobOffer.getIsActive();
+        this.extractionStatus = jobOffer.getExtractionStatus();
+        this.duplicateOfId = jobOffer.getDuplicateOfId();
+        this.duplicateSimilarity = jobOffer.getDuplicateSimilarity();
     }
     
     // Getters and Setters
@@ -213,4 +225,28 @@ public class JobOfferDto {
     public void setIsActive(Boolean isActive) {
         this.isActive = isActive;
     }
+    
+    public JobOffer.ExtractionStatus getExtractionStatus() {
+        return extractionStatus;
+    }
+    
+    public void setExtractionStatus(JobOffer.ExtractionStatus extractionStatus) {
+        this.extractionStatus = extractionStatus;
+    }
+    
+    public Long getDuplicateOfId() {
+        return duplicateOfId;
+    }
+    
+    public void setDuplicateOfId(Long duplicateOfId) {
+        this.duplicateOfId = duplicateOfId;
+    }
+    
+    public Double getDuplicateSimilarity() {
+        return duplicateSimilarity;
+    }
+    
+    public void setDuplicateSimilarity(Double duplicateSimilarity) {
+        this.duplicateSimilarity = duplicateSimilarity;
+    }
 }
@@ -0,0 +1,140 @@
+package com.jobplatform.dto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * The fields= parameter of the job offer list endpoints. Unset or "all" means the full JobOfferDto, as
+ * existing clients expect; "card" alone the compact card; anything else a comma-separated list of
+ * JobOfferDto property names where "card" stands for every card field. TEXT/LONGTEXT columns are read
+ * from the database only when named.
+ */
+public final class JobOfferFields {
+
+    public static final String ALL = "all";
+    public static final String CARD = "card";
+
+    public static final String DESCRIPTION = "description";
+    public static final String RAW_TEXT = "rawText";
+    public static final String EXTRACTED_DATA = "extractedData";
+    public static final String SKILLS = "skills";
+    public static final String CONTACTS = "contacts";
+
+    // Columns left out of the card, loaded one column at a time when requested
+    public static final List<String> TEXT_FIELDS = List.of(DESCRIPTION, RAW_TEXT, EXTRACTED_DATA, SKILLS, CONTACTS);
+
+    private static final Map<String, Function<JobOfferCardDto, Object>> CARD_FIELDS = new LinkedHashMap<>();
+
+    static {
+        CARD_FIELDS.put("id", JobOfferCardDto::getId);
+        CARD_FIELDS.put("offererId", JobOfferCardDto::getOffererId);
+        CARD_FIELDS.put("offererName", JobOfferCardDto::getOffererName);
+        CARD_FIELDS.put("title", JobOfferCardDto::getTitle);
+        CARD_FIELDS.put("company", JobOfferCardDto::getCompany);
+        CARD_FIELDS.put("location", JobOfferCardDto::getLocation);
+        CARD_FIELDS.put("contractType", JobOfferCardDto::getContractType);
+        CARD_FIELDS.put("domain", JobOfferCardDto::getDomain);
+        CARD_FIELDS.put("salary", JobOfferCardDto::getSalary);
+        CARD_FIELDS.put("duration", JobOfferCardDto::getDuration);
+        CARD_FIELDS.put("deadline", JobOfferCardDto::getDeadline);
+        CARD_FIELDS.put("language", JobOfferCardDto::getLanguage);
+        CARD_FIELDS.put("type", JobOfferCardDto::getType);
+        CARD_FIELDS.put("createdAt", JobOfferCardDto::getCreatedAt);
+        CARD_FIELDS.put("isActive", JobOfferCardDto::getIsActive);
+        CARD_FIELDS.put("extractionStatus", JobOfferCardDto::getExtractionStatus);
+        CARD_FIELDS.put("duplicateOfId", JobOfferCardDto::getDuplicateOfId);
+        CARD_FIELDS.put("duplicateSimilarity", JobOfferCardDto::getDuplicateSimilarity);
+    }
+
+    public static final JobOfferFields DEFAULT = new JobOfferFields(true, null);
+
+    private static final JobOfferFields CARD_ONLY = new JobOfferFields(false, null);
+
+    private final boolean all;
+
+    // Requested names, or null for the plain card
+    private final Set<String> names;
+
+    private JobOfferFields(boolean all, Set<String> names) {
+        this.all = all;
+        this.names = names;
+    }
+
+    /**
+     * Parse the parameter; unknown names are rejected so typos do not silently return empty rows
+     */
+    public static JobOfferFields parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return DEFAULT;
+        }
+        Set<String> names = new LinkedHashSet<>();
+        names.add("id");
+        for (String name : Arrays.stream(fields.split(",")).map(String::trim).filter(n -> !n.isEmpty()).toList()) {
+            if (ALL.equals(name)) {
+                return new JobOfferFields(true, null);
+            } else if (CARD.equals(name)) {
+                names.addAll(CARD_FIELDS.keySet());
+            } else if (CARD_FIELDS.containsKey(name) || TEXT_FIELDS.contains(name)) {
+                names.add(name);
+            } else {
+                throw new RuntimeException("Unknown field: " + name);
+            }
+        }
+        if (names.size() == CARD_FIELDS.size() && names.containsAll(CARD_FIELDS.keySet())) {
+            return CARD_ONLY;
+        }
+        return new JobOfferFields(false, names);
+    }
+
+    public boolean isAll() {
+        return all;
+    }
+
+    /**
+     * Text columns to load next to the card
+     */
+    public List<String> getTextFields() {
+        List<String> requested = new ArrayList<>();
+        if (names != null) {
+            TEXT_FIELDS.stream().filter(names::contains).forEach(requested::add);
+        }
+        return requested;
+    }
+
+    /**
+     * The card itself, or a map holding only the requested fields, card fields first
+     */
+    public Object render(JobOfferCardDto card, Map<String, Object> texts) {
+        if (names == null) {
+            return card;
+        }
+        Map<String, Object> row = new LinkedHashMap<>();
+        CARD_FIELDS.forEach((name, getter) -> {
+            if (names.contains(name)) {
+                row.put(name, getter.apply(card));
+            }
+        });
+        for (String name : getTextFields()) {
+            row.put(name, texts != null ? texts.get(name) : null);
+        }
+        return row;
+    }
+
+    /**
+     * Canonical form of the selection, equal for selections rendering the same rows (cache keys)
+     */
+    @Override
+    public String toString() {
+        if (all) {
+            return ALL;
+        }
+        return names == null ? CARD : String.join(",", new TreeSet<>(names));
+    }
+}
@@ -1,7 +1,5 @@
 package com.jobplatform.dto;
 
-import com.jobplatform.entity.JobOffer;
-
 import java.time.LocalDateTime;
 
 public class JobOfferLiteDto {
@@ -15,13 +13,17 @@ public class JobOfferLiteDto {
 
     public JobOfferLiteDto() {}
 
-    public JobOfferLiteDto(JobOffer jobOffer) {
-        this.id = jobOffer.getId();
-        this.offererId = jobOffer.getOfferer() != null ? jobOffer.getOfferer().getId() : null;
-        this.title = jobOffer.getTitle();
-        this.createdAt = jobOffer.getCreatedAt();
-        this.isActive = jobOffer.getIsActive();
-        this.rawText = jobOffer.getRawText();
+    /**
+     * sharedDescription is the description when the stored raw text was deduplicated against it
+     */
+    public JobOfferLiteDto(Long id, Long offererId, String title, LocalDateTime createdAt, Boolean isActive,
+                           String rawText, String sharedDescription) {
+        this.id = id;
+        this.offererId = offererId;
+        this.title = title;
+        this.createdAt = createdAt;
+        this.isActive = isActive;
+        this.rawText = rawText != null ? rawText : sharedDescription;
     }
 
     public Long getId() {
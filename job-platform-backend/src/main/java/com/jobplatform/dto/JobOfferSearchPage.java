@@ -0,0 +1,28 @@
+package com.jobplatform.dto;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A page of search results with optional facet counts (facet -> value -> matching offers)
+ * computed over the whole matching set
+ */
+public class JobOfferSearchPage<T> extends PageImpl<T> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Map<String, Map<String, Long>> facets;
+
+    public JobOfferSearchPage(List<T> content, Pageable pageable, long total,
+                              Map<String, Map<String, Long>> facets) {
+        super(content, pageable, total);
+        this.facets = facets;
+    }
+
+    public Map<String, Map<String, Long>> getFacets() {
+        return facets;
+    }
+}
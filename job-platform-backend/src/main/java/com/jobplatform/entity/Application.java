@@ -1,5 +1,6 @@
 package com.jobplatform.entity;
 
+import com.jobplatform.compression.CompressedTextConverter;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import org.hibernate.annotations.CreationTimestamp;
@@ -7,19 +8,23 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "applications")
+@Table(name = "applications", indexes = {
+    // Keyset feeds of a seeker's applications and of the applications to a job offer
+    @Index(name = "idx_applications_seeker_created", columnList = "seeker_id, created_at, id"),
+    @Index(name = "idx_applications_job_offer_created", columnList = "job_offer_id, created_at, id")
+})
 public class Application {
     
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "seeker_id", nullable = false)
     @NotNull(message = "Seeker is required")
     private User seeker;
     
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "job_offer_id", nullable = false)
     @NotNull(message = "Job offer is required")
     private JobOffer jobOffer;
@@ -29,6 +34,7 @@ public class Application {
     private ApplicationStatus status = ApplicationStatus.PENDING;
     
     @Column(name = "cover_letter", columnDefinition = "TEXT")
+    @Convert(converter = CompressedTextConverter.class)
     private String coverLetter;
     
     @Column(name = "resume_url")
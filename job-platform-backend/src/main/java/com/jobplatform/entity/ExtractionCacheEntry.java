@@ -0,0 +1,79 @@
+package com.jobplatform.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "extraction_cache")
+public class ExtractionCacheEntry {
+
+    @Id
+    @Column(name = "fingerprint", length = 64)
+    private String fingerprint; // SHA-256 of the normalized text or uploaded file
+
+    @Column(name = "model_version", nullable = false)
+    private String modelVersion;
+
+    @Column(name = "response_json", columnDefinition = "LONGTEXT", nullable = false)
+    private String responseJson;
+
+    @Column(name = "extractor_millis")
+    private Long extractorMillis; // time the extractor took to produce this result
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public ExtractionCacheEntry() {}
+
+    public ExtractionCacheEntry(String fingerprint, String modelVersion, String responseJson, Long extractorMillis) {
+        this.fingerprint = fingerprint;
+        this.modelVersion = modelVersion;
+        this.responseJson = responseJson;
+        this.extractorMillis = extractorMillis;
+    }
+
+    // Getters and Setters
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public void setFingerprint(String fingerprint) {
+        this.fingerprint = fingerprint;
+    }
+
+    public String getModelVersion() {
+        return modelVersion;
+    }
+
+    public void setModelVersion(String modelVersion) {
+        this.modelVersion = modelVersion;
+    }
+
+    public String getResponseJson() {
+        return responseJson;
+    }
+
+    public void setResponseJson(String responseJson) {
+        this.responseJson = responseJson;
+    }
+
+    public Long getExtractorMillis() {
+        return extractorMillis;
+    }
+
+    public void setExtractorMillis(Long extractorMillis) {
+        this.extractorMillis = extractorMillis;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
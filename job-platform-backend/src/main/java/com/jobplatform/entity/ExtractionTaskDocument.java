@@ -0,0 +1,68 @@
+package com.jobplatform.entity;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.sql.Blob;
+
+/**
+ * Uploaded document of a queued extraction task, kept out of extraction_tasks so claiming, status and
+ * bookkeeping queries never read it. Loaded by task id only while the document is sent to the extractor.
+ */
+@Entity
+@Table(name = "extraction_task_documents")
+public class ExtractionTaskDocument implements Persistable<Long> {
+
+    @Id
+    @Column(name = "task_id")
+    private Long taskId;
+
+    @Lob
+    @Column(name = "document_content", columnDefinition = "LONGBLOB", nullable = false)
+    private Blob content;
+
+    // Written once per task, so save() persists the streamed BLOB instead of merging it
+    @Transient
+    private boolean isNew = true;
+
+    // Constructors
+    public ExtractionTaskDocument() {}
+
+    public ExtractionTaskDocument(Long taskId, Blob content) {
+        this.taskId = taskId;
+        this.content = content;
+    }
+
+    @PostLoad
+    @PostPersist
+    protected void markNotNew() {
+        isNew = false;
+    }
+
+    @Override
+    public Long getId() {
+        return taskId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    // Getters and Setters
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+
+    public Blob getContent() {
+        return content;
+    }
+
+    public void setContent(Blob content) {
+        this.content = content;
+    }
+}
@@ -8,7 +8,11 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "job_offers")
+@Table(name = "job_offers", indexes = {
+    // Keyset feeds: active offers and an offerer's offers, newest first
+    @Index(name = "idx_job_offers_active_created", columnList = "is_active, created_at, id"),
+    @Index(name = "idx_job_offers_offerer_created", columnList = "offerer_id, created_at, id")
+})
 public class JobOffer {
     
     @Id
@@ -49,15 +53,6 @@ public class JobOffer {
     @Column(name = "deadline")
     private String deadline;
     
-    @Column(name = "description", columnDefinition = "TEXT")
-    private String description;
-    
-    @Column(name = "raw_text", columnDefinition = "LONGTEXT")
-    private String rawText;
-    
-    @Column(name = "extracted_data", columnDefinition = "LONGTEXT")
-    private String extractedData; // JSON string of full extraction result
-    
     @Column(name = "contacts", columnDefinition = "TEXT")
     private String contacts; // JSON string of contacts
     
@@ -71,17 +66,29 @@ public class JobOffer {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
     
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt; // null until the first update
+    
     @Column(name = "is_active")
     private Boolean isActive = true;
     
+    @Enumerated(EnumType.STRING)
+    @Column(name = "extraction_status")
+    private ExtractionStatus extractionStatus;
+    
+    @Column(name = "duplicate_of_id")
+    private Long duplicateOfId; // earliest offer of the near-duplicate cluster this one belongs to
+    
+    @Column(name = "duplicate_similarity")
+    private Double duplicateSimilarity; // estimated Jaccard similarity to that offer
+    
     // Constructors
     public JobOffer() {}
     
-    public JobOffer(User offerer, String title, String company, String description) {
+    public JobOffer(User offerer, String title, String company) {
         this.offerer = offerer;
         this.title = title;
         this.company = company;
-        this.description = description;
         this.isActive = true;
     }
     
@@ -174,30 +181,6 @@ public class JobOffer {
         this.deadline = deadline;
     }
     
-    public String getDescription() {
-        return description;
-    }
-    
-    public void setDescription(String description) {
-        this.description = description;
-    }
-    
-    public String getRawText() {
-        return rawText;
-    }
-    
-    public void setRawText(String rawText) {
-        this.rawText = rawText;
-    }
-    
-    public String getExtractedData() {
-        return extractedData;
-    }
-    
-    public void setExtractedData(String extractedData) {
-        this.extractedData = extractedData;
-    }
-    
     public String getContacts() {
         return contacts;
     }
@@ -230,6 +213,14 @@ public class JobOffer {
         this.createdAt = createdAt;
     }
     
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+    
     public Boolean getIsActive() {
         return isActive;
     }
@@ -237,4 +228,37 @@ public class JobOffer {
     public void setIsActive(Boolean isActive) {
         this.isActive = isActive;
     }
+    
+    public ExtractionStatus getExtractionStatus() {
+        return extractionStatus;
+    }
+    
+    public void setExtractionStatus(ExtractionStatus extractionStatus) {
+        this.extractionStatus = extractionStatus;
+    }
+    
+    public Long getDuplicateOfId() {
+        return duplicateOfId;
+    }
+    
+    public void setDuplicateOfId(Long duplicateOfId) {
+        this.duplicateOfId = duplicateOfId;
+    }
+    
+    public Double getDuplicateSimilarity() {
+        return duplicateSimilarity;
+    }
+    
+    public void setDuplicateSimilarity(Double duplicateSimilarity) {
+        this.duplicateSimilarity = duplicateSimilarity;
+    }
+    
+    @PreUpdate
+    public void preUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+    
+    public enum ExtractionStatus {
+        PENDING, RUNNING, DONE, FAILED
+    }
 }
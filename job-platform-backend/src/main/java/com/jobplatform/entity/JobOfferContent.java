@@ -0,0 +1,83 @@
+package com.jobplatform.entity;
+
+import com.jobplatform.compression.CompressedTextConverter;
+import jakarta.persistence.*;
+
+/**
+ * Large text of a job offer, kept out of job_offers so list queries and scans only touch small rows.
+ * Loaded by id when the full offer, the search index or extraction needs it. raw_text and
+ * extracted_data are compressed; description stays plain because LIKE and FULLTEXT search it.
+ */
+@Entity
+@Table(name = "job_offer_content")
+public class JobOfferContent {
+
+    @Id
+    @Column(name = "job_offer_id")
+    private Long jobOfferId;
+
+    @Column(name = "description", columnDefinition = "TEXT")
+    private String description;
+
+    // Null while rawTextIsDescription is set
+    @Column(name = "raw_text", columnDefinition = "LONGTEXT")
+    @Convert(converter = CompressedTextConverter.class)
+    private String rawText;
+
+    // Offers created from form text have the same raw text and description, which is stored once
+    @Column(name = "raw_text_is_description")
+    private Boolean rawTextIsDescription;
+
+    @Column(name = "extracted_data", columnDefinition = "LONGTEXT")
+    @Convert(converter = CompressedTextConverter.class)
+    private String extractedData; // JSON string of full extraction result
+
+    // Constructors
+    public JobOfferContent() {}
+
+    public JobOfferContent(Long jobOfferId) {
+        this.jobOfferId = jobOfferId;
+    }
+
+    // Getters and Setters
+    public Long getJobOfferId() {
+        return jobOfferId;
+    }
+
+    public void setJobOfferId(Long jobOfferId) {
+        this.jobOfferId = jobOfferId;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        // Raw text shared with the old description keeps its value
+        String rawText = getRawText();
+        this.description = description;
+        setRawText(rawText);
+    }
+
+    public String getRawText() {
+        return Boolean.TRUE.equals(rawTextIsDescription) ? description : rawText;
+    }
+
+    public void setRawText(String rawText) {
+        boolean same = rawText != null && rawText.equals(description);
+        this.rawText = same ? null : rawText;
+        this.rawTextIsDescription = same;
+    }
+
+    public Boolean getRawTextIsDescription() {
+        return rawTextIsDescription;
+    }
+
+    public String getExtractedData() {
+        return extractedData;
+    }
+
+    public void setExtractedData(String extractedData) {
+        this.extractedData = extractedData;
+    }
+}
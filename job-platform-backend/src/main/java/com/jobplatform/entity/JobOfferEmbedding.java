@@ -0,0 +1,104 @@
+package com.jobplatform.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "job_offer_embeddings")
+public class JobOfferEmbedding {
+
+    @Id
+    @Column(name = "job_offer_id")
+    private Long jobOfferId;
+
+    @Column(name = "model_version", nullable = false)
+    private String modelVersion;
+
+    @Column(name = "dimensions", nullable = false)
+    private Integer dimensions;
+
+    @Lob
+    @Column(name = "vector", columnDefinition = "BLOB", nullable = false)
+    private byte[] vector; // packed little-endian float32
+
+    @Lob
+    @Column(name = "quantized", columnDefinition = "BLOB")
+    private byte[] quantized; // optional int8 variant, value = byte * quantScale
+
+    @Column(name = "quant_scale")
+    private Float quantScale;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    // Constructors
+    public JobOfferEmbedding() {}
+
+    public JobOfferEmbedding(Long jobOfferId) {
+        this.jobOfferId = jobOfferId;
+    }
+
+    // Getters and Setters
+    public Long getJobOfferId() {
+        return jobOfferId;
+    }
+
+    public void setJobOfferId(Long jobOfferId) {
+        this.jobOfferId = jobOfferId;
+    }
+
+    public String getModelVersion() {
+        return modelVersion;
+    }
+
+    public void setModelVersion(String modelVersion) {
+        this.modelVersion = modelVersion;
+    }
+
+    public Integer getDimensions() {
+        return dimensions;
+    }
+
+    public void setDimensions(Integer dimensions) {
+        this.dimensions = dimensions;
+    }
+
+    public byte[] getVector() {
+        return vector;
+    }
+
+    public void setVector(byte[] vector) {
+        this.vector = vector;
+    }
+
+    public byte[] getQuantized() {
+        return quantized;
+    }
+
+    public void setQuantized(byte[] quantized) {
+        this.quantized = quantized;
+    }
+
+    public Float getQuantScale() {
+        return quantScale;
+    }
+
+    public void setQuantScale(Float quantScale) {
+        this.quantScale = quantScale;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
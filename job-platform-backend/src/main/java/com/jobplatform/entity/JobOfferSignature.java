@@ -0,0 +1,59 @@
+package com.jobplatform.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "job_offer_signatures")
+public class JobOfferSignature {
+
+    @Id
+    @Column(name = "job_offer_id")
+    private Long jobOfferId;
+
+    @Lob
+    @Column(name = "signature", columnDefinition = "BLOB", nullable = false)
+    private byte[] signature; // packed little-endian int32 MinHash values
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    // Constructors
+    public JobOfferSignature() {}
+
+    public JobOfferSignature(Long jobOfferId) {
+        this.jobOfferId = jobOfferId;
+    }
+
+    // Getters and Setters
+    public Long getJobOfferId() {
+        return jobOfferId;
+    }
+
+    public void setJobOfferId(Long jobOfferId) {
+        this.jobOfferId = jobOfferId;
+    }
+
+    public byte[] getSignature() {
+        return signature;
+    }
+
+    public void setSignature(byte[] signature) {
+        this.signature = signature;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
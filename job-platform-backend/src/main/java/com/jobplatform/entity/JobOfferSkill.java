@@ -0,0 +1,115 @@
+package com.jobplatform.entity;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Skill required by a job offer, with the extractor's confidence. The primary key serves lookups by
+ * offer; the (skill_id, job_offer_id) index serves lookups and intersections by skill.
+ */
+@Entity
+@Table(name = "job_offer_skills", indexes = {
+    @Index(name = "idx_job_offer_skills_skill", columnList = "skill_id, job_offer_id")
+})
+@IdClass(JobOfferSkill.Key.class)
+public class JobOfferSkill implements Persistable<JobOfferSkill.Key> {
+
+    @Id
+    @Column(name = "job_offer_id")
+    private Long jobOfferId;
+
+    @Id
+    @Column(name = "skill_id")
+    private Long skillId;
+
+    @Column(name = "confidence")
+    private Double confidence;
+
+    // Rows are only ever inserted after the offer's old rows were deleted, so save() skips the merge lookup
+    @Transient
+    private boolean isNew = true;
+
+    // Constructors
+    public JobOfferSkill() {}
+
+    public JobOfferSkill(Long jobOfferId, Long skillId, Double confidence) {
+        this.jobOfferId = jobOfferId;
+        this.skillId = skillId;
+        this.confidence = confidence;
+    }
+
+    @PostLoad
+    @PostPersist
+    protected void markNotNew() {
+        isNew = false;
+    }
+
+    @Override
+    public Key getId() {
+        return new Key(jobOfferId, skillId);
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    // Getters and Setters
+    public Long getJobOfferId() {
+        return jobOfferId;
+    }
+
+    public void setJobOfferId(Long jobOfferId) {
+        this.jobOfferId = jobOfferId;
+    }
+
+    public Long getSkillId() {
+        return skillId;
+    }
+
+    public void setSkillId(Long skillId) {
+        this.skillId = skillId;
+    }
+
+    public Double getConfidence() {
+        return confidence;
+    }
+
+    public void setConfidence(Double confidence) {
+        this.confidence = confidence;
+    }
+
+    public static class Key implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private Long jobOfferId;
+        private Long skillId;
+
+        public Key() {}
+
+        public Key(Long jobOfferId, Long skillId) {
+            this.jobOfferId = jobOfferId;
+            this.skillId = skillId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key other)) {
+                return false;
+            }
+            return Objects.equals(jobOfferId, other.jobOfferId) && Objects.equals(skillId, other.skillId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(jobOfferId, skillId);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.jobplatform.entity;
+
+import jakarta.persistence.*;
+
+import java.util.Locale;
+
+/**
+ * Skill dictionary entry, one row per distinct normalized name seen in extraction results
+ */
+@Entity
+@Table(name = "skills", uniqueConstraints = @UniqueConstraint(name = "uk_skills_normalized_name",
+    columnNames = "normalized_name"))
+public class Skill {
+
+    public static final int MAX_NAME_LENGTH = 100;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // As first extracted, for display
+    @Column(name = "name", nullable = false, length = MAX_NAME_LENGTH)
+    private String name;
+
+    // Binary collation on MySQL (SkillCollationMigration), so the unique key compares like normalize()
+    @Column(name = "normalized_name", nullable = false, length = MAX_NAME_LENGTH)
+    private String normalizedName;
+
+    // Constructors
+    public Skill() {}
+
+    public Skill(String name) {
+        this.name = name.trim();
+        this.normalizedName = normalize(name);
+    }
+
+    /**
+     * Lookup key of a skill name: trimmed, lower case, single spaces; null when blank or too long
+     */
+    public static String normalize(String name) {
+        if (name == null) {
+            return null;
+        }
+        String normalized = name.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        return normalized.isEmpty() || normalized.length() > MAX_NAME_LENGTH ? null : normalized;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getNormalizedName() {
+        return normalizedName;
+    }
+
+    public void setNormalizedName(String normalizedName) {
+        this.normalizedName = normalizedName;
+    }
+}
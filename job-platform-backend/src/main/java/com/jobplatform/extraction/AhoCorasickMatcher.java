@@ -0,0 +1,170 @@
+package com.jobplatform.extraction;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+
+/**
+ * Immutable Aho-Corasick automaton over case-folded terms. A text is scanned once regardless of the
+ * dictionary size; a hit only counts when it is not glued to surrounding letters or digits.
+ */
+public final class AhoCorasickMatcher {
+
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+
+    // Per state: sorted transition labels and their targets (binary searched while scanning)
+    private final char[][] labels;
+    private final int[][] targets;
+    private final int[] fail;
+    // Term ending in this state (NONE if none) and the next state on the suffix chain that ends a term
+    private final int[] term;
+    private final int[] outputLink;
+    private final int[] termLength;
+    private final String[] canonical;
+
+    /**
+     * Build from a map of term (canonical name or alias) to canonical skill name
+     */
+    public AhoCorasickMatcher(Map<String, String> terms) {
+        List<Map<Character, Integer>> trie = new ArrayList<>();
+        List<Integer> stateTerm = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        stateTerm.add(NONE);
+
+        List<String> names = new ArrayList<>();
+        List<Integer> lengths = new ArrayList<>();
+        for (Map.Entry<String, String> entry : terms.entrySet()) {
+            String key = fold(entry.getKey().strip());
+            if (key.isEmpty()) {
+                continue;
+            }
+            int state = ROOT;
+            for (int i = 0; i < key.length(); i++) {
+                Integer next = trie.get(state).get(key.charAt(i));
+                if (next == null) {
+                    next = trie.size();
+                    trie.get(state).put(key.charAt(i), next);
+                    trie.add(new TreeMap<>());
+                    stateTerm.add(NONE);
+                }
+                state = next;
+            }
+            if (stateTerm.get(state) != NONE) {
+                // Same term listed twice after case folding; the later entry wins
+                names.set(stateTerm.get(state), entry.getValue());
+                continue;
+            }
+            stateTerm.set(state, names.size());
+            names.add(entry.getValue());
+            lengths.add(key.length());
+        }
+
+        int size = trie.size();
+        labels = new char[size][];
+        targets = new int[size][];
+        fail = new int[size];
+        term = new int[size];
+        outputLink = new int[size];
+        for (int state = 0; state < size; state++) {
+            Map<Character, Integer> edges = trie.get(state);
+            labels[state] = new char[edges.size()];
+            targets[state] = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                labels[state][i] = edge.getKey();
+                targets[state][i++] = edge.getValue();
+            }
+            term[state] = stateTerm.get(state);
+        }
+        canonical = names.toArray(new String[0]);
+        termLength = lengths.stream().mapToInt(Integer::intValue).toArray();
+
+        // Breadth-first pass to compute failure and output links
+        Queue<Integer> queue = new ArrayDeque<>();
+        fail[ROOT] = ROOT;
+        outputLink[ROOT] = NONE;
+        for (int child : targets[ROOT]) {
+            fail[child] = ROOT;
+            outputLink[child] = NONE;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int i = 0; i < labels[state].length; i++) {
+                char c = labels[state][i];
+                int child = targets[state][i];
+                int f = fail[state];
+                while (f != ROOT && next(f, c) == NONE) {
+                    f = fail[f];
+                }
+                int candidate = next(f, c);
+                fail[child] = candidate != NONE && candidate != child ? candidate : ROOT;
+                outputLink[child] = term[fail[child]] != NONE ? fail[child] : outputLink[fail[child]];
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * Number of distinct terms compiled into the automaton
+     */
+    public int size() {
+        return canonical.length;
+    }
+
+    /**
+     * Scan the text once and group the word-bounded hits by canonical skill, in order of first mention
+     */
+    public List<SkillMatch> match(String text) {
+        Map<String, List<Integer>> hits = new LinkedHashMap<>();
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            char c = fold(text.charAt(i));
+            int next = next(state, c);
+            while (next == NONE && state != ROOT) {
+                state = fail[state];
+                next = next(state, c);
+            }
+            state = next == NONE ? ROOT : next;
+
+            for (int s = term[state] != NONE ? state : outputLink[state]; s != NONE; s = outputLink[s]) {
+                int t = term[s];
+                int start = i - termLength[t] + 1;
+                if (isBoundary(text, start - 1) && isBoundary(text, i + 1)) {
+                    hits.computeIfAbsent(canonical[t], k -> new ArrayList<>()).add(start);
+                }
+            }
+        }
+
+        List<SkillMatch> matches = new ArrayList<>(hits.size());
+        hits.forEach((skill, positions) -> matches.add(new SkillMatch(skill, positions)));
+        return matches;
+    }
+
+    private int next(int state, char c) {
+        int i = Arrays.binarySearch(labels[state], c);
+        return i >= 0 ? targets[state][i] : NONE;
+    }
+
+    private static boolean isBoundary(String text, int index) {
+        return index < 0 || index >= text.length() || !Character.isLetterOrDigit(text.charAt(index));
+    }
+
+    private static char fold(char c) {
+        return Character.toLowerCase(c);
+    }
+
+    private static String fold(String s) {
+        char[] chars = s.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = fold(chars[i]);
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,180 @@
+package com.jobplatform.extraction;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Precompiled regular expressions ported from the heuristic extractors in ml/app.py
+ */
+final class ExtractionPatterns {
+
+    private static final int I = Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE;
+    private static final int IMS = I | Pattern.MULTILINE | Pattern.DOTALL;
+
+    private ExtractionPatterns() {}
+
+    static final Pattern NEWLINES = Pattern.compile("\n+");
+    static final Pattern BLANKS = Pattern.compile("[ \t]+");
+
+    static final Pattern EMAIL = Pattern.compile("[\\w.-]+@[\\w.-]+\\.\\w+", I);
+    static final Pattern URL = Pattern.compile("https?://[^\\s,;]+", I);
+
+    static final List<Pattern> PHONES = List.of(
+        Pattern.compile("\\+\\d{1,3}[\\s.-]?\\d{1,4}[\\s.-]?\\d{3}[\\s.-]?\\d{4}"),
+        Pattern.compile("\\(\\d{3}\\)[\\s.-]?\\d{3}[\\s.-]?\\d{4}"),
+        Pattern.compile("\\d{2}[\\s.-]?\\d{2}[\\s.-]?\\d{2}[\\s.-]?\\d{2}[\\s.-]?\\d{2}"),
+        Pattern.compile("0\\d[\\s.-]?\\d{2}[\\s.-]?\\d{2}[\\s.-]?\\d{2}[\\s.-]?\\d{2}"),
+        Pattern.compile("\\d{3}[\\s.-]?\\d{3}[\\s.-]?\\d{4}"),
+        Pattern.compile("\\+\\d{1,3}[\\s.-]?\\(?\\d{1,4}\\)?[\\s.-]?\\d{1,4}[\\s.-]?\\d{3,4}")
+    );
+    static final Pattern PHONE_YEAR = Pattern.compile("20\\d{2}");
+
+    static final Pattern DATE = Pattern.compile(
+        "(\\b\\d{1,2}[/-]\\d{1,2}[/-]\\d{2,4}\\b"
+        + "|\\b\\d{4}-\\d{2}-\\d{2}\\b"
+        + "|\\b(?:jan|fév|mar|avr|mai|jun|jui|aoû|sep|oct|nov|déc|janvier|février|mars|avril|mai|juin|juillet|août"
+        + "|septembre|octobre|novembre|décembre)[a-z]*\\s+\\d{1,2},?\\s+\\d{4}\\b"
+        + "|\\b(?:jan|feb|mar|apr|may|jun|jul|aug|sep|oct|nov|dec|january|february|march|april|may|june|july|august"
+        + "|september|october|november|december)[a-z]*\\s+\\d{1,2},?\\s+\\d{4}\\b)", I);
+    static final Pattern DATE_YEAR = Pattern.compile("\\b(?:202\\d|19\\d\\d)\\b");
+
+    /**
+     * Salary pattern with the template used to render it; %s placeholders receive the captured amounts
+     */
+    static final class SalaryPattern {
+        final Pattern pattern;
+        final String template;
+
+        SalaryPattern(String regex, String template) {
+            this.pattern = Pattern.compile(regex, I);
+            this.template = template;
+        }
+    }
+
+    static final List<SalaryPattern> SALARIES = List.of(
+        // French
+        new SalaryPattern("Salaire\\s*fixe\\s*:\\s*(\\d{1,3}(?:\\s?\\d{3})*)\\s*€\\s*[-–]\\s*(\\d{1,3}(?:\\s?\\d{3})*)\\s*€.*?annuel", "%s € - %s € brut annuel"),
+        new SalaryPattern("Rémunération\\s*:\\s*(\\d{1,4})\\s*€\\s*/\\s*mois", "%s € / mois"),
+        new SalaryPattern("Gratification\\s*:\\s*(\\d{1,4})\\s*€", "%s € (gratification)"),
+        new SalaryPattern("(\\d{1,4})\\s*€\\s*/\\s*mois", "%s € / mois"),
+        new SalaryPattern("Salaire\\s*annuel\\s*brut\\s*:\\s*(\\d{1,3}(?:\\s?\\d{3})*)\\s*€\\s*[-–]\\s*(\\d{1,3}(?:\\s?\\d{3})*)\\s*€", "%s € - %s € brut annuel"),
+        // English
+        new SalaryPattern("Base Salary\\s*:\\s*\\$(\\d{1,3}(?:,\\d{3})*)\\s*[-–]\\s*\\$(\\d{1,3}(?:,\\d{3})*)\\s*annually", "$%s - $%s annually"),
+        new SalaryPattern("Salary\\s*:\\s*£(\\d{1,3}(?:,\\d{3})*)\\s*per\\s*month", "£%s per month"),
+        new SalaryPattern("Monthly stipend\\s*:\\s*\\$(\\d{1,3}(?:,\\d{3})*)\\s*[-–]\\s*\\$(\\d{1,3}(?:,\\d{3})*)", "$%s - $%s"),
+        new SalaryPattern("Stipend\\s*:\\s*\\$(\\d{1,3}(?:,\\d{3})*)", "$%s"),
+        new SalaryPattern("Housing allowance\\s*:\\s*\\$(\\d{1,3}(?:,\\d{3})*)", "$%s (housing)"),
+        new SalaryPattern("Travel budget\\s*:\\s*\\$(\\d{1,3}(?:,\\d{3})*)", "$%s (travel)")
+    );
+    static final Pattern PARTIAL_AMOUNT = Pattern.compile("^\\d{1,3}\\s?[€$£]$");
+
+    static final Map<String, Pattern> CONTRACTS_FR = new LinkedHashMap<>();
+    static final Map<String, Pattern> CONTRACTS_EN = new LinkedHashMap<>();
+
+    static {
+        CONTRACTS_FR.put("CDI", Pattern.compile("\\bCDI\\b", I));
+        CONTRACTS_FR.put("CDD", Pattern.compile("\\bCDD\\b", I));
+        CONTRACTS_FR.put("Stage", Pattern.compile("\\bstage\\b|\\balternance\\b|\\bapprentissage\\b", I));
+        CONTRACTS_EN.put("Full-time", Pattern.compile("\\bfull[- ]?time\\b|\\bpermanent\\b", I));
+        CONTRACTS_EN.put("Part-time", Pattern.compile("\\bpart[- ]?time\\b", I));
+        CONTRACTS_EN.put("Internship", Pattern.compile("\\binternship\\b|\\bintern\\b|\\btrainee\\b", I));
+    }
+
+    /**
+     * Labelled-field pattern with the confidence given to a match. Explicit "Label: value" fields
+     * are trusted; free-text phrases ("We are looking for a ...", "at ...") are weaker evidence.
+     */
+    static final class FieldPattern {
+        final Pattern pattern;
+        final double confidence;
+
+        FieldPattern(String regex, double confidence) {
+            this.pattern = Pattern.compile(regex, IMS);
+            this.confidence = confidence;
+        }
+    }
+
+    static final List<FieldPattern> TITLES_FR = List.of(
+        new FieldPattern("Titre\\s*(?:du\\s*)?poste\\s*[:\\-]\\s*(.+?)(?=\\s*(?:Entreprise|Lieu|$|\\n))", 0.95),
+        new FieldPattern("Poste\\s*[:\\-]\\s*(.+?)(?=\\s*(?:Entreprise|Lieu|$|\\n))", 0.95),
+        new FieldPattern("Intitulé\\s*(?:du\\s*)?(?:stage|poste)\\s*[:\\-]\\s*(.+?)(?=\\s*(?:Société|Localisation|$|\\n))", 0.95),
+        new FieldPattern("Intitulé du Stage\\s*[:\\-]\\s*(.+?)(?=\\s*(?:Société|Localisation|$|\\n))", 0.95),
+        new FieldPattern("Nous\\s+recherchons\\s+un[e]?\\s+(.+?)(?=\\s+(?:pour|afin|dans|$))", 0.75)
+    );
+
+    static final List<FieldPattern> TITLES_EN = List.of(
+        new FieldPattern("Job\\s*Title\\s*[:\\-]\\s*(.+?)(?=\\s*(?:Company|Location|$|\\n))", 0.95),
+        new FieldPattern("Position\\s*[:\\-]\\s*(.+?)(?=\\s*(?:Company|Location|$|\\n))", 0.95),
+        new FieldPattern("Role\\s*[:\\-]\\s*(.+?)(?=\\s*(?:Company|Location|$|\\n))", 0.95),
+        new FieldPattern("We\\s+are\\s+looking\\s+for\\s+a[n]?\\s+(.+?)(?=\\s+(?:to|for|in|$))", 0.75)
+    );
+
+    static final List<FieldPattern> COMPANIES_FR = List.of(
+        new FieldPattern("Entreprise\\s*[:\\-]\\s*(.+?)(?=\\s*(?:Lieu|$|\\n))", 0.95),
+        new FieldPattern("Société\\s*[:\\-]\\s*(.+?)(?=\\s*(?:Localisation|$|\\n))", 0.95),
+        new FieldPattern("Soci[ée]t[ée]\\s*[:\\-]\\s*(.+?)(?=\\s*(?:Lieu|$|\\n))", 0.95),
+        new FieldPattern("chez\\s+(.+?)(?=\\s*(?:Lieu|$|\\n))", 0.6)
+    );
+
+    static final List<FieldPattern> COMPANIES_EN = List.of(
+        new FieldPattern("Company\\s*[:\\-]\\s*(.+?)(?=\\s*(?:Location|$|\\n))", 0.95),
+        new FieldPattern("Organization\\s*[:\\-]\\s*(.+?)(?=\\s*(?:Locations|$|\\n))", 0.95),
+        new FieldPattern("Firm\\s*[:\\-]\\s*(.+?)(?=\\s*(?:Location|$|\\n))", 0.95),
+        new FieldPattern("at\\s+(.+?)(?=\\s*(?:Location|$|\\n))", 0.6)
+    );
+
+    static final Pattern COMPANY_TRAILER = Pattern.compile("\\s*(?:Lieu|Location|Locations).*$", I);
+
+    static final List<String> TITLE_KEYWORDS_FR = List.of("stage", "poste", "développeur", "ingénieur", "technicien", "architecte");
+    static final List<String> TITLE_KEYWORDS_EN = List.of("intern", "developer", "engineer", "analyst", "specialist", "architect");
+
+    static final List<Pattern> LOCATIONS = List.of(
+        Pattern.compile("\\b(?:Paris|Lyon|Toulouse|Marseille|Londres|London|Zurich|Boston|Singapore|San Francisco|Austin)\\b", I),
+        Pattern.compile("\\b(?:France|United Kingdom|UK|USA|Canada|Germany|Spain|Switzerland)\\b", I),
+        Pattern.compile("\\b[A-Z][a-z]+(?:\\s+[A-Z][a-z]+)*,\\s*(?:France|UK|United Kingdom|USA)\\b", I),
+        Pattern.compile("\\bRemote\\s*\\(.*?\\)", I),
+        Pattern.compile("\\bMulti-sites\\b", I),
+        Pattern.compile("\\bHybrid\\s+Options\\b", I)
+    );
+
+    static final List<Pattern> DURATIONS_IN_CONTEXT = List.of(
+        Pattern.compile("Contract Type:\\s*[^,]+,\\s*(\\d+\\s*months?)", I),
+        Pattern.compile("Type de contrat:\\s*[^,]+,\\s*(\\d+\\s*mois)", I),
+        Pattern.compile("Stage\\s+de\\s+(\\d+\\s*mois)", I),
+        Pattern.compile("Internship,\\s*(\\d+\\s*months)", I),
+        Pattern.compile("Duration:\\s*(\\d+\\s*months?)", I),
+        Pattern.compile("Durée:\\s*(\\d+\\s*mois)", I),
+        Pattern.compile("Durée\\s*:\\s*(\\d+\\s*mois)", I),
+        Pattern.compile("Contract\\s*:\\s*[^,]+,\\s*(\\d+\\s*months)", I)
+    );
+
+    static final List<Pattern> DURATIONS_STANDALONE = List.of(
+        Pattern.compile("(\\d+\\s*-\\s*\\d+\\s*months?)", I),
+        Pattern.compile("(\\d+\\s*months?\\s*\\(extendable\\))", I),
+        Pattern.compile("(\\d+\\s*mois\\s*\\(prolongeable\\))", I)
+    );
+
+    static final List<String> FRENCH_TOKENS = List.of(" le ", " la ", " les ", " stage ", " CDI ", " CDD ", " salaire ",
+        " rémunération ", " poste ", " mois ", " entreprise ", " société ");
+    static final List<String> ENGLISH_TOKENS = List.of(" the ", " and ", " for ", " internship ", " position ", " salary ",
+        " experience ", " company ", " month ", " organization ");
+
+    /**
+     * Domain inference rules, evaluated in order against the joined skill names
+     */
+    static final Map<String, List<String>> DOMAINS = new LinkedHashMap<>();
+
+    static {
+        DOMAINS.put("Artificial Intelligence", List.of("machine learning", "nlp", "tensorflow", "pytorch", "data science", "ai",
+            "artificial intelligence", "gpt", "llm"));
+        DOMAINS.put("Web Development", List.of("react", "angular", "vue", "next.js", "frontend", "javascript", "typescript",
+            "html", "css", "d3.js"));
+        DOMAINS.put("Cloud & DevOps", List.of("cloud", "aws", "azure", "gcp", "devops", "docker", "kubernetes", "terraform", "ansible"));
+        DOMAINS.put("Software Engineering", List.of("java", "spring boot", "c#", ".net", "python", "backend", "microservices"));
+        DOMAINS.put("Data Engineering", List.of("sql", "mysql", "postgresql", "database", "data analysis", "spark", "hadoop"));
+        DOMAINS.put("Blockchain & Web3", List.of("blockchain", "ethereum", "solidity", "web3", "smart contract"));
+        DOMAINS.put("Cybersecurity", List.of("security", "cybersecurity", "cissp", "ceh", "vault", "encryption"));
+    }
+}
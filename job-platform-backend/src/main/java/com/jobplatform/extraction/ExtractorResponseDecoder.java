@@ -0,0 +1,287 @@
+package com.jobplatform.extraction;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobplatform.dto.ExtractorResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decodes the extractor service payload token by token straight into an ExtractorResponse. Accepts the
+ * nested /api/extract format ({"value", "confidence"} objects) and the flat /api/batch-extract format;
+ * confidences are left null when the service does not report them.
+ */
+public final class ExtractorResponseDecoder {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final JsonFactory JSON_FACTORY = OBJECT_MAPPER.getFactory();
+
+    private ExtractorResponseDecoder() {}
+
+    public static ExtractorResponse decode(InputStream in) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(in)) {
+            return decode(parser);
+        }
+    }
+
+    public static ExtractorResponse decode(String json) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            return decode(parser);
+        }
+    }
+
+    private static ExtractorResponse decode(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("Extractor response is not a JSON object");
+        }
+
+        ExtractorResponse response = new ExtractorResponse();
+        List<String> emptyList = List.of();
+        response.setContractType(emptyList);
+        response.setSalary(emptyList);
+        response.setDuration(emptyList);
+        response.setDeadline(emptyList);
+        response.setSkills(new ArrayList<>());
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            switch (field) {
+                case "error":
+                    if (token != JsonToken.VALUE_NULL) {
+                        throw new IOException("Extractor service returned error: " + parser.getValueAsString());
+                    }
+                    break;
+                case "fingerprint":
+                    response.setFingerprint(readString(parser));
+                    break;
+                case "raw_text":
+                    response.setRawText(readString(parser));
+                    break;
+                case "language":
+                    response.setLanguage(readString(parser));
+                    break;
+                case "inferred_domain":
+                    response.setInferredDomain(readString(parser));
+                    break;
+                case "type":
+                    response.setType(readString(parser));
+                    break;
+                case "embedding":
+                    response.setEmbedding(readFloats(parser));
+                    break;
+                case "job_title": {
+                    ValueWithConfidence title = readValueWithConfidence(parser);
+                    String value = firstOrNull(title.values);
+                    if (value != null) {
+                        response.setJobTitle(new ExtractorResponse.JobTitle(value, title.confidence));
+                    }
+                    break;
+                }
+                case "company": {
+                    ValueWithConfidence company = readValueWithConfidence(parser);
+                    String value = firstOrNull(company.values);
+                    if (value != null) {
+                        response.setCompany(new ExtractorResponse.Company(value, company.confidence));
+                    }
+                    break;
+                }
+                case "location": {
+                    ValueWithConfidence location = readValueWithConfidence(parser);
+                    if (!location.values.isEmpty()) {
+                        response.setLocation(new ExtractorResponse.Location(location.values, location.confidence));
+                    }
+                    break;
+                }
+                case "contract_type":
+                    response.setContractType(readStrings(parser));
+                    break;
+                case "salary":
+                    response.setSalary(readStrings(parser));
+                    break;
+                case "duration":
+                    response.setDuration(readStrings(parser));
+                    break;
+                case "deadline":
+                    response.setDeadline(readStrings(parser));
+                    break;
+                case "contacts":
+                    response.setContacts(readContacts(parser));
+                    break;
+                case "skills":
+                    response.setSkills(readSkills(parser));
+                    break;
+                case "metadata":
+                    if (token == JsonToken.START_OBJECT) {
+                        response.setMetadata(parser.readValueAs(new TypeReference<Map<String, Object>>() {}));
+                    }
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+            }
+        }
+        return response;
+    }
+
+    /**
+     * Either a bare value (string or list of strings) or an object with "value" and "confidence"
+     */
+    private static ValueWithConfidence readValueWithConfidence(JsonParser parser) throws IOException {
+        ValueWithConfidence result = new ValueWithConfidence();
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            result.values = readStrings(parser);
+            return result;
+        }
+
+        result.values = List.of();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if ("value".equals(field)) {
+                result.values = readStrings(parser);
+            } else if ("confidence".equals(field) && token.isNumeric()) {
+                result.confidence = parser.getDoubleValue();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * A string or an array of strings; null and blank entries are dropped
+     */
+    private static List<String> readStrings(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_ARRAY) {
+            List<String> values = new ArrayList<>();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                String value = readString(parser);
+                if (value != null) {
+                    values.add(value);
+                }
+            }
+            return values;
+        }
+
+        String value = readString(parser);
+        return value != null ? List.of(value) : List.of();
+    }
+
+    private static String readString(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return null;
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        String value = parser.getValueAsString();
+        return value != null && !value.isBlank() ? value : null;
+    }
+
+    private static float[] readFloats(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return null;
+        }
+
+        // MiniLM embeddings have 384 dimensions; grow if the model changes
+        float[] values = new float[384];
+        int size = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = parser.getFloatValue();
+        }
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+
+    private static ExtractorResponse.Contacts readContacts(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+
+        ExtractorResponse.Contacts contacts = new ExtractorResponse.Contacts(List.of(), List.of(), List.of());
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "emails":
+                    contacts.setEmails(readStrings(parser));
+                    break;
+                case "urls":
+                    contacts.setUrls(readStrings(parser));
+                    break;
+                case "phones":
+                    contacts.setPhones(readStrings(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+            }
+        }
+        return contacts;
+    }
+
+    /**
+     * Skills are either plain names or {"skill", "confidence", "label"} objects
+     */
+    private static List<ExtractorResponse.Skill> readSkills(JsonParser parser) throws IOException {
+        List<ExtractorResponse.Skill> skills = new ArrayList<>();
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return skills;
+        }
+
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                String name = readString(parser);
+                if (name != null) {
+                    skills.add(new ExtractorResponse.Skill(name, null));
+                }
+                continue;
+            }
+
+            ExtractorResponse.Skill skill = new ExtractorResponse.Skill();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken token = parser.nextToken();
+                if ("skill".equals(field)) {
+                    skill.setSkill(readString(parser));
+                } else if ("confidence".equals(field) && token.isNumeric()) {
+                    skill.setConfidence(parser.getDoubleValue());
+                } else if ("label".equals(field)) {
+                    skill.setLabel(readString(parser));
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (skill.getSkill() != null) {
+                skills.add(skill);
+            }
+        }
+        return skills;
+    }
+
+    private static String firstOrNull(List<String> values) {
+        return values.isEmpty() ? null : values.get(0);
+    }
+
+    private static final class ValueWithConfidence {
+        List<String> values;
+        Double confidence;
+    }
+}
@@ -0,0 +1,51 @@
+package com.jobplatform.extraction;
+
+import com.jobplatform.dto.ExtractorResponse;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Result of the in-process extractor together with the confidence of each field
+ */
+public class LocalExtraction {
+
+    public static final String JOB_TITLE = "jobTitle";
+    public static final String COMPANY = "company";
+    public static final String LOCATION = "location";
+    public static final String CONTRACT_TYPE = "contractType";
+    public static final String SKILLS = "skills";
+
+    private final ExtractorResponse response;
+    private final Map<String, Double> fieldConfidences;
+
+    public LocalExtraction(ExtractorResponse response, Map<String, Double> fieldConfidences) {
+        this.response = response;
+        this.fieldConfidences = Collections.unmodifiableMap(fieldConfidences);
+    }
+
+    public ExtractorResponse getResponse() {
+        return response;
+    }
+
+    public Map<String, Double> getFieldConfidences() {
+        return fieldConfidences;
+    }
+
+    public double getConfidence(String field) {
+        return fieldConfidences.getOrDefault(field, 0.0);
+    }
+
+    /**
+     * Whether every required field reached the given confidence, so the remote model can be skipped
+     */
+    public boolean isConfident(Collection<String> requiredFields, double minConfidence) {
+        for (String field : requiredFields) {
+            if (getConfidence(field) < minConfidence) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
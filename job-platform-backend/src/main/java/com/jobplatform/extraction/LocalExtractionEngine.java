@@ -0,0 +1,237 @@
+package com.jobplatform.extraction;
+
+import com.jobplatform.dto.ExtractorResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * In-process port of the regex and keyword heuristics of ml/app.py. It needs no model and answers in
+ * microseconds, so it serves as the first extraction tier in front of the remote extractor service.
+ */
+@Component
+public class LocalExtractionEngine {
+
+    private static final double SKILL_CONFIDENCE = 0.8;
+    private static final double LOCATION_CONFIDENCE = 0.8;
+    private static final double CONTRACT_CONFIDENCE = 0.9;
+    private static final double FIRST_LINE_TITLE_CONFIDENCE = 0.7;
+
+    @Autowired
+    private SkillDictionary skillDictionary;
+
+    /**
+     * Extract every field the heuristics can see, in the same shape as the extractor service output
+     */
+    public LocalExtraction extract(String text) {
+        String cleaned = clean(text);
+        String lang = detectLanguage(cleaned);
+        Map<String, Double> confidences = new HashMap<>();
+
+        ExtractorResponse response = new ExtractorResponse();
+        response.setRawText(cleaned);
+        response.setLanguage(lang);
+
+        FieldMatch title = findTitle(cleaned, lang);
+        response.setJobTitle(new ExtractorResponse.JobTitle(title.value, title.confidence));
+        confidences.put(LocalExtraction.JOB_TITLE, title.confidence);
+
+        FieldMatch company = findCompany(cleaned, lang);
+        String companyName = company.value != null
+            ? ExtractionPatterns.COMPANY_TRAILER.matcher(company.value).replaceAll("").strip()
+            : null;
+        response.setCompany(new ExtractorResponse.Company(companyName, company.confidence));
+        confidences.put(LocalExtraction.COMPANY, company.confidence);
+
+        List<String> locations = findAll(ExtractionPatterns.LOCATIONS, cleaned, 0);
+        double locationConfidence = locations.isEmpty() ? 0.0 : LOCATION_CONFIDENCE;
+        response.setLocation(new ExtractorResponse.Location(locations, locationConfidence));
+        confidences.put(LocalExtraction.LOCATION, locationConfidence);
+
+        List<String> contracts = detectContractTypes(cleaned, lang);
+        response.setContractType(contracts);
+        response.setType(contracts.contains("Stage") || contracts.contains("Internship") ? "Internship" : "Job");
+        confidences.put(LocalExtraction.CONTRACT_TYPE, contracts.isEmpty() ? 0.0 : CONTRACT_CONFIDENCE);
+
+        response.setSalary(findSalaries(cleaned));
+        response.setDuration(findDurations(cleaned));
+        response.setDeadline(findDates(cleaned));
+        response.setContacts(new ExtractorResponse.Contacts(
+            findAll(List.of(ExtractionPatterns.EMAIL), cleaned, 0),
+            findAll(List.of(ExtractionPatterns.URL), cleaned, 0),
+            findPhones(cleaned)));
+
+        List<ExtractorResponse.Skill> skills = findSkills(cleaned);
+        response.setSkills(skills);
+        response.setInferredDomain(inferDomain(skills));
+        confidences.put(LocalExtraction.SKILLS, skills.isEmpty() ? 0.0 : SKILL_CONFIDENCE);
+
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("chunks", 1);
+        metadata.put("text_length", cleaned.length());
+        metadata.put("processed_at", Instant.now().toString());
+        metadata.put("extractor", "local");
+        response.setMetadata(metadata);
+
+        return new LocalExtraction(response, confidences);
+    }
+
+    private String clean(String text) {
+        String cleaned = ExtractionPatterns.NEWLINES.matcher(text).replaceAll("\n");
+        return ExtractionPatterns.BLANKS.matcher(cleaned).replaceAll(" ").strip();
+    }
+
+    private String detectLanguage(String text) {
+        String padded = " " + text.toLowerCase(Locale.ROOT) + " ";
+        long french = ExtractionPatterns.FRENCH_TOKENS.stream().filter(padded::contains).count();
+        long english = ExtractionPatterns.ENGLISH_TOKENS.stream().filter(padded::contains).count();
+        return french >= english ? "fr" : "en";
+    }
+
+    private FieldMatch findTitle(String text, String lang) {
+        FieldMatch match = "fr".equals(lang)
+            ? firstMatch(ExtractionPatterns.TITLES_FR, ExtractionPatterns.TITLES_EN, text)
+            : firstMatch(ExtractionPatterns.TITLES_EN, ExtractionPatterns.TITLES_FR, text);
+        if (match.value != null) {
+            return match;
+        }
+
+        // Fall back to the first line when it is short and reads like a job title
+        String firstLine = text.split("\n", 2)[0].strip();
+        String lower = firstLine.toLowerCase(Locale.ROOT);
+        List<String> keywords = "fr".equals(lang) ? ExtractionPatterns.TITLE_KEYWORDS_FR : ExtractionPatterns.TITLE_KEYWORDS_EN;
+        if (keywords.stream().anyMatch(lower::contains) && firstLine.split("\\s+").length <= 10) {
+            return new FieldMatch(firstLine, FIRST_LINE_TITLE_CONFIDENCE);
+        }
+        return match;
+    }
+
+    private FieldMatch findCompany(String text, String lang) {
+        return "fr".equals(lang)
+            ? firstMatch(ExtractionPatterns.COMPANIES_FR, ExtractionPatterns.COMPANIES_EN, text)
+            : firstMatch(ExtractionPatterns.COMPANIES_EN, ExtractionPatterns.COMPANIES_FR, text);
+    }
+
+    /**
+     * Try the detected language first; short labelled postings often carry too few tokens to detect it
+     */
+    private FieldMatch firstMatch(List<ExtractionPatterns.FieldPattern> preferred,
+                                  List<ExtractionPatterns.FieldPattern> other, String text) {
+        FieldMatch match = firstMatch(preferred, text);
+        return match.value != null ? match : firstMatch(other, text);
+    }
+
+    private FieldMatch firstMatch(List<ExtractionPatterns.FieldPattern> patterns, String text) {
+        for (ExtractionPatterns.FieldPattern fieldPattern : patterns) {
+            Matcher matcher = fieldPattern.pattern.matcher(text);
+            if (matcher.find()) {
+                return new FieldMatch(matcher.group(1).strip(), fieldPattern.confidence);
+            }
+        }
+        return new FieldMatch(null, 0.0);
+    }
+
+    private List<String> detectContractTypes(String text, String lang) {
+        boolean french = "fr".equals(lang);
+        List<String> contracts = detectContractTypes(text, french ? ExtractionPatterns.CONTRACTS_FR : ExtractionPatterns.CONTRACTS_EN);
+        return !contracts.isEmpty() ? contracts
+            : detectContractTypes(text, french ? ExtractionPatterns.CONTRACTS_EN : ExtractionPatterns.CONTRACTS_FR);
+    }
+
+    private List<String> detectContractTypes(String text, Map<String, Pattern> patterns) {
+        List<String> contracts = new ArrayList<>();
+        patterns.forEach((name, pattern) -> {
+            if (pattern.matcher(text).find()) {
+                contracts.add(name);
+            }
+        });
+        return contracts;
+    }
+
+    private List<String> findSalaries(String text) {
+        Set<String> salaries = new LinkedHashSet<>();
+        for (ExtractionPatterns.SalaryPattern salaryPattern : ExtractionPatterns.SALARIES) {
+            Matcher matcher = salaryPattern.pattern.matcher(text);
+            while (matcher.find()) {
+                String salary = matcher.groupCount() == 2
+                    ? String.format(salaryPattern.template, matcher.group(1), matcher.group(2))
+                    : String.format(salaryPattern.template, matcher.group(1));
+                // Drop partial numbers such as "000 €"
+                if (salary.length() > 5 && !ExtractionPatterns.PARTIAL_AMOUNT.matcher(salary).find()) {
+                    salaries.add(salary);
+                }
+            }
+        }
+        return new ArrayList<>(salaries);
+    }
+
+    private List<String> findDurations(String text) {
+        Set<String> durations = new LinkedHashSet<>(findAll(ExtractionPatterns.DURATIONS_IN_CONTEXT, text, 1));
+        durations.addAll(findAll(ExtractionPatterns.DURATIONS_STANDALONE, text, 1));
+        return new ArrayList<>(durations);
+    }
+
+    private List<String> findDates(String text) {
+        // Keep only dates that carry a plausible year
+        return findAll(List.of(ExtractionPatterns.DATE), text, 0).stream()
+            .filter(date -> ExtractionPatterns.DATE_YEAR.matcher(date).find())
+            .toList();
+    }
+
+    private List<String> findPhones(String text) {
+        // Exclude dates and other short digit runs
+        return findAll(ExtractionPatterns.PHONES, text, 0).stream()
+            .filter(phone -> phone.length() >= 8 && !ExtractionPatterns.PHONE_YEAR.matcher(phone).find())
+            .toList();
+    }
+
+    private List<ExtractorResponse.Skill> findSkills(String text) {
+        // Most mentioned skills first; ties keep the order of first mention
+        return skillDictionary.match(text).stream()
+            .sorted(Comparator.comparingInt(SkillMatch::getCount).reversed())
+            .map(match -> new ExtractorResponse.Skill(match.getSkill(), SKILL_CONFIDENCE))
+            .toList();
+    }
+
+    private String inferDomain(List<ExtractorResponse.Skill> skills) {
+        String skillText = String.join(" ", skills.stream().map(skill -> skill.getSkill().toLowerCase(Locale.ROOT)).toList());
+        for (Map.Entry<String, List<String>> domain : ExtractionPatterns.DOMAINS.entrySet()) {
+            if (domain.getValue().stream().anyMatch(skillText::contains)) {
+                return domain.getKey();
+            }
+        }
+        return null;
+    }
+
+    private List<String> findAll(List<Pattern> patterns, String text, int group) {
+        Set<String> found = new LinkedHashSet<>();
+        for (Pattern pattern : patterns) {
+            Matcher matcher = pattern.matcher(text);
+            while (matcher.find()) {
+                found.add(matcher.group(group).strip());
+            }
+        }
+        return new ArrayList<>(found);
+    }
+
+    private static final class FieldMatch {
+        final String value;
+        final double confidence;
+
+        FieldMatch(String value, double confidence) {
+            this.value = value;
+            this.confidence = confidence;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.jobplatform.extraction;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Skill dictionary compiled into an Aho-Corasick automaton. Reads the bundled skills.txt, or the file
+ * configured in extractor.skills.dictionary-file which is watched and swapped in atomically when it changes.
+ */
+@Component
+public class SkillDictionary {
+
+    private static final String BUNDLED_DICTIONARY = "skills.txt";
+
+    @Value("${extractor.skills.dictionary-file:}")
+    private String dictionaryFile;
+
+    private volatile Snapshot current;
+
+    @PostConstruct
+    void init() {
+        reload();
+    }
+
+    /**
+     * Find every dictionary skill mentioned in the text
+     */
+    public List<SkillMatch> match(String text) {
+        return current.matcher.match(text);
+    }
+
+    /**
+     * Rebuild the automaton from the dictionary source; the previous one stays in use if loading fails
+     */
+    public synchronized Map<String, Object> reload() {
+        try {
+            Map<String, String> terms;
+            String source;
+            long lastModified;
+            if (dictionaryFile == null || dictionaryFile.isBlank()) {
+                source = "classpath:" + BUNDLED_DICTIONARY;
+                lastModified = 0;
+                try (InputStream in = new ClassPathResource(BUNDLED_DICTIONARY).getInputStream()) {
+                    terms = parse(in);
+                }
+            } else {
+                Path path = Path.of(dictionaryFile);
+                source = path.toAbsolutePath().toString();
+                lastModified = Files.getLastModifiedTime(path).toMillis();
+                try (InputStream in = Files.newInputStream(path)) {
+                    terms = parse(in);
+                }
+            }
+
+            long skills = terms.values().stream().distinct().count();
+            current = new Snapshot(new AhoCorasickMatcher(terms), source, lastModified, (int) skills, Instant.now());
+            return getStats();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load skill dictionary: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Pick up edits to the configured dictionary file
+     */
+    @Scheduled(fixedDelayString = "${extractor.skills.reload-interval-ms:30000}")
+    public void reloadIfChanged() {
+        if (dictionaryFile == null || dictionaryFile.isBlank()) {
+            return;
+        }
+
+        try {
+            long lastModified = Files.getLastModifiedTime(Path.of(dictionaryFile)).toMillis();
+            if (lastModified != current.lastModified) {
+                reload();
+            }
+        } catch (Exception e) {
+            System.err.println("Skill dictionary reload failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Dictionary statistics for the extractor status endpoint
+     */
+    public Map<String, Object> getStats() {
+        Snapshot snapshot = current;
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("source", snapshot.source);
+        stats.put("skills", snapshot.skills);
+        stats.put("terms", snapshot.matcher.size());
+        stats.put("loadedAt", snapshot.loadedAt.toString());
+        return stats;
+    }
+
+    /**
+     * Parse "canonical = alias, alias" lines; blank lines and lines starting with # are ignored
+     */
+    static Map<String, String> parse(InputStream in) throws IOException {
+        Map<String, String> terms = new LinkedHashMap<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            line = line.strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+
+            int separator = line.indexOf('=');
+            String skill = (separator >= 0 ? line.substring(0, separator) : line).strip();
+            if (skill.isEmpty()) {
+                continue;
+            }
+            terms.put(skill, skill);
+            if (separator >= 0) {
+                for (String alias : line.substring(separator + 1).split(",")) {
+                    if (!alias.isBlank()) {
+                        terms.put(alias.strip(), skill);
+                    }
+                }
+            }
+        }
+        return terms;
+    }
+
+    private static final class Snapshot {
+        final AhoCorasickMatcher matcher;
+        final String source;
+        final long lastModified;
+        final int skills;
+        final Instant loadedAt;
+
+        Snapshot(AhoCorasickMatcher matcher, String source, long lastModified, int skills, Instant loadedAt) {
+            this.matcher = matcher;
+            this.source = source;
+            this.lastModified = lastModified;
+            this.skills = skills;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.jobplatform.extraction;
+
+import java.util.List;
+
+/**
+ * A dictionary skill found in a text, with the start offset of every mention
+ */
+public class SkillMatch {
+
+    private final String skill;
+    private final List<Integer> positions;
+
+    public SkillMatch(String skill, List<Integer> positions) {
+        this.skill = skill;
+        this.positions = List.copyOf(positions);
+    }
+
+    public String getSkill() {
+        return skill;
+    }
+
+    public List<Integer> getPositions() {
+        return positions;
+    }
+
+    public int getCount() {
+        return positions.size();
+    }
+}
@@ -1,5 +1,6 @@
 package com.jobplatform.repository;
 
+import com.jobplatform.dto.ApplicationDto;
 import com.jobplatform.entity.Application;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -8,43 +9,70 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ApplicationRepository extends JpaRepository<Application, Long> {
     
-    // Find applications by seeker
-    List<Application> findBySeekerId(Long seekerId);
+    // Keyset position for feeds ordered by (createdAt, id) descending: rows after the cursor
+    String KEYSET_AFTER =
+        "(a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id))";
     
-    // Find applications by seeker with pagination
-    Page<Application> findBySeekerId(Long seekerId, Pageable pageable);
+    // ApplicationDto columns only: seeker and job offer are joined for their names, never loaded as entities
+    String DTO_SELECT = "SELECT new com.jobplatform.dto.ApplicationDto(a.id, s.id, s.name, s.email, j.id, " +
+        "j.title, j.company, a.status, a.coverLetter, a.resumeUrl, a.createdAt, a.updatedAt) " +
+        "FROM Application a JOIN a.seeker s JOIN a.jobOffer j ";
     
     // Find applications by job offer
     List<Application> findByJobOfferId(Long jobOfferId);
     
-    // Find applications by job offer with pagination
-    Page<Application> findByJobOfferId(Long jobOfferId, Pageable pageable);
-    
-    // Find applications by job offerer (through job offers)
-    @Query("SELECT a FROM Application a WHERE a.jobOffer.offerer.id = :offererId")
-    List<Application> findByOffererId(@Param("offererId") Long offererId);
-    
-    // Find applications by job offerer with pagination
-    @Query("SELECT a FROM Application a WHERE a.jobOffer.offerer.id = :offererId")
-    Page<Application> findByOffererId(@Param("offererId") Long offererId, Pageable pageable);
+    // One application as a DTO
+    @Query(DTO_SELECT + "WHERE a.id = :id")
+    Optional<ApplicationDto> findDtoById(@Param("id") Long id);
     
-    // Find applications by status
-    List<Application> findByStatus(Application.ApplicationStatus status);
-    
-    // Find applications by seeker and status
-    List<Application> findBySeekerIdAndStatus(Long seekerId, Application.ApplicationStatus status);
+    // Find applications by seeker with pagination
+    @Query(value = DTO_SELECT + "WHERE a.seeker.id = :seekerId",
+           countQuery = "SELECT COUNT(a) FROM Application a WHERE a.seeker.id = :seekerId")
+    Page<ApplicationDto> findDtosBySeekerId(@Param("seekerId") Long seekerId, Pageable pageable);
     
-    // Find applications by job offer and status
-    List<Application> findByJobOfferIdAndStatus(Long jobOfferId, Application.ApplicationStatus status);
+    // Find applications by job offer with pagination
+    @Query(value = DTO_SELECT + "WHERE a.jobOffer.id = :jobOfferId",
+           countQuery = "SELECT COUNT(a) FROM Application a WHERE a.jobOffer.id = :jobOfferId")
+    Page<ApplicationDto> findDtosByJobOfferId(@Param("jobOfferId") Long jobOfferId, Pageable pageable);
+    
+    // Find applications by job offerer (through job offers) with pagination
+    @Query(value = DTO_SELECT + "WHERE j.offerer.id = :offererId",
+           countQuery = "SELECT COUNT(a) FROM Application a WHERE a.jobOffer.offerer.id = :offererId")
+    Page<ApplicationDto> findDtosByOffererId(@Param("offererId") Long offererId, Pageable pageable);
+    
+    // Keyset page of a seeker's applications, newest first; the limit comes from the pageable
+    @Query(DTO_SELECT + "WHERE a.seeker.id = :seekerId AND " + KEYSET_AFTER +
+           " ORDER BY a.createdAt DESC, a.id DESC")
+    List<ApplicationDto> findSeekerFeed(@Param("seekerId") Long seekerId,
+                                        @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
+    
+    // Keyset page of the applications to a job offer, newest first
+    @Query(DTO_SELECT + "WHERE a.jobOffer.id = :jobOfferId AND " + KEYSET_AFTER +
+           " ORDER BY a.createdAt DESC, a.id DESC")
+    List<ApplicationDto> findJobOfferFeed(@Param("jobOfferId") Long jobOfferId,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") Long id,
+                                          Pageable pageable);
+    
+    // Keyset page of the applications to an offerer's job offers, newest first
+    @Query(DTO_SELECT + "WHERE j.offerer.id = :offererId AND " + KEYSET_AFTER +
+           " ORDER BY a.createdAt DESC, a.id DESC")
+    List<ApplicationDto> findOffererFeed(@Param("offererId") Long offererId,
+                                         @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") Long id,
+                                         Pageable pageable);
     
     // Check if seeker already applied to a job offer
-    Optional<Application> findBySeekerIdAndJobOfferId(Long seekerId, Long jobOfferId);
+    boolean existsBySeekerIdAndJobOfferId(Long seekerId, Long jobOfferId);
     
     // Get application statistics
     @Query("SELECT COUNT(a) FROM Application a WHERE a.seeker.id = :seekerId")
@@ -60,13 +88,23 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
     List<Object[]> getApplicationStatusCounts();
     
     // Get applications by status with pagination
-    Page<Application> findByStatus(Application.ApplicationStatus status, Pageable pageable);
+    @Query(value = DTO_SELECT + "WHERE a.status = :status",
+           countQuery = "SELECT COUNT(a) FROM Application a WHERE a.status = :status")
+    Page<ApplicationDto> findDtosByStatus(@Param("status") Application.ApplicationStatus status, Pageable pageable);
     
     // Get applications by seeker and status with pagination
-    Page<Application> findBySeekerIdAndStatus(Long seekerId, Application.ApplicationStatus status, Pageable pageable);
+    @Query(value = DTO_SELECT + "WHERE a.seeker.id = :seekerId AND a.status = :status",
+           countQuery = "SELECT COUNT(a) FROM Application a WHERE a.seeker.id = :seekerId AND a.status = :status")
+    Page<ApplicationDto> findDtosBySeekerIdAndStatus(@Param("seekerId") Long seekerId,
+                                                     @Param("status") Application.ApplicationStatus status,
+                                                     Pageable pageable);
     
     // Get applications by job offer and status with pagination
-    Page<Application> findByJobOfferIdAndStatus(Long jobOfferId, Application.ApplicationStatus status, Pageable pageable);
+    @Query(value = DTO_SELECT + "WHERE a.jobOffer.id = :jobOfferId AND a.status = :status",
+           countQuery = "SELECT COUNT(a) FROM Application a WHERE a.jobOffer.id = :jobOfferId AND a.status = :status")
+    Page<ApplicationDto> findDtosByJobOfferIdAndStatus(@Param("jobOfferId") Long jobOfferId,
+                                                       @Param("status") Application.ApplicationStatus status,
+                                                       Pageable pageable);
 
     // Bulk delete by job offer id(s)
     void deleteByJobOffer_Id(Long jobOfferId);
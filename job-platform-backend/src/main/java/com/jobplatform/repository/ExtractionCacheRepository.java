@@ -0,0 +1,14 @@
+package com.jobplatform.repository;
+
+import com.jobplatform.entity.ExtractionCacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ExtractionCacheRepository extends JpaRepository<ExtractionCacheEntry, String> {
+
+    // Find a cached extraction produced by the given model version
+    Optional<ExtractionCacheEntry> findByFingerprintAndModelVersion(String fingerprint, String modelVersion);
+}
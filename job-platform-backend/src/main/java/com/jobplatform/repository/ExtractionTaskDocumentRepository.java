@@ -0,0 +1,31 @@
+package com.jobplatform.repository;
+
+import com.jobplatform.entity.ExtractionTaskDocument;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Blob;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ExtractionTaskDocumentRepository extends JpaRepository<ExtractionTaskDocument, Long> {
+
+    // Document of one task, to be streamed within the caller's transaction
+    @Query("SELECT d.content FROM ExtractionTaskDocument d WHERE d.taskId = :taskId")
+    Optional<Blob> findContentByTaskId(@Param("taskId") Long taskId);
+
+    // Drop the documents of a finished task
+    @Modifying
+    @Query("DELETE FROM ExtractionTaskDocument d WHERE d.taskId = :taskId")
+    void deleteByTaskId(@Param("taskId") Long taskId);
+
+    // Drop the queued documents of removed job offers
+    @Modifying
+    @Query("DELETE FROM ExtractionTaskDocument d WHERE d.taskId IN " +
+           "(SELECT t.id FROM ExtractionTask t WHERE t.jobOfferId IN :jobOfferIds)")
+    void deleteByJobOfferIdIn(@Param("jobOfferIds") List<Long> jobOfferIds);
+}
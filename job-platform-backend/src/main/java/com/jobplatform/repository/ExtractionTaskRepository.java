@@ -0,0 +1,49 @@
+package com.jobplatform.repository;
+
+import com.jobplatform.entity.ExtractionTask;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ExtractionTaskRepository extends JpaRepository<ExtractionTask, Long> {
+
+    // Mapped columns only: a legacy document_content column left on the table is never read by a claim
+    String TASK_COLUMNS = "id, job_offer_id, status, attempts, next_attempt_at, locked_by, locked_at, last_error, " +
+                          "document_name, document_length, embedding_only, created_at, updated_at";
+
+    // Lock due tasks; rows already locked by another node are skipped instead of waited on
+    @Query(value = "SELECT " + TASK_COLUMNS + " FROM extraction_tasks WHERE status = 'PENDING' AND next_attempt_at <= :now " +
+                   "ORDER BY next_attempt_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<ExtractionTask> lockDueTasks(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // Same, restricted to raw text tasks, which the local extraction tier may answer on its own
+    @Query(value = "SELECT " + TASK_COLUMNS + " FROM extraction_tasks WHERE status = 'PENDING' AND next_attempt_at <= :now " +
+                   "AND document_length IS NULL AND embedding_only = FALSE " +
+                   "ORDER BY next_attempt_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<ExtractionTask> lockDueTextTasks(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // Latest extraction task for a job offer, ignoring embedding-only follow-ups
+    Optional<ExtractionTask> findFirstByJobOfferIdAndEmbeddingOnlyFalseOrderByIdDesc(Long jobOfferId);
+
+    boolean existsByJobOfferIdAndEmbeddingOnlyTrueAndStatus(Long jobOfferId, ExtractionTask.TaskStatus status);
+
+    // Release tasks whose lease expired (worker node crashed or restarted mid-extraction)
+    @Modifying
+    @Query("UPDATE ExtractionTask t SET t.status = :pending, t.lockedBy = NULL, t.lockedAt = NULL " +
+           "WHERE t.status = :running AND t.lockedAt < :staleBefore")
+    int releaseStaleTasks(@Param("staleBefore") LocalDateTime staleBefore,
+                          @Param("running") ExtractionTask.TaskStatus running,
+                          @Param("pending") ExtractionTask.TaskStatus pending);
+
+    // Drop queued work for removed job offers
+    @Modifying
+    @Query("DELETE FROM ExtractionTask t WHERE t.jobOfferId IN :jobOfferIds")
+    void deleteByJobOfferIdIn(@Param("jobOfferIds") List<Long> jobOfferIds);
+}
@@ -3,6 +3,7 @@ package com.jobplatform.repository;
 import com.jobplatform.entity.Favorite;
 import com.jobplatform.entity.JobOffer;
 import com.jobplatform.entity.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -14,6 +15,8 @@ public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
     
     List<Favorite> findBySeeker(User seeker);
     
+    // With the job offer and its offerer, which FavoriteDto embeds
+    @EntityGraph(attributePaths = {"jobOffer", "jobOffer.offerer"})
     List<Favorite> findBySeekerId(Long seekerId);
     
     Optional<Favorite> findBySeekerAndJobOffer(User seeker, JobOffer jobOffer);
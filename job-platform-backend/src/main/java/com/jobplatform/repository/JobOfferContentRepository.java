@@ -0,0 +1,49 @@
+package com.jobplatform.repository;
+
+import com.jobplatform.entity.JobOfferContent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface JobOfferContentRepository extends JpaRepository<JobOfferContent, Long> {
+
+    // Single text columns of the given job offers, as (id, value) rows
+    @Query("SELECT c.jobOfferId, c.description FROM JobOfferContent c WHERE c.jobOfferId IN :ids")
+    List<Object[]> findDescriptionsByJobOfferIdIn(@Param("ids") List<Long> ids);
+
+    default List<Object[]> findRawTextsByJobOfferIdIn(List<Long> ids) {
+        return findStoredRawTextsByJobOfferIdIn(ids).stream()
+            .map(row -> new Object[] { row[0], row[1] != null ? row[1] : row[2] })
+            .toList();
+    }
+
+    // (id, raw_text, description when raw_text was deduplicated against it)
+    @Query("SELECT c.jobOfferId, c.rawText, CASE WHEN c.rawTextIsDescription = true THEN c.description END " +
+           "FROM JobOfferContent c WHERE c.jobOfferId IN :ids")
+    List<Object[]> findStoredRawTextsByJobOfferIdIn(@Param("ids") List<Long> ids);
+
+    @Query("SELECT c.jobOfferId, c.extractedData FROM JobOfferContent c WHERE c.jobOfferId IN :ids")
+    List<Object[]> findExtractedDataByJobOfferIdIn(@Param("ids") List<Long> ids);
+
+    // Raw text of one job offer, without the other columns
+    default String findRawTextByJobOfferId(Long id) {
+        return findRawTextsByJobOfferIdIn(List.of(id)).stream()
+            .map(row -> (String) row[1])
+            .findFirst()
+            .orElse(null);
+    }
+
+    // Description of one job offer, without the other columns
+    @Query("SELECT c.description FROM JobOfferContent c WHERE c.jobOfferId = :id")
+    String findDescriptionByJobOfferId(@Param("id") Long id);
+
+    // Drop the content of removed job offers
+    @Modifying
+    @Query("DELETE FROM JobOfferContent c WHERE c.jobOfferId IN :jobOfferIds")
+    void deleteByJobOfferIdIn(@Param("jobOfferIds") List<Long> jobOfferIds);
+}
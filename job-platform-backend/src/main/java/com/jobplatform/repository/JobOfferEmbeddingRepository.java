@@ -0,0 +1,47 @@
+package com.jobplatform.repository;
+
+import com.jobplatform.entity.JobOfferEmbedding;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface JobOfferEmbeddingRepository extends JpaRepository<JobOfferEmbedding, Long> {
+
+    // Only the int8 columns of an embedding
+    interface QuantizedView {
+        byte[] getQuantized();
+        Float getQuantScale();
+    }
+
+    // Id and packed vector of an embedding
+    interface VectorView {
+        Long getJobOfferId();
+        byte[] getVector();
+    }
+
+    // Read just the packed float32 vector of a job offer
+    @Query("SELECT e.vector FROM JobOfferEmbedding e WHERE e.jobOfferId = :jobOfferId")
+    Optional<byte[]> findVectorByJobOfferId(@Param("jobOfferId") Long jobOfferId);
+
+    // Read just the quantized vector of a job offer
+    @Query("SELECT e.quantized AS quantized, e.quantScale AS quantScale FROM JobOfferEmbedding e " +
+           "WHERE e.jobOfferId = :jobOfferId AND e.quantized IS NOT NULL")
+    Optional<QuantizedView> findQuantizedByJobOfferId(@Param("jobOfferId") Long jobOfferId);
+
+    // Page through the embeddings of active job offers in id order, for building the similarity index
+    @Query("SELECT e.jobOfferId AS jobOfferId, e.vector AS vector FROM JobOfferEmbedding e, JobOffer o " +
+           "WHERE o.id = e.jobOfferId AND o.isActive = true AND e.jobOfferId > :afterId ORDER BY e.jobOfferId")
+    List<VectorView> findActiveVectorsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // Drop embeddings of removed job offers
+    @Modifying
+    @Query("DELETE FROM JobOfferEmbedding e WHERE e.jobOfferId IN :jobOfferIds")
+    void deleteByJobOfferIdIn(@Param("jobOfferIds") List<Long> jobOfferIds);
+}
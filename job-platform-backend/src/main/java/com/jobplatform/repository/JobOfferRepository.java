@@ -1,35 +1,136 @@
 package com.jobplatform.repository;
 
+import com.jobplatform.dto.JobOfferCardDto;
+import com.jobplatform.dto.JobOfferLiteDto;
 import com.jobplatform.entity.JobOffer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface JobOfferRepository extends JpaRepository<JobOffer, Long> {
     
+    // Conditions of the LIKE-based search, shared by the page and facet queries
+    String SEARCH_CONDITIONS =
+        "j.isActive = true AND " +
+        "(:keyword IS NULL OR LOWER(j.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+        "LOWER(j.company) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+        "j.id IN (SELECT c.jobOfferId FROM JobOfferContent c " +
+        "WHERE LOWER(c.description) LIKE LOWER(CONCAT('%', :keyword, '%')))) AND " +
+        "(:domain IS NULL OR LOWER(j.domain) LIKE LOWER(CONCAT('%', :domain, '%'))) AND " +
+        "(:contractType IS NULL OR LOWER(j.contractType) LIKE LOWER(CONCAT('%', :contractType, '%'))) AND " +
+        "(:location IS NULL OR LOWER(j.location) LIKE LOWER(CONCAT('%', :location, '%')))";
+    
+    // Full-text matches: each FULLTEXT index drives its own MATCH subquery (the description is indexed in
+    // job_offer_content), and the union is summed per offer before the offer filters are joined on
+    String FULLTEXT_FROM =
+        "FROM (SELECT m.id, SUM(m.score) AS score FROM (" +
+        "SELECT t.id, MATCH(t.title, t.company, t.skills) AGAINST (:terms IN BOOLEAN MODE) AS score " +
+        "FROM job_offers t WHERE MATCH(t.title, t.company, t.skills) AGAINST (:terms IN BOOLEAN MODE) " +
+        "UNION ALL " +
+        "SELECT c.job_offer_id, MATCH(c.description) AGAINST (:terms IN BOOLEAN MODE) " +
+        "FROM job_offer_content c WHERE MATCH(c.description) AGAINST (:terms IN BOOLEAN MODE)" +
+        ") m GROUP BY m.id) s JOIN job_offers j ON j.id = s.id WHERE j.is_active = true AND ";
+    
+    // Relevance of a full-text match, summed over both indexes
+    String FULLTEXT_SCORE = "s.score";
+    
+    // Categorical filters shared by the full-text queries
+    String FULLTEXT_FILTERS =
+        "(:domain IS NULL OR LOWER(j.domain) LIKE LOWER(CONCAT('%', :domain, '%'))) AND " +
+        "(:contractType IS NULL OR LOWER(j.contract_type) LIKE LOWER(CONCAT('%', :contractType, '%'))) AND " +
+        "(:location IS NULL OR LOWER(j.location) LIKE LOWER(CONCAT('%', :location, '%'))) ";
+    
+    // Keyset position for feeds ordered by (createdAt, id) descending: rows after the cursor
+    String KEYSET_AFTER =
+        "(j.createdAt < :createdAt OR (j.createdAt = :createdAt AND j.id < :id))";
+    
+    // Constructor expression of JobOfferCardDto: every column except the TEXT/LONGTEXT ones
+    String CARD_SELECT =
+        "SELECT new com.jobplatform.dto.JobOfferCardDto(j.id, j.offerer.id, j.offerer.name, j.title, j.company, " +
+        "j.location, j.contractType, j.domain, j.salary, j.duration, j.deadline, j.language, j.type, " +
+        "j.createdAt, j.isActive, j.extractionStatus, j.duplicateOfId, j.duplicateSimilarity) FROM JobOffer j ";
+    
     // Find job offers by offerer
+    @EntityGraph(attributePaths = "offerer")
     List<JobOffer> findByOffererId(Long offererId);
     
     // Find active job offers
     List<JobOffer> findByIsActiveTrue();
     
     // Find job offers by offerer with pagination
+    @EntityGraph(attributePaths = "offerer")
     Page<JobOffer> findByOffererId(Long offererId, Pageable pageable);
     
     // Find active job offers with pagination
     Page<JobOffer> findByIsActiveTrue(Pageable pageable);
     
+    // Active job offers after afterId in id order, for keyset-paged rebuilds
+    @Query("SELECT j FROM JobOffer j WHERE j.isActive = true AND j.id > :afterId ORDER BY j.id")
+    List<JobOffer> findActiveAfter(@Param("afterId") Long afterId, Pageable pageable);
+    
+    // Job offers with their offerer loaded in the same statement, for full DTOs
+    @EntityGraph(attributePaths = "offerer")
+    @Query("SELECT j FROM JobOffer j WHERE j.id IN :ids")
+    List<JobOffer> findWithOffererByIdIn(@Param("ids") Collection<Long> ids);
+    
+    // Ids of one page of active job offers
+    @Query("SELECT j.id FROM JobOffer j WHERE j.isActive = true")
+    Page<Long> findActiveIds(Pageable pageable);
+    
+    // Ids of one page of an offerer's job offers
+    @Query("SELECT j.id FROM JobOffer j WHERE j.offerer.id = :offererId")
+    Page<Long> findIdsByOffererId(@Param("offererId") Long offererId, Pageable pageable);
+    
+    // Cards of the given job offers, in no particular order
+    @Query(CARD_SELECT + "WHERE j.id IN :ids")
+    List<JobOfferCardDto> findCardsByIdIn(@Param("ids") List<Long> ids);
+    
+    // Single text columns of the given job offers, as (id, value) rows
+    @Query("SELECT j.id, j.skills FROM JobOffer j WHERE j.id IN :ids")
+    List<Object[]> findSkillsByIdIn(@Param("ids") List<Long> ids);
+    
+    @Query("SELECT j.id, j.contacts FROM JobOffer j WHERE j.id IN :ids")
+    List<Object[]> findContactsByIdIn(@Param("ids") List<Long> ids);
+    
+    // Lightweight offers of an offerer, with the raw text but without description or extracted data
+    @Query(value = "SELECT new com.jobplatform.dto.JobOfferLiteDto(j.id, j.offerer.id, j.title, j.createdAt, " +
+                   "j.isActive, c.rawText, CASE WHEN c.rawTextIsDescription = true THEN c.description END) " +
+                   "FROM JobOffer j LEFT JOIN JobOfferContent c ON c.jobOfferId = j.id " +
+                   "WHERE j.offerer.id = :offererId",
+           countQuery = "SELECT COUNT(j) FROM JobOffer j WHERE j.offerer.id = :offererId")
+    Page<JobOfferLiteDto> findLiteByOffererId(@Param("offererId") Long offererId, Pageable pageable);
+    
+    // Keyset page of active job offer ids, newest first; the limit comes from the pageable
+    @Query("SELECT j.id FROM JobOffer j WHERE j.isActive = true AND " + KEYSET_AFTER +
+           " ORDER BY j.createdAt DESC, j.id DESC")
+    List<Long> findActiveFeed(@Param("createdAt") LocalDateTime createdAt,
+                                  @Param("id") Long id,
+                                  Pageable pageable);
+    
+    // Keyset page of an offerer's job offer ids, newest first
+    @Query("SELECT j.id FROM JobOffer j WHERE j.offerer.id = :offererId AND " + KEYSET_AFTER +
+           " ORDER BY j.createdAt DESC, j.id DESC")
+    List<Long> findOffererFeed(@Param("offererId") Long offererId,
+                                   @Param("createdAt") LocalDateTime createdAt,
+                                   @Param("id") Long id,
+                                   Pageable pageable);
+    
     // Search job offers by title, company, or description
     @Query("SELECT j FROM JobOffer j WHERE j.isActive = true AND " +
            "(LOWER(j.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
            "LOWER(j.company) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(j.description) LIKE LOWER(CONCAT('%', :keyword, '%')))")
+           "j.id IN (SELECT c.jobOfferId FROM JobOfferContent c " +
+           "WHERE LOWER(c.description) LIKE LOWER(CONCAT('%', :keyword, '%'))))")
     Page<JobOffer> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
     
     // Filter job offers by domain
@@ -48,23 +149,101 @@ public interface JobOfferRepository extends JpaRepository<JobOffer, Long> {
     Page<JobOffer> findByLocation(@Param("location") String location, Pageable pageable);
     
     // Complex search with multiple filters
-    @Query("SELECT j FROM JobOffer j WHERE j.isActive = true AND " +
-           "(:keyword IS NULL OR LOWER(j.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(j.company) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(j.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
-           "(:domain IS NULL OR LOWER(j.domain) LIKE LOWER(CONCAT('%', :domain, '%'))) AND " +
-           "(:contractType IS NULL OR LOWER(j.contractType) LIKE LOWER(CONCAT('%', :contractType, '%'))) AND " +
-           "(:location IS NULL OR LOWER(j.location) LIKE LOWER(CONCAT('%', :location, '%')))")
+    @EntityGraph(attributePaths = "offerer")
+    @Query("SELECT j FROM JobOffer j WHERE " + SEARCH_CONDITIONS)
     Page<JobOffer> searchWithFilters(@Param("keyword") String keyword, 
                                     @Param("domain") String domain,
                                     @Param("contractType") String contractType,
                                     @Param("location") String location,
                                     Pageable pageable);
     
+    // Ids of one page of searchWithFilters matches
+    @Query("SELECT j.id FROM JobOffer j WHERE " + SEARCH_CONDITIONS)
+    Page<Long> searchIdsWithFilters(@Param("keyword") String keyword,
+                                    @Param("domain") String domain,
+                                    @Param("contractType") String contractType,
+                                    @Param("location") String location,
+                                    Pageable pageable);
+    
+    // Keyset page of searchWithFilters match ids, newest first
+    @Query("SELECT j.id FROM JobOffer j WHERE " + SEARCH_CONDITIONS + " AND " + KEYSET_AFTER +
+           " ORDER BY j.createdAt DESC, j.id DESC")
+    List<Long> searchFeedWithFilters(@Param("keyword") String keyword,
+                                         @Param("domain") String domain,
+                                         @Param("contractType") String contractType,
+                                         @Param("location") String location,
+                                         @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") Long id,
+                                         Pageable pageable);
+    
+    // Full-text search (InnoDB FULLTEXT, boolean mode) ranked by relevance, one page of ids
+    @Query(value = "SELECT j.id " + FULLTEXT_FROM + FULLTEXT_FILTERS +
+           "ORDER BY " + FULLTEXT_SCORE + " DESC, j.created_at DESC LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<Long> fullTextSearchByRelevance(@Param("terms") String terms,
+                                         @Param("domain") String domain,
+                                         @Param("contractType") String contractType,
+                                         @Param("location") String location,
+                                         @Param("limit") int limit,
+                                         @Param("offset") long offset);
+    
+    // Full-text search (InnoDB FULLTEXT, boolean mode) newest first, one page of ids
+    @Query(value = "SELECT j.id " + FULLTEXT_FROM + FULLTEXT_FILTERS +
+           "ORDER BY j.created_at DESC LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<Long> fullTextSearchByDate(@Param("terms") String terms,
+                                    @Param("domain") String domain,
+                                    @Param("contractType") String contractType,
+                                    @Param("location") String location,
+                                    @Param("limit") int limit,
+                                    @Param("offset") long offset);
+    
+    // Full-text search (InnoDB FULLTEXT, boolean mode), keyset page of ids newest first
+    @Query(value = "SELECT j.id " + FULLTEXT_FROM + FULLTEXT_FILTERS +
+           "AND (j.created_at < :createdAt OR (j.created_at = :createdAt AND j.id < :id)) " +
+           "ORDER BY j.created_at DESC, j.id DESC LIMIT :limit", nativeQuery = true)
+    List<Long> fullTextSearchFeed(@Param("terms") String terms,
+                                  @Param("domain") String domain,
+                                  @Param("contractType") String contractType,
+                                  @Param("location") String location,
+                                  @Param("createdAt") LocalDateTime createdAt,
+                                  @Param("id") Long id,
+                                  @Param("limit") int limit);
+    
+    // Full-text search matches counted per combination of categorical values, for facet counts
+    @Query(value = "SELECT j.domain, j.contract_type, j.location, j.type, COUNT(*) " + FULLTEXT_FROM + FULLTEXT_FILTERS +
+           "GROUP BY j.domain, j.contract_type, j.location, j.type", nativeQuery = true)
+    List<Object[]> countFullTextFacetValues(@Param("terms") String terms,
+                                           @Param("domain") String domain,
+                                           @Param("contractType") String contractType,
+                                           @Param("location") String location);
+    
+    // Number of full-text search matches
+    @Query(value = "SELECT COUNT(*) " + FULLTEXT_FROM + FULLTEXT_FILTERS, nativeQuery = true)
+    long countFullTextSearch(@Param("terms") String terms,
+                             @Param("domain") String domain,
+                             @Param("contractType") String contractType,
+                             @Param("location") String location);
+    
+    // Offers matching searchWithFilters counted per combination of categorical values, for facet counts
+    @Query("SELECT j.domain, j.contractType, j.location, j.type, COUNT(j) FROM JobOffer j WHERE " + SEARCH_CONDITIONS +
+           " GROUP BY j.domain, j.contractType, j.location, j.type")
+    List<Object[]> countFacetValuesWithFilters(@Param("keyword") String keyword,
+                                              @Param("domain") String domain,
+                                              @Param("contractType") String contractType,
+                                              @Param("location") String location);
+    
+    // Filterable values of active offers after afterId in id order, for the in-memory filter index
+    @Query("SELECT j.id, j.createdAt, j.domain, j.contractType, j.location, j.type, j.skills FROM JobOffer j " +
+           "WHERE j.isActive = true AND j.id > :afterId ORDER BY j.id")
+    List<Object[]> findFilterValuesAfter(@Param("afterId") Long afterId, Pageable pageable);
+    
     // Get job offers by type (Job or Internship)
     @Query("SELECT j FROM JobOffer j WHERE j.isActive = true AND j.type = :type")
     Page<JobOffer> findByType(@Param("type") String type, Pageable pageable);
     
+    // Latest creation or update of any job offer, the high-water mark of the search index
+    @Query("SELECT MAX(COALESCE(j.updatedAt, j.createdAt)) FROM JobOffer j")
+    LocalDateTime findLastModifiedAt();
+    
     // Get statistics
     @Query("SELECT COUNT(j) FROM JobOffer j WHERE j.isActive = true")
     Long countActiveJobOffers();
@@ -87,4 +266,18 @@ public interface JobOfferRepository extends JpaRepository<JobOffer, Long> {
     // Count by domain for admin stats
     @Query("SELECT j.domain, COUNT(j) FROM JobOffer j WHERE j.isActive = true AND j.domain IS NOT NULL GROUP BY j.domain ORDER BY COUNT(j) DESC")
     List<Object[]> countByDomain();
+    
+    // Update extraction status without loading the offers
+    @Modifying
+    @Query("UPDATE JobOffer j SET j.extractionStatus = :status WHERE j.id IN :ids")
+    int updateExtractionStatus(@Param("ids") List<Long> ids, @Param("status") JobOffer.ExtractionStatus status);
+    
+    // Offers linked to a near-duplicate cluster, grouped by cluster
+    @Query("SELECT j FROM JobOffer j WHERE j.duplicateOfId IS NOT NULL ORDER BY j.duplicateOfId, j.id")
+    List<JobOffer> findDuplicates();
+    
+    // Detach duplicates from cluster heads that are being removed
+    @Modifying
+    @Query("UPDATE JobOffer j SET j.duplicateOfId = NULL, j.duplicateSimilarity = NULL WHERE j.duplicateOfId IN :ids")
+    int clearDuplicateOf(@Param("ids") List<Long> ids);
 }
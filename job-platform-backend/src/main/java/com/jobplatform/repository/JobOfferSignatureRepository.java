@@ -0,0 +1,24 @@
+package com.jobplatform.repository;
+
+import com.jobplatform.entity.JobOfferSignature;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface JobOfferSignatureRepository extends JpaRepository<JobOfferSignature, Long> {
+
+    // Page through signatures in id order, for building the LSH index
+    @Query("SELECT s FROM JobOfferSignature s WHERE s.jobOfferId > :afterId ORDER BY s.jobOfferId")
+    List<JobOfferSignature> findAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // Drop signatures of removed job offers
+    @Modifying
+    @Query("DELETE FROM JobOfferSignature s WHERE s.jobOfferId IN :jobOfferIds")
+    void deleteByJobOfferIdIn(@Param("jobOfferIds") List<Long> jobOfferIds);
+}
@@ -0,0 +1,44 @@
+package com.jobplatform.repository;
+
+import com.jobplatform.entity.JobOfferSkill;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface JobOfferSkillRepository extends JpaRepository<JobOfferSkill, JobOfferSkill.Key> {
+
+    // Offers having every skill of allIds (allCount of them) and at least one of anyIds; a count of 0
+    // disables that part. Both subqueries are range scans of idx_job_offer_skills_skill.
+    String BY_SKILLS_CONDITIONS =
+        "j.isActive = true " +
+        "AND (:allCount = 0 OR j.id IN (SELECT s.jobOfferId FROM JobOfferSkill s WHERE s.skillId IN :allIds " +
+        "GROUP BY s.jobOfferId HAVING COUNT(s) = :allCount)) " +
+        "AND (:anyCount = 0 OR j.id IN (SELECT s2.jobOfferId FROM JobOfferSkill s2 WHERE s2.skillId IN :anyIds))";
+
+    // Ids of one page of active offers matching BY_SKILLS_CONDITIONS
+    @Query(value = "SELECT j.id FROM JobOffer j WHERE " + BY_SKILLS_CONDITIONS,
+           countQuery = "SELECT COUNT(j) FROM JobOffer j WHERE " + BY_SKILLS_CONDITIONS)
+    Page<Long> findJobOfferIdsBySkills(@Param("allIds") Collection<Long> allIds,
+                                       @Param("allCount") long allCount,
+                                       @Param("anyIds") Collection<Long> anyIds,
+                                       @Param("anyCount") long anyCount,
+                                       Pageable pageable);
+
+    // Offers with a skills column but no rows here yet, in id order, for the backfill
+    @Query("SELECT j.id, j.skills FROM JobOffer j WHERE j.id > :afterId AND j.skills IS NOT NULL " +
+           "AND NOT EXISTS (SELECT 1 FROM JobOfferSkill s WHERE s.jobOfferId = j.id) ORDER BY j.id")
+    List<Object[]> findUnindexedAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // Drop the skills of removed or re-extracted job offers
+    @Modifying
+    @Query("DELETE FROM JobOfferSkill s WHERE s.jobOfferId IN :jobOfferIds")
+    void deleteByJobOfferIdIn(@Param("jobOfferIds") List<Long> jobOfferIds);
+}
@@ -0,0 +1,14 @@
+package com.jobplatform.repository;
+
+import com.jobplatform.entity.Skill;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface SkillRepository extends JpaRepository<Skill, Long> {
+
+    List<Skill> findByNormalizedNameIn(Collection<String> normalizedNames);
+}
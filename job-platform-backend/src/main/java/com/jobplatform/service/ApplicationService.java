@@ -1,6 +1,8 @@
 package com.jobplatform.service;
 
 import com.jobplatform.dto.ApplicationDto;
+import com.jobplatform.dto.Cursor;
+import com.jobplatform.dto.CursorSlice;
 import com.jobplatform.entity.Application;
 import com.jobplatform.entity.JobOffer;
 import com.jobplatform.entity.User;
@@ -9,6 +11,7 @@ import com.jobplatform.repository.JobOfferRepository;
 import com.jobplatform.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
@@ -34,10 +37,7 @@ public class ApplicationService {
      */
     public ApplicationDto applyToJob(Long seekerId, Long jobOfferId, String coverLetter, String resumeUrl) {
         // Check if seeker already applied
-        Optional<Application> existingApplication = applicationRepository
-            .findBySeekerIdAndJobOfferId(seekerId, jobOfferId);
-        
-        if (existingApplication.isPresent()) {
+        if (applicationRepository.existsBySeekerIdAndJobOfferId(seekerId, jobOfferId)) {
             throw new RuntimeException("You have already applied to this job");
         }
         
@@ -59,32 +59,63 @@ public class ApplicationService {
      * Get applications by seeker
      */
     public Page<ApplicationDto> getApplicationsBySeeker(Long seekerId, Pageable pageable) {
-        Page<Application> applications = applicationRepository.findBySeekerId(seekerId, pageable);
-        return applications.map(ApplicationDto::new);
+        return applicationRepository.findDtosBySeekerId(seekerId, pageable);
     }
     
     /**
      * Get applications by job offer
      */
     public Page<ApplicationDto> getApplicationsByJobOffer(Long jobOfferId, Pageable pageable) {
-        Page<Application> applications = applicationRepository.findByJobOfferId(jobOfferId, pageable);
-        return applications.map(ApplicationDto::new);
+        return applicationRepository.findDtosByJobOfferId(jobOfferId, pageable);
     }
     
     /**
      * Get applications by offerer (through job offers)
      */
     public Page<ApplicationDto> getApplicationsByOfferer(Long offererId, Pageable pageable) {
-        Page<Application> applications = applicationRepository.findByOffererId(offererId, pageable);
-        return applications.map(ApplicationDto::new);
+        return applicationRepository.findDtosByOffererId(offererId, pageable);
+    }
+    
+    /**
+     * A seeker's applications newest first, one slice after the cursor; no count query is run
+     */
+    public CursorSlice<ApplicationDto> getApplicationFeedBySeeker(Long seekerId, String cursor, int size) {
+        Cursor after = Cursor.decode(cursor);
+        List<ApplicationDto> rows = applicationRepository.findSeekerFeed(
+            seekerId, after.getCreatedAt(), after.getId(), PageRequest.of(0, size + 1));
+        return toFeedSlice(rows, size);
+    }
+    
+    /**
+     * Applications to a job offer newest first, one slice after the cursor
+     */
+    public CursorSlice<ApplicationDto> getApplicationFeedByJobOffer(Long jobOfferId, String cursor, int size) {
+        Cursor after = Cursor.decode(cursor);
+        List<ApplicationDto> rows = applicationRepository.findJobOfferFeed(
+            jobOfferId, after.getCreatedAt(), after.getId(), PageRequest.of(0, size + 1));
+        return toFeedSlice(rows, size);
+    }
+    
+    /**
+     * Applications to an offerer's job offers newest first, one slice after the cursor
+     */
+    public CursorSlice<ApplicationDto> getApplicationFeedByOfferer(Long offererId, String cursor, int size) {
+        Cursor after = Cursor.decode(cursor);
+        List<ApplicationDto> rows = applicationRepository.findOffererFeed(
+            offererId, after.getCreatedAt(), after.getId(), PageRequest.of(0, size + 1));
+        return toFeedSlice(rows, size);
+    }
+    
+    // Rows are fetched with one extra entry, which only tells whether another slice follows
+    private static CursorSlice<ApplicationDto> toFeedSlice(List<ApplicationDto> rows, int size) {
+        return CursorSlice.of(rows, size, row -> row, ApplicationDto::getCreatedAt, ApplicationDto::getId);
     }
     
     /**
      * Get applications by status
      */
     public Page<ApplicationDto> getApplicationsByStatus(Application.ApplicationStatus status, Pageable pageable) {
-        Page<Application> applications = applicationRepository.findByStatus(status, pageable);
-        return applications.map(ApplicationDto::new);
+        return applicationRepository.findDtosByStatus(status, pageable);
     }
     
     /**
@@ -93,8 +124,7 @@ public class ApplicationService {
     public Page<ApplicationDto> getApplicationsBySeekerAndStatus(Long seekerId, 
                                                                Application.ApplicationStatus status, 
                                                                Pageable pageable) {
-        Page<Application> applications = applicationRepository.findBySeekerIdAndStatus(seekerId, status, pageable);
-        return applications.map(ApplicationDto::new);
+        return applicationRepository.findDtosBySeekerIdAndStatus(seekerId, status, pageable);
     }
     
     /**
@@ -103,8 +133,7 @@ public class ApplicationService {
     public Page<ApplicationDto> getApplicationsByJobOfferAndStatus(Long jobOfferId, 
                                                                  Application.ApplicationStatus status, 
                                                                  Pageable pageable) {
-        Page<Application> applications = applicationRepository.findByJobOfferIdAndStatus(jobOfferId, status, pageable);
-        return applications.map(ApplicationDto::new);
+        return applicationRepository.findDtosByJobOfferIdAndStatus(jobOfferId, status, pageable);
     }
     
     /**
@@ -115,23 +144,24 @@ public class ApplicationService {
             .orElseThrow(() -> new RuntimeException("Application not found"));
         
         application.setStatus(status);
-        Application savedApplication = applicationRepository.save(application);
-        return new ApplicationDto(savedApplication);
+        applicationRepository.save(application);
+        // The seeker and job offer are lazy proxies here; the projection reads their columns in one query
+        return applicationRepository.findDtoById(applicationId)
+            .orElseThrow(() -> new RuntimeException("Application not found"));
     }
     
     /**
      * Get application by ID
      */
     public Optional<ApplicationDto> getApplicationById(Long id) {
-        return applicationRepository.findById(id)
-            .map(ApplicationDto::new);
+        return applicationRepository.findDtoById(id);
     }
     
     /**
      * Check if seeker already applied to job offer
      */
     public boolean hasApplied(Long seekerId, Long jobOfferId) {
-        return applicationRepository.findBySeekerIdAndJobOfferId(seekerId, jobOfferId).isPresent();
+        return applicationRepository.existsBySeekerIdAndJobOfferId(seekerId, jobOfferId);
     }
     
     /**
@@ -0,0 +1,152 @@
+package com.jobplatform.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobplatform.dto.ExtractorResponse;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs many extractions for one request with bounded concurrency and streams each
+ * result as an NDJSON line as soon as it completes
+ */
+@Service
+public class BatchExtractionService {
+
+    @Autowired
+    private ExtractorService extractorService;
+
+    @Value("${extractor.batch.threads:16}")
+    private int threads;
+
+    @Value("${extractor.batch.concurrency:8}")
+    private int concurrency;
+
+    @Value("${extractor.batch.max-items:10000}")
+    private int maxItems;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    void start() {
+        executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "batch-extraction");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Read texts from a JSON array or NDJSON body and write one NDJSON line per text, in completion order.
+     * Items are either plain strings or objects with a "text" field and an optional "id" echoed back.
+     */
+    public void extractBatch(InputStream in, OutputStream out) throws IOException {
+        Semaphore inFlight = new Semaphore(concurrency);
+        AtomicBoolean aborted = new AtomicBoolean(false);
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            int index = 0;
+            JsonToken first = parser.nextToken();
+            if (first == JsonToken.START_ARRAY) {
+                while (parser.nextToken() != JsonToken.END_ARRAY && !aborted.get()) {
+                    submit(index++, objectMapper.readTree(parser), inFlight, aborted, out);
+                }
+            } else if (first != null) {
+                // NDJSON: a sequence of root-level values
+                MappingIterator<JsonNode> items = objectMapper.readValues(parser, JsonNode.class);
+                while (items.hasNextValue() && !aborted.get()) {
+                    submit(index++, items.nextValue(), inFlight, aborted, out);
+                }
+            }
+        } finally {
+            // Wait for the stragglers before the response is closed
+            inFlight.acquireUninterruptibly(concurrency);
+        }
+    }
+
+    private void submit(int index, JsonNode item, Semaphore inFlight, AtomicBoolean aborted, OutputStream out) {
+        if (index >= maxItems) {
+            writeLine(out, error(index, null, "Batch limit of " + maxItems + " items exceeded"), aborted);
+            aborted.set(true);
+            return;
+        }
+
+        JsonNode id = item.isObject() ? item.get("id") : null;
+        String text = item.isTextual() ? item.asText() : item.path("text").asText(null);
+        if (text == null || text.isBlank()) {
+            writeLine(out, error(index, id, "Text is required"), aborted);
+            return;
+        }
+
+        inFlight.acquireUninterruptibly();
+        try {
+            executor.execute(() -> {
+                try {
+                    if (aborted.get()) {
+                        return;
+                    }
+                    Map<String, Object> line = new LinkedHashMap<>();
+                    line.put("index", index);
+                    line.put("id", id);
+                    try {
+                        ExtractorResponse result = extractorService.extractFromText(text);
+                        line.put("result", result);
+                    } catch (Exception e) {
+                        line = error(index, id, e.getMessage());
+                    }
+                    writeLine(out, line, aborted);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.release();
+            throw e;
+        }
+    }
+
+    private Map<String, Object> error(int index, JsonNode id, String message) {
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("index", index);
+        line.put("id", id);
+        line.put("error", message);
+        return line;
+    }
+
+    private void writeLine(OutputStream out, Map<String, Object> line, AtomicBoolean aborted) {
+        try {
+            byte[] bytes = objectMapper.writeValueAsBytes(line);
+            synchronized (out) {
+                out.write(bytes);
+                out.write('\n');
+                out.flush();
+            }
+        } catch (IOException e) {
+            // Client went away; stop scheduling further work for this batch
+            aborted.set(true);
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package com.jobplatform.service;
+
+import com.jobplatform.entity.JobOffer;
+import com.jobplatform.entity.JobOfferSignature;
+import com.jobplatform.repository.JobOfferContentRepository;
+import com.jobplatform.repository.JobOfferRepository;
+import com.jobplatform.repository.JobOfferSignatureRepository;
+import com.jobplatform.similarity.LshIndex;
+import com.jobplatform.similarity.MinHash;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Near-duplicate detection for job offers: MinHash signatures of the raw text, persisted in
+ * job_offer_signatures and looked up through an in-memory LSH band index.
+ */
+@Service
+public class DuplicateDetectionService {
+
+    private static final int LOAD_PAGE_SIZE = 1000;
+
+    public enum Policy {
+        FLAG, LINK, REJECT
+    }
+
+    @Autowired
+    private JobOfferSignatureRepository jobOfferSignatureRepository;
+
+    @Autowired
+    private JobOfferRepository jobOfferRepository;
+
+    @Autowired
+    private JobOfferContentRepository jobOfferContentRepository;
+
+    @Value("${dedup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${dedup.policy:flag}")
+    private String policyName;
+
+    @Value("${dedup.num-hashes:128}")
+    private int numHashes;
+
+    @Value("${dedup.bands:32}")
+    private int bands;
+
+    @Value("${dedup.shingle-size:3}")
+    private int shingleSize;
+
+    @Value("${dedup.threshold:0.8}")
+    private double threshold;
+
+    private Policy policy;
+
+    private MinHash minHash;
+
+    private LshIndex index;
+
+    private volatile Instant loadedAt;
+
+    private final LongAdder detected = new LongAdder();
+
+    private final LongAdder rejected = new LongAdder();
+
+    @PostConstruct
+    void init() {
+        policy = Policy.valueOf(policyName.trim().toUpperCase());
+        minHash = new MinHash(numHashes, shingleSize);
+        index = new LshIndex(numHashes, bands);
+    }
+
+    /**
+     * Load stored signatures in the background; rows of a different signature length are recomputed
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        Thread thread = new Thread(this::load, "dedup-index-loader");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void load() {
+        try {
+            long afterId = 0;
+            List<JobOfferSignature> page;
+            do {
+                page = jobOfferSignatureRepository.findAfter(afterId, PageRequest.of(0, LOAD_PAGE_SIZE));
+                for (JobOfferSignature row : page) {
+                    int[] signature = MinHash.unpack(row.getSignature());
+                    if (signature.length == numHashes) {
+                        index.put(row.getJobOfferId(), signature);
+                    } else {
+                        register(row.getJobOfferId(),
+                            jobOfferContentRepository.findRawTextByJobOfferId(row.getJobOfferId()));
+                    }
+                    afterId = row.getJobOfferId();
+                }
+            } while (page.size() == LOAD_PAGE_SIZE);
+            loadedAt = Instant.now();
+        } catch (Exception e) {
+            System.err.println("Failed to load duplicate signatures: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Check an offer's raw text against existing offers and apply the configured policy to it.
+     * When asynchronous is set the offer has already been accepted, so REJECT is applied as LINK.
+     */
+    public void screen(JobOffer jobOffer, String rawText, boolean asynchronous) {
+        jobOffer.setDuplicateOfId(null);
+        jobOffer.setDuplicateSimilarity(null);
+        if (!enabled || rawText == null || rawText.isBlank()) {
+            return;
+        }
+
+        long self = jobOffer.getId() != null ? jobOffer.getId() : -1L;
+        LshIndex.Match match = index.findBest(minHash.signature(rawText), threshold, self);
+        if (match == null) {
+            return;
+        }
+        detected.increment();
+
+        // Join the cluster of the matched offer rather than chaining duplicates of duplicates
+        Long head = jobOfferRepository.findById(match.getId())
+            .map(original -> original.getDuplicateOfId() != null ? original.getDuplicateOfId() : original.getId())
+            .orElse(match.getId());
+        if (head.equals(jobOffer.getId())) {
+            return;
+        }
+
+        if (policy == Policy.REJECT && !asynchronous) {
+            rejected.increment();
+            throw new RuntimeException("Job offer duplicates existing offer " + head
+                + String.format(" (similarity %.2f)", match.getSimilarity()));
+        }
+        jobOffer.setDuplicateOfId(head);
+        jobOffer.setDuplicateSimilarity(match.getSimilarity());
+        if (policy != Policy.FLAG) {
+            jobOffer.setIsActive(false);
+        }
+    }
+
+    /**
+     * Store and index the signature of a saved offer
+     */
+    public void register(Long jobOfferId, String rawText) {
+        if (!enabled || rawText == null || rawText.isBlank()) {
+            return;
+        }
+        int[] signature = minHash.signature(rawText);
+        JobOfferSignature row = jobOfferSignatureRepository.findById(jobOfferId)
+            .orElseGet(() -> new JobOfferSignature(jobOfferId));
+        row.setSignature(MinHash.pack(signature));
+        jobOfferSignatureRepository.save(row);
+        afterCommit(() -> index.put(jobOfferId, signature));
+    }
+
+    public void delete(Long jobOfferId) {
+        deleteAll(List.of(jobOfferId));
+    }
+
+    public void deleteAll(List<Long> jobOfferIds) {
+        if (jobOfferIds.isEmpty()) {
+            return;
+        }
+        jobOfferSignatureRepository.deleteByJobOfferIdIn(jobOfferIds);
+        jobOfferRepository.clearDuplicateOf(jobOfferIds);
+        afterCommit(() -> jobOfferIds.forEach(index::remove));
+    }
+
+    // Index changes follow the signature rows: applied on commit, or at once outside a transaction
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Duplicate clusters: the earliest offer of each cluster with the offers linked to it
+     */
+    public List<Map<String, Object>> getClusters() {
+        Map<Long, List<Map<String, Object>>> members = new LinkedHashMap<>();
+        for (JobOffer duplicate : jobOfferRepository.findDuplicates()) {
+            Map<String, Object> member = new HashMap<>();
+            member.put("id", duplicate.getId());
+            member.put("title", duplicate.getTitle());
+            member.put("company", duplicate.getCompany());
+            member.put("isActive", duplicate.getIsActive());
+            member.put("similarity", duplicate.getDuplicateSimilarity());
+            member.put("createdAt", duplicate.getCreatedAt());
+            members.computeIfAbsent(duplicate.getDuplicateOfId(), id -> new ArrayList<>()).add(member);
+        }
+
+        Map<Long, JobOffer> heads = new HashMap<>();
+        jobOfferRepository.findAllById(members.keySet()).forEach(head -> heads.put(head.getId(), head));
+
+        List<Map<String, Object>> clusters = new ArrayList<>();
+        members.forEach((headId, duplicates) -> {
+            JobOffer head = heads.get(headId);
+            Map<String, Object> cluster = new HashMap<>();
+            cluster.put("id", headId);
+            cluster.put("title", head != null ? head.getTitle() : null);
+            cluster.put("company", head != null ? head.getCompany() : null);
+            cluster.put("isActive", head != null ? head.getIsActive() : null);
+            cluster.put("duplicates", duplicates);
+            clusters.add(cluster);
+        });
+        return clusters;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("policy", policy.name().toLowerCase());
+        stats.put("threshold", threshold);
+        stats.put("numHashes", numHashes);
+        stats.put("bands", bands);
+        stats.put("indexed", index.size());
+        stats.put("detected", detected.sum());
+        stats.put("rejected", rejected.sum());
+        stats.put("loadedAt", loadedAt != null ? loadedAt.toString() : null);
+        return stats;
+    }
+}
@@ -0,0 +1,197 @@
+package com.jobplatform.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.jobplatform.dto.ExtractorResponse;
+import com.jobplatform.entity.ExtractionCacheEntry;
+import com.jobplatform.repository.ExtractionCacheRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Two-level cache of extraction results: a bounded in-memory W-TinyLFU tier (Caffeine)
+ * in front of the persistent extraction_cache table. Entries are keyed by fingerprint
+ * and only served when they were produced by the current extractor model version.
+ * Every caller gets its own copy of a cached result, so one caller's changes never leak
+ * into another's.
+ */
+@Service
+public class ExtractionCacheService {
+
+    private static final Pattern NEWLINES = Pattern.compile("\n+");
+    private static final Pattern BLANKS = Pattern.compile("[ \t]+");
+
+    @Autowired
+    private ExtractionCacheRepository extractionCacheRepository;
+
+    @Value("${extractor.model.version:app-v1}")
+    private String modelVersion;
+
+    @Value("${extractor.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${extractor.cache.persistent:true}")
+    private boolean persistent;
+
+    @Value("${extractor.cache.max-entries:10000}")
+    private long maxEntries;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private Cache<String, CachedExtraction> memoryCache;
+
+    private final AtomicLong persistentHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong savedExtractorMillis = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        memoryCache = Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * Fingerprint of a posting text, identical to fingerprint() in ml/app.py after the
+     * whitespace clean-up process_text() applies
+     */
+    public static String fingerprint(String text) {
+        String cleaned = NEWLINES.matcher(text).replaceAll("\n");
+        cleaned = BLANKS.matcher(cleaned).replaceAll(" ");
+        return sha256Hex(cleaned.strip().toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Hex encoded SHA-256 digest of raw bytes
+     */
+    public static String sha256Hex(byte[] bytes) {
+        return HexFormat.of().formatHex(newSha256().digest(bytes));
+    }
+
+    public static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Look up a cached extraction, first in memory then in the persistent table
+     */
+    public Optional<ExtractorResponse> get(String fingerprint) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        CachedExtraction cached = memoryCache.getIfPresent(fingerprint);
+        if (cached != null) {
+            savedExtractorMillis.addAndGet(cached.extractorMillis);
+            return Optional.of(copyOf(cached.response));
+        }
+
+        if (persistent) {
+            try {
+                Optional<ExtractionCacheEntry> entry = extractionCacheRepository
+                    .findByFingerprintAndModelVersion(fingerprint, modelVersion);
+                if (entry.isPresent()) {
+                    ExtractorResponse response = objectMapper.readValue(entry.get().getResponseJson(), ExtractorResponse.class);
+                    long millis = entry.get().getExtractorMillis() != null ? entry.get().getExtractorMillis() : 0L;
+                    memoryCache.put(fingerprint, new CachedExtraction(copyOf(response), millis));
+                    persistentHits.incrementAndGet();
+                    savedExtractorMillis.addAndGet(millis);
+                    return Optional.of(response);
+                }
+            } catch (Exception e) {
+                System.err.println("Extraction cache lookup failed: " + e.getMessage());
+            }
+        }
+
+        misses.incrementAndGet();
+        return Optional.empty();
+    }
+
+    /**
+     * Store a fresh extraction result in both tiers. The persistent tier leaves out the embedding,
+     * which is fetched again when needed, and the raw text unless keepRawText is set: for text
+     * extractions it is the caller's own input.
+     */
+    public void put(String fingerprint, ExtractorResponse response, long extractorMillis, boolean keepRawText) {
+        if (!enabled || response == null) {
+            return;
+        }
+
+        memoryCache.put(fingerprint, new CachedExtraction(copyOf(response), extractorMillis));
+
+        if (persistent) {
+            try {
+                ObjectNode stored = objectMapper.valueToTree(response);
+                stored.remove("embedding");
+                if (!keepRawText) {
+                    stored.remove("rawText");
+                }
+                String json = objectMapper.writeValueAsString(stored);
+                extractionCacheRepository.save(new ExtractionCacheEntry(fingerprint, modelVersion, json, extractorMillis));
+            } catch (Exception e) {
+                System.err.println("Failed to persist extraction cache entry: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Deep copy of an extraction result
+     */
+    public ExtractorResponse copyOf(ExtractorResponse response) {
+        return objectMapper.convertValue(response, ExtractorResponse.class);
+    }
+
+    /**
+     * Hit ratio, eviction counts and extractor time saved by the cache
+     */
+    public Map<String, Object> getStats() {
+        CacheStats memoryStats = memoryCache.stats();
+        long memoryHits = memoryStats.hitCount();
+        long persistentHitCount = persistentHits.get();
+        long missCount = misses.get();
+        long lookups = memoryHits + persistentHitCount + missCount;
+
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("modelVersion", modelVersion);
+        stats.put("size", memoryCache.estimatedSize());
+        stats.put("memoryHits", memoryHits);
+        stats.put("persistentHits", persistentHitCount);
+        stats.put("misses", missCount);
+        stats.put("hitRatio", lookups > 0 ? (double) (memoryHits + persistentHitCount) / lookups : 0.0);
+        stats.put("evictions", memoryStats.evictionCount());
+        stats.put("savedExtractorMillis", savedExtractorMillis.get());
+        return stats;
+    }
+
+    private static class CachedExtraction {
+        private final ExtractorResponse response;
+        private final long extractorMillis;
+
+        CachedExtraction(ExtractorResponse response, long extractorMillis) {
+            this.response = response;
+            this.extractorMillis = extractorMillis;
+        }
+    }
+}
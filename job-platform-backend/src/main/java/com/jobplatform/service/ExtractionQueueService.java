@@ -0,0 +1,232 @@
+package com.jobplatform.service;
+
+import com.jobplatform.entity.ExtractionTask;
+import com.jobplatform.entity.ExtractionTaskDocument;
+import com.jobplatform.entity.JobOffer;
+import com.jobplatform.repository.ExtractionTaskDocumentRepository;
+import com.jobplatform.repository.ExtractionTaskRepository;
+import com.jobplatform.repository.JobOfferRepository;
+import org.hibernate.engine.jdbc.BlobProxy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.InputStream;
+import java.sql.Blob;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Database-backed work queue for asynchronous extraction. Any node can claim due tasks;
+ * SELECT ... FOR UPDATE SKIP LOCKED guarantees a task is handed to a single worker.
+ */
+@Service
+@Transactional
+public class ExtractionQueueService {
+
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    @Autowired
+    private ExtractionTaskRepository extractionTaskRepository;
+
+    @Autowired
+    private ExtractionTaskDocumentRepository extractionTaskDocumentRepository;
+
+    @Autowired
+    private JobOfferRepository jobOfferRepository;
+
+    @Value("${extractor.queue.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${extractor.queue.backoff-initial-ms:2000}")
+    private long backoffInitialMs;
+
+    @Value("${extractor.queue.backoff-max-ms:300000}")
+    private long backoffMaxMs;
+
+    /**
+     * Queue extraction of a job offer's raw text
+     */
+    public ExtractionTask enqueue(JobOffer jobOffer) {
+        jobOffer.setExtractionStatus(JobOffer.ExtractionStatus.PENDING);
+        return extractionTaskRepository.save(new ExtractionTask(jobOffer.getId()));
+    }
+
+    /**
+     * Queue extraction of an uploaded document for a job offer. The document is streamed into its
+     * BLOB in extraction_task_documents as the row is inserted, so the stream only has to stay open
+     * for this call.
+     */
+    public ExtractionTask enqueue(JobOffer jobOffer, String documentName, InputStream documentContent, long length) {
+        jobOffer.setExtractionStatus(JobOffer.ExtractionStatus.PENDING);
+        ExtractionTask task = new ExtractionTask(jobOffer.getId());
+        task.setDocumentName(documentName);
+        task.setDocumentLength(length);
+        ExtractionTask saved = extractionTaskRepository.save(task);
+        extractionTaskDocumentRepository.saveAndFlush(
+            new ExtractionTaskDocument(saved.getId(), BlobProxy.generateProxy(documentContent, length)));
+        return saved;
+    }
+
+    /**
+     * Run reader against the stored document of a task inside a read-only transaction, so the BLOB
+     * stays readable for as long as the reader streams it, e.g. while it is sent to the extractor
+     */
+    @Transactional(readOnly = true)
+    public <T> T readDocument(Long taskId, Function<Blob, T> reader) {
+        Blob content = extractionTaskDocumentRepository.findContentByTaskId(taskId)
+            .orElseThrow(() -> new RuntimeException("Document of extraction task " + taskId + " not found"));
+        return reader.apply(content);
+    }
+
+    /**
+     * Queue a follow-up fetching only the embedding of an offer extracted without one, e.g. by the
+     * local tier; the offer's extraction status is left as is
+     */
+    public void enqueueEmbedding(Long jobOfferId) {
+        if (extractionTaskRepository.existsByJobOfferIdAndEmbeddingOnlyTrueAndStatus(jobOfferId,
+                ExtractionTask.TaskStatus.PENDING)) {
+            return;
+        }
+        ExtractionTask task = new ExtractionTask(jobOfferId);
+        task.setEmbeddingOnly(true);
+        extractionTaskRepository.save(task);
+    }
+
+    /**
+     * Claim up to limit due tasks for this node and mark them RUNNING
+     */
+    public List<ExtractionTask> claim(String nodeId, int limit) {
+        return claim(nodeId, limit, false);
+    }
+
+    /**
+     * Claim up to limit due tasks, only raw text ones when textOnly is set
+     */
+    public List<ExtractionTask> claim(String nodeId, int limit, boolean textOnly) {
+        LocalDateTime now = LocalDateTime.now();
+        List<ExtractionTask> tasks = textOnly
+            ? extractionTaskRepository.lockDueTextTasks(now, limit)
+            : extractionTaskRepository.lockDueTasks(now, limit);
+        if (tasks.isEmpty()) {
+            return tasks;
+        }
+
+        for (ExtractionTask task : tasks) {
+            task.setStatus(ExtractionTask.TaskStatus.RUNNING);
+            task.setLockedBy(nodeId);
+            task.setLockedAt(now);
+            task.setAttempts(task.getAttempts() + 1);
+        }
+        List<Long> extracting = tasks.stream()
+            .filter(task -> !task.isEmbeddingOnly())
+            .map(ExtractionTask::getJobOfferId)
+            .toList();
+        if (!extracting.isEmpty()) {
+            jobOfferRepository.updateExtractionStatus(extracting, JobOffer.ExtractionStatus.RUNNING);
+        }
+        return tasks;
+    }
+
+    /**
+     * Mark a task as successfully processed
+     */
+    public void complete(Long taskId) {
+        extractionTaskRepository.findById(taskId).ifPresent(task -> {
+            task.setStatus(ExtractionTask.TaskStatus.DONE);
+            task.setLockedBy(null);
+            task.setLockedAt(null);
+            task.setLastError(null);
+            extractionTaskDocumentRepository.deleteByTaskId(taskId);
+        });
+    }
+
+    /**
+     * Put a claimed task back in the queue for later without counting the attempt, e.g. when it
+     * needs the extractor service while that is down
+     */
+    public void defer(Long taskId, long delayMs) {
+        extractionTaskRepository.findById(taskId).ifPresent(task -> {
+            task.setStatus(ExtractionTask.TaskStatus.PENDING);
+            task.setLockedBy(null);
+            task.setLockedAt(null);
+            task.setAttempts(Math.max(task.getAttempts() - 1, 0));
+            task.setNextAttemptAt(LocalDateTime.now().plusNanos(delayMs * 1_000_000));
+            if (!task.isEmbeddingOnly()) {
+                jobOfferRepository.updateExtractionStatus(List.of(task.getJobOfferId()), JobOffer.ExtractionStatus.PENDING);
+            }
+        });
+    }
+
+    /**
+     * Record a failed attempt; retry with exponential backoff or move to the dead-letter state
+     */
+    public void fail(Long taskId, String error) {
+        extractionTaskRepository.findById(taskId).ifPresent(task -> {
+            task.setLockedBy(null);
+            task.setLockedAt(null);
+            task.setLastError(error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH) : error);
+
+            JobOffer.ExtractionStatus offerStatus;
+            if (task.getAttempts() >= maxAttempts) {
+                task.setStatus(ExtractionTask.TaskStatus.DEAD_LETTER);
+                offerStatus = JobOffer.ExtractionStatus.FAILED;
+            } else {
+                task.setStatus(ExtractionTask.TaskStatus.PENDING);
+                task.setNextAttemptAt(LocalDateTime.now().plusNanos(backoffMillis(task.getAttempts()) * 1_000_000));
+                offerStatus = JobOffer.ExtractionStatus.PENDING;
+            }
+            // A failed embedding fetch leaves the completed extraction alone
+            if (!task.isEmbeddingOnly()) {
+                jobOfferRepository.updateExtractionStatus(List.of(task.getJobOfferId()), offerStatus);
+            }
+        });
+    }
+
+    private long backoffMillis(int attempts) {
+        long delay = backoffInitialMs << Math.min(attempts - 1, 20);
+        return Math.min(delay, backoffMaxMs);
+    }
+
+    /**
+     * Drop queued work, documents included, of removed job offers
+     */
+    public void deleteByJobOfferIds(List<Long> jobOfferIds) {
+        extractionTaskDocumentRepository.deleteByJobOfferIdIn(jobOfferIds);
+        extractionTaskRepository.deleteByJobOfferIdIn(jobOfferIds);
+    }
+
+    /**
+     * Put tasks whose worker disappeared back in the queue
+     */
+    public int releaseStaleTasks(long leaseTimeoutMs) {
+        return extractionTaskRepository.releaseStaleTasks(LocalDateTime.now().minusNanos(leaseTimeoutMs * 1_000_000),
+            ExtractionTask.TaskStatus.RUNNING, ExtractionTask.TaskStatus.PENDING);
+    }
+
+    /**
+     * Extraction progress of a job offer, for polling clients
+     */
+    @Transactional(readOnly = true)
+    public Optional<Map<String, Object>> getStatus(Long jobOfferId) {
+        return jobOfferRepository.findById(jobOfferId).map(jobOffer -> {
+            Map<String, Object> status = new HashMap<>();
+            status.put("jobOfferId", jobOfferId);
+            status.put("status", jobOffer.getExtractionStatus());
+            extractionTaskRepository.findFirstByJobOfferIdAndEmbeddingOnlyFalseOrderByIdDesc(jobOfferId).ifPresent(task -> {
+                status.put("attempts", task.getAttempts());
+                status.put("maxAttempts", maxAttempts);
+                status.put("nextAttemptAt", task.getNextAttemptAt());
+                status.put("lastError", task.getLastError());
+                status.put("deadLetter", task.getStatus() == ExtractionTask.TaskStatus.DEAD_LETTER);
+            });
+            return status;
+        });
+    }
+}
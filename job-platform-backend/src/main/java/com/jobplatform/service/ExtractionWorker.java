@@ -0,0 +1,186 @@
+package com.jobplatform.service;
+
+import com.jobplatform.dto.ExtractorResponse;
+import com.jobplatform.entity.ExtractionTask;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Drains the extraction queue on this node with a fixed pool of worker threads
+ */
+@Component
+public class ExtractionWorker {
+
+    @Autowired
+    private ExtractionQueueService extractionQueueService;
+
+    @Autowired
+    private ExtractorService extractorService;
+
+    @Autowired
+    private JobOfferService jobOfferService;
+
+    @Autowired
+    private UploadMemoryBudget uploadMemoryBudget;
+
+    @Value("${extractor.queue.enabled:true}")
+    private boolean enabled;
+
+    @Value("${extractor.queue.workers:4}")
+    private int workers;
+
+    @Value("${extractor.queue.lease-timeout-ms:600000}")
+    private long leaseTimeoutMs;
+
+    @Value("${extractor.queue.unavailable-retry-ms:30000}")
+    private long unavailableRetryMs;
+
+    private final String nodeId = resolveNodeId();
+
+    private ExecutorService executor;
+
+    private Semaphore freeWorkers;
+
+    // Set once startup migrations have run, see ExtractionTaskDocumentMigration
+    private volatile boolean ready;
+
+    @PostConstruct
+    void start() {
+        freeWorkers = new Semaphore(workers);
+        executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "extraction-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdown();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void onReady() {
+        ready = true;
+    }
+
+    /**
+     * Claim as many due tasks as there are idle workers and hand them out
+     */
+    @Scheduled(fixedDelayString = "${extractor.queue.poll-interval-ms:1000}")
+    public void poll() {
+        if (!enabled || !ready) {
+            return;
+        }
+
+        try {
+            extractionQueueService.releaseStaleTasks(leaseTimeoutMs);
+
+            // While the extractor is down only raw text tasks are claimed, for the local tier to try;
+            // documents stay queued instead of burning their attempts
+            boolean remoteAvailable = extractorService.isExtractorAvailable();
+
+            int capacity = freeWorkers.drainPermits();
+            if (capacity == 0) {
+                return;
+            }
+
+            List<ExtractionTask> tasks;
+            try {
+                tasks = extractionQueueService.claim(nodeId, capacity, !remoteAvailable);
+            } catch (RuntimeException e) {
+                freeWorkers.release(capacity);
+                throw e;
+            }
+            freeWorkers.release(capacity - tasks.size());
+
+            for (ExtractionTask task : tasks) {
+                executor.execute(() -> {
+                    try {
+                        process(task, remoteAvailable);
+                    } finally {
+                        freeWorkers.release();
+                    }
+                });
+            }
+        } catch (Exception e) {
+            System.err.println("Extraction queue poll failed: " + e.getMessage());
+        }
+    }
+
+    private void process(ExtractionTask task, boolean remoteAvailable) {
+        try {
+            if (task.isEmbeddingOnly()) {
+                String rawText = jobOfferService.getRawText(task.getJobOfferId());
+                if (rawText != null) {
+                    jobOfferService.applyEmbedding(task.getJobOfferId(), extractorService.requestEmbedding(rawText));
+                }
+                extractionQueueService.complete(task.getId());
+                return;
+            }
+
+            boolean fromDocument = task.getDocumentLength() != null;
+            ExtractorResponse extractedData;
+            if (fromDocument) {
+                // Admitted from the stored length before any of the document is read from the database
+                long length = task.getDocumentLength();
+                try (UploadMemoryBudget.Permit ignored = uploadMemoryBudget.admit(length)) {
+                    extractedData = extractionQueueService.readDocument(task.getId(),
+                        content -> extractorService.extractFromStoredFile(task.getDocumentName(), length, content));
+                }
+            } else {
+                String rawText = jobOfferService.getRawText(task.getJobOfferId());
+                if (rawText == null) {
+                    // Offer was deleted or carries no text; nothing left to extract
+                    extractionQueueService.complete(task.getId());
+                    return;
+                }
+                if (remoteAvailable) {
+                    extractedData = extractorService.extractFromText(rawText);
+                } else {
+                    Optional<ExtractorResponse> local = extractorService.extractLocally(rawText);
+                    if (local.isEmpty()) {
+                        // Needs the extractor service; retry once it may be back, without counting the attempt
+                        extractionQueueService.defer(task.getId(), unavailableRetryMs);
+                        return;
+                    }
+                    extractedData = local.get();
+                }
+            }
+
+            jobOfferService.applyExtraction(task.getJobOfferId(), extractedData, fromDocument);
+            extractionQueueService.complete(task.getId());
+            // Local tier answers carry no embedding; fetch it separately so the offer joins the similarity index
+            if (extractedData.getEmbedding() == null || extractedData.getEmbedding().length == 0) {
+                extractionQueueService.enqueueEmbedding(task.getJobOfferId());
+            }
+        } catch (Exception e) {
+            System.err.println("Extraction task " + task.getId() + " failed: " + e.getMessage());
+            extractionQueueService.fail(task.getId(), e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        }
+    }
+
+    private static String resolveNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,175 @@
+package com.jobplatform.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Circuit breaker for the extractor service over a sliding window of the last calls. It opens when
+ * too many calls fail or are slow, rejects calls while open, then lets a few probe calls through
+ * (half-open) to decide whether to close again.
+ */
+@Component
+public class ExtractorCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private static final byte SUCCESS = 0;
+    private static final byte FAILURE = 1;
+    private static final byte SLOW = 2;
+
+    @Value("${extractor.circuit.window-size:20}")
+    private int windowSize;
+
+    @Value("${extractor.circuit.minimum-calls:10}")
+    private int minimumCalls;
+
+    @Value("${extractor.circuit.failure-rate-threshold:50}")
+    private int failureRateThreshold;
+
+    @Value("${extractor.circuit.slow-call-threshold-ms:10000}")
+    private long slowCallThresholdMs;
+
+    @Value("${extractor.circuit.slow-call-rate-threshold:80}")
+    private int slowCallRateThreshold;
+
+    @Value("${extractor.circuit.open-duration-ms:30000}")
+    private long openDurationMs;
+
+    @Value("${extractor.circuit.half-open-calls:3}")
+    private int halfOpenCalls;
+
+    private State state = State.CLOSED;
+    private byte[] window;
+    private int recorded;
+    private int next;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    private long rejectedCalls;
+    private long timesOpened;
+
+    /**
+     * Whether a call may go to the extractor now; a permitted call must be reported with onSuccess or onFailure
+     */
+    public synchronized boolean tryAcquirePermission() {
+        refreshState();
+        switch (state) {
+            case CLOSED:
+                return true;
+            case HALF_OPEN:
+                if (halfOpenPermits > 0) {
+                    halfOpenPermits--;
+                    return true;
+                }
+                rejectedCalls++;
+                return false;
+            default:
+                rejectedCalls++;
+                return false;
+        }
+    }
+
+    public synchronized void onSuccess(long elapsedMs) {
+        record(elapsedMs >= slowCallThresholdMs ? SLOW : SUCCESS);
+    }
+
+    public synchronized void onFailure(long elapsedMs) {
+        record(FAILURE);
+    }
+
+    /**
+     * The health prober saw the service answer; skip the rest of the open period and start probing
+     */
+    public synchronized void onHealthy() {
+        if (state == State.OPEN) {
+            transitionTo(State.HALF_OPEN);
+        }
+    }
+
+    public synchronized State getState() {
+        refreshState();
+        return state;
+    }
+
+    public synchronized Map<String, Object> getMetrics() {
+        refreshState();
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("state", state);
+        metrics.put("bufferedCalls", recorded);
+        metrics.put("failureRate", rate(FAILURE));
+        metrics.put("slowCallRate", rate(SLOW));
+        metrics.put("rejectedCalls", rejectedCalls);
+        metrics.put("timesOpened", timesOpened);
+        return metrics;
+    }
+
+    private void record(byte outcome) {
+        if (state == State.HALF_OPEN) {
+            if (outcome != SUCCESS) {
+                transitionTo(State.OPEN);
+            } else if (++halfOpenSuccesses >= halfOpenCalls) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        if (state == State.OPEN) {
+            // Late answer of a call started before the circuit opened
+            return;
+        }
+
+        if (window == null) {
+            window = new byte[windowSize];
+        }
+        window[next] = outcome;
+        next = (next + 1) % windowSize;
+        recorded = Math.min(recorded + 1, windowSize);
+
+        if (recorded >= minimumCalls
+                && (rate(FAILURE) >= failureRateThreshold || rate(SLOW) >= slowCallRateThreshold)) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private double rate(byte outcome) {
+        if (recorded == 0) {
+            return 0.0;
+        }
+        int count = 0;
+        for (int i = 0; i < recorded; i++) {
+            if (window[i] == outcome) {
+                count++;
+            }
+        }
+        return count * 100.0 / recorded;
+    }
+
+    private void refreshState() {
+        if (state == State.OPEN && System.currentTimeMillis() - openedAt >= openDurationMs) {
+            transitionTo(State.HALF_OPEN);
+        }
+    }
+
+    private void transitionTo(State newState) {
+        state = newState;
+        switch (newState) {
+            case OPEN:
+                openedAt = System.currentTimeMillis();
+                timesOpened++;
+                break;
+            case HALF_OPEN:
+                halfOpenPermits = halfOpenCalls;
+                halfOpenSuccesses = 0;
+                break;
+            default:
+                recorded = 0;
+                next = 0;
+                break;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.jobplatform.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Polls the extractor /health endpoint in the background so availability checks never block on the network
+ */
+@Component
+public class ExtractorHealthProber {
+
+    @Autowired
+    @Qualifier("extractorHealthRestTemplate")
+    private RestTemplate restTemplate;
+
+    @Autowired
+    private ExtractorCircuitBreaker circuitBreaker;
+
+    @Value("${extractor.service.url:http://localhost:5000}")
+    private String extractorServiceUrl;
+
+    // Assume healthy until the first probe says otherwise
+    private volatile boolean healthy = true;
+
+    private volatile Instant lastCheckedAt;
+
+    private volatile String lastError;
+
+    @Scheduled(fixedDelayString = "${extractor.health.interval-ms:5000}")
+    public void probe() {
+        try {
+            ResponseEntity<String> response = restTemplate.getForEntity(extractorServiceUrl + "/health", String.class);
+            healthy = response.getStatusCode().is2xxSuccessful();
+            lastError = healthy ? null : "Health check returned " + response.getStatusCode();
+        } catch (Exception e) {
+            healthy = false;
+            lastError = e.getMessage();
+        }
+        lastCheckedAt = Instant.now();
+
+        if (healthy) {
+            circuitBreaker.onHealthy();
+        }
+    }
+
+    /**
+     * Result of the latest health probe
+     */
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new HashMap<>();
+        status.put("healthy", healthy);
+        status.put("lastCheckedAt", lastCheckedAt != null ? lastCheckedAt.toString() : null);
+        status.put("lastError", lastError);
+        return status;
+    }
+}
@@ -1,17 +1,45 @@
 package com.jobplatform.service;
 
 // import com.jobplatform.dto.ExtractorRequest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.jobplatform.config.MeteredConnectionManager;
 import com.jobplatform.dto.ExtractorResponse;
+import com.jobplatform.extraction.ExtractorResponseDecoder;
+import com.jobplatform.extraction.LocalExtraction;
+import com.jobplatform.extraction.LocalExtractionEngine;
+import com.jobplatform.extraction.SkillDictionary;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.*;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.stereotype.Service;
+import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.sql.Blob;
+import java.sql.SQLException;
 import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 
 @Service
 public class ExtractorService {
@@ -21,14 +49,186 @@ public class ExtractorService {
     
     private final RestTemplate restTemplate;
     
-    public ExtractorService() {
-        this.restTemplate = new RestTemplate();
+    private final MeteredConnectionManager connectionManager;
+    
+    private final ExtractionCacheService extractionCache;
+    
+    private final LocalExtractionEngine localExtractionEngine;
+    
+    private final SkillDictionary skillDictionary;
+    
+    private final ExtractorCircuitBreaker circuitBreaker;
+    
+    private final ExtractorHealthProber healthProber;
+    
+    private final UploadMemoryBudget uploadMemoryBudget;
+    
+    @Value("${extractor.bulkhead.max-concurrent-calls:16}")
+    private int bulkheadMaxConcurrentCalls;
+    
+    @Value("${extractor.bulkhead.max-wait-ms:500}")
+    private long bulkheadMaxWaitMs;
+    
+    // Caps concurrent extractor calls so a slow service cannot pin every request thread
+    private Semaphore bulkhead;
+    
+    private final LongAdder bulkheadRejections = new LongAdder();
+    
+    @Value("${extractor.local.enabled:true}")
+    private boolean localEnabled;
+    
+    @Value("${extractor.local.min-confidence:0.9}")
+    private double localMinConfidence;
+    
+    @Value("${extractor.local.required-fields:jobTitle,company}")
+    private List<String> localRequiredFields;
+    
+    private final LongAdder localAnswers = new LongAdder();
+    
+    private final LongAdder remoteCalls = new LongAdder();
+    
+    private final LongAdder collapsedCalls = new LongAdder();
+    
+    // Extractor calls currently running, keyed by text fingerprint or document hash
+    private final ConcurrentHashMap<String, CompletableFuture<ExtractorResponse>> inFlight = new ConcurrentHashMap<>();
+    
+    public ExtractorService(@Qualifier("extractorRestTemplate") RestTemplate restTemplate,
+                            MeteredConnectionManager connectionManager,
+                            ExtractionCacheService extractionCache,
+                            LocalExtractionEngine localExtractionEngine,
+                            SkillDictionary skillDictionary,
+                            ExtractorCircuitBreaker circuitBreaker,
+                            ExtractorHealthProber healthProber,
+                            UploadMemoryBudget uploadMemoryBudget) {
+        this.restTemplate = restTemplate;
+        this.connectionManager = connectionManager;
+        this.extractionCache = extractionCache;
+        this.localExtractionEngine = localExtractionEngine;
+        this.skillDictionary = skillDictionary;
+        this.circuitBreaker = circuitBreaker;
+        this.healthProber = healthProber;
+        this.uploadMemoryBudget = uploadMemoryBudget;
+    }
+    
+    @PostConstruct
+    void initBulkhead() {
+        bulkhead = new Semaphore(bulkheadMaxConcurrentCalls);
     }
     
     /**
-     * Extract job information from raw text
+     * Extract job information from raw text. The in-process heuristics answer first; only texts whose
+     * key fields stay below the confidence threshold are sent to the extractor service.
      */
     public ExtractorResponse extractFromText(String text) {
+        String fingerprint = ExtractionCacheService.fingerprint(text);
+        return extractLocally(text, fingerprint)
+            .orElseGet(() -> extractRemotely(fingerprint, text, () -> requestExtraction(text, fingerprint)));
+    }
+    
+    /**
+     * Extract job information from raw text with the in-process heuristics only; empty when they are
+     * disabled or not confident enough, i.e. when the text needs the extractor service
+     */
+    public Optional<ExtractorResponse> extractLocally(String text) {
+        return extractLocally(text, ExtractionCacheService.fingerprint(text));
+    }
+    
+    private Optional<ExtractorResponse> extractLocally(String text, String fingerprint) {
+        if (!localEnabled) {
+            return Optional.empty();
+        }
+        LocalExtraction local = localExtractionEngine.extract(text);
+        if (!local.isConfident(localRequiredFields, localMinConfidence)) {
+            return Optional.empty();
+        }
+        localAnswers.increment();
+        ExtractorResponse result = local.getResponse();
+        result.setFingerprint(fingerprint);
+        return Optional.of(result);
+    }
+    
+    /**
+     * Serve a result from the cache or call the extractor service. Concurrent requests for the same
+     * key share one in-flight call and each receive a copy of its response (or its failure).
+     * inputText is the text being extracted, null for documents; the persistent cache does not keep
+     * it, so it is restored on hits.
+     */
+    private ExtractorResponse extractRemotely(String key, String inputText, Supplier<ExtractorResponse> call) {
+        Optional<ExtractorResponse> cached = extractionCache.get(key);
+        if (cached.isPresent()) {
+            ExtractorResponse result = cached.get();
+            if (result.getRawText() == null) {
+                result.setRawText(inputText);
+            }
+            return result;
+        }
+        
+        CompletableFuture<ExtractorResponse> flight = new CompletableFuture<>();
+        CompletableFuture<ExtractorResponse> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            collapsedCalls.increment();
+            try {
+                return extractionCache.copyOf(leader.join());
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+        
+        try {
+            long start = System.nanoTime();
+            ExtractorResponse result = callExtractor(call);
+            extractionCache.put(key, result, (System.nanoTime() - start) / 1_000_000, inputText == null);
+            // Followers copy from a private snapshot, so this caller may change the original
+            flight.complete(extractionCache.copyOf(result));
+            return result;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+    
+    /**
+     * Run one extractor call inside the bulkhead and circuit breaker; fails fast when either refuses it
+     */
+    private <T> T callExtractor(Supplier<T> call) {
+        boolean admitted;
+        try {
+            admitted = bulkhead.tryAcquire(bulkheadMaxWaitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for the extractor service", e);
+        }
+        if (!admitted) {
+            bulkheadRejections.increment();
+            throw new RuntimeException("Extractor service is saturated: " + bulkheadMaxConcurrentCalls + " calls in progress");
+        }
+        
+        try {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                throw new RuntimeException("Extractor service is unavailable (circuit open)");
+            }
+            
+            remoteCalls.increment();
+            long start = System.nanoTime();
+            try {
+                T result = call.get();
+                circuitBreaker.onSuccess((System.nanoTime() - start) / 1_000_000);
+                return result;
+            } catch (RuntimeException e) {
+                circuitBreaker.onFailure((System.nanoTime() - start) / 1_000_000);
+                throw e;
+            }
+        } finally {
+            bulkhead.release();
+        }
+    }
+    
+    /**
+     * Call the extractor service for raw text
+     */
+    private ExtractorResponse requestExtraction(String text, String fingerprint) {
         try {
             // Call the Flask service directly
             String url = extractorServiceUrl + "/api/extract";
@@ -43,141 +243,62 @@ public class ExtractorService {
             
             HttpEntity<Map<String, String>> request = new HttpEntity<>(requestBody, headers);
             
-            // Make the request to Flask service and get raw response
-            ResponseEntity<String> response = restTemplate.postForEntity(url, request, String.class);
-            
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                // Parse JSON response manually to avoid type casting issues
-                // String jsonResponse = response.getBody();
-                
-                // For now, return a mock response that matches the Flask output structure
-                // This will be replaced with proper JSON parsing
-                ExtractorResponse result = new ExtractorResponse();
+            // Decode the Flask response while it is read off the connection
+            ExtractorResponse result = restTemplate.execute(url, HttpMethod.POST, restTemplate.httpEntityCallback(request),
+                ExtractorService::decodeResponse);
+            if (result.getFingerprint() == null) {
+                result.setFingerprint(fingerprint);
+            }
+            if (result.getRawText() == null) {
                 result.setRawText(text);
-                result.setLanguage("en");
-                result.setInferredDomain("Web Development");
-                result.setFingerprint("test-fingerprint");
-                
-                // Set job title from text analysis
-                ExtractorResponse.JobTitle title = new ExtractorResponse.JobTitle();
-                if (text.contains("Job Title:")) {
-                    String jobTitle = text.substring(text.indexOf("Job Title:") + 10, text.indexOf("\n", text.indexOf("Job Title:")));
-                    title.setValue(jobTitle.trim());
-                } else {
-                    title.setValue("Software Engineer");
-                }
-                title.setConfidence(0.95);
-                result.setJobTitle(title);
-                
-                // Set company from text analysis
-                ExtractorResponse.Company company = new ExtractorResponse.Company();
-                if (text.contains("Company:")) {
-                    String companyName = text.substring(text.indexOf("Company:") + 8, text.indexOf("\n", text.indexOf("Company:")));
-                    company.setValue(companyName.trim());
-                } else {
-                    company.setValue("GlobalSoft Ltd");
-                }
-                company.setConfidence(0.95);
-                result.setCompany(company);
-                
-                // Set location from text analysis
-                ExtractorResponse.Location location = new ExtractorResponse.Location();
-                if (text.contains("Location:")) {
-                    String locationText = text.substring(text.indexOf("Location:") + 9, text.indexOf("\n", text.indexOf("Location:")));
-                    location.setValue(java.util.Arrays.asList(locationText.trim()));
-                } else {
-                    location.setValue(java.util.Arrays.asList("London, United Kingdom"));
-                }
-                location.setConfidence(0.8);
-                result.setLocation(location);
-                
-                // Set contract type
-                if (text.contains("Contract Type:")) {
-                    String contractType = text.substring(text.indexOf("Contract Type:") + 13, text.indexOf("\n", text.indexOf("Contract Type:")));
-                    result.setContractType(java.util.Arrays.asList(contractType.trim()));
-                } else {
-                    result.setContractType(java.util.Arrays.asList("Internship"));
-                }
-                
-                // Set type
-                result.setType("Internship");
-                
-                // Set salary
-                if (text.contains("Salary:")) {
-                    String salary = text.substring(text.indexOf("Salary:") + 7, text.indexOf("\n", text.indexOf("Salary:")));
-                    result.setSalary(java.util.Arrays.asList(salary.trim()));
-                } else {
-                    result.setSalary(java.util.Arrays.asList("£1,200 per month"));
-                }
-                
-                // Set duration
-                if (text.contains("3 months")) {
-                    result.setDuration(java.util.Arrays.asList("3 months"));
-                } else {
-                    result.setDuration(java.util.Arrays.asList("6 months"));
-                }
-                
-                // Set deadline
-                if (text.contains("Start Date:")) {
-                    String deadline = text.substring(text.indexOf("Start Date:") + 11, text.indexOf("\n", text.indexOf("Start Date:")));
-                    result.setDeadline(java.util.Arrays.asList(deadline.trim()));
-                } else {
-                    result.setDeadline(java.util.Arrays.asList("2025-11-01"));
-                }
-                
-                // Set skills
-                java.util.List<ExtractorResponse.Skill> skills = new java.util.ArrayList<>();
-                String[] skillNames = {"java", "typescript", "react", "spring boot", "docker", "kubernetes"};
-                for (String skillName : skillNames) {
-                    if (text.toLowerCase().contains(skillName)) {
-                        ExtractorResponse.Skill skill = new ExtractorResponse.Skill();
-                        skill.setSkill(skillName);
-                        skill.setConfidence(0.8);
-                        skills.add(skill);
-                    }
-                }
-                result.setSkills(skills);
-                
-                // Set contacts
-                ExtractorResponse.Contacts contacts = new ExtractorResponse.Contacts();
-                java.util.List<String> emails = new java.util.ArrayList<>();
-                if (text.contains("@")) {
-                    String[] words = text.split("\\s+");
-                    for (String word : words) {
-                        if (word.contains("@")) {
-                            emails.add(word.replaceAll("[^a-zA-Z0-9@.]", ""));
-                        }
-                    }
-                }
-                contacts.setEmails(emails);
-                result.setContacts(contacts);
-                
-                // Set metadata
-                Map<String, Object> metadata = new HashMap<>();
-                metadata.put("text_length", text.length());
-                metadata.put("chunks", 1);
-                metadata.put("processed_at", java.time.Instant.now().toString());
-                result.setMetadata(metadata);
-                
-                return result;
-            } else {
-                throw new RuntimeException("Flask service returned error: " + response.getStatusCode());
             }
+            return result;
             
         } catch (Exception e) {
             throw new RuntimeException("Failed to extract job information: " + e.getMessage(), e);
         }
     }
     
+    /**
+     * Fetch only the embedding of a text, for offers the local tier extracted; empty when the extractor
+     * service computes none
+     */
+    public float[] requestEmbedding(String text) {
+        return callExtractor(() -> {
+            try {
+                HttpHeaders headers = new HttpHeaders();
+                headers.setContentType(MediaType.APPLICATION_JSON);
+                JsonNode response = restTemplate.postForObject(extractorServiceUrl + "/api/embed",
+                    new HttpEntity<>(Map.of("text", text), headers), JsonNode.class);
+                JsonNode values = response != null ? response.path("embedding") : null;
+                float[] embedding = new float[values != null && values.isArray() ? values.size() : 0];
+                for (int i = 0; i < embedding.length; i++) {
+                    embedding[i] = (float) values.get(i).asDouble();
+                }
+                return embedding;
+            } catch (Exception e) {
+                throw new RuntimeException("Failed to fetch embedding: " + e.getMessage(), e);
+            }
+        });
+    }
+    
+    private static ExtractorResponse decodeResponse(ClientHttpResponse response) throws IOException {
+        if (response.getStatusCode() != HttpStatus.OK) {
+            throw new RuntimeException("Flask service returned error: " + response.getStatusCode());
+        }
+        return ExtractorResponseDecoder.decode(response.getBody());
+    }
+    
     /**
      * Extract job information from uploaded file
      */
     public ExtractorResponse extractFromFile(MultipartFile file) {
-        try {
-            String filename = file.getOriginalFilename() != null ? file.getOriginalFilename().toLowerCase() : "";
+        try (UploadMemoryBudget.Permit ignored = uploadMemoryBudget.admit(file.getSize())) {
             // For binary documents, send directly to extractor (let Flask do OCR/text handling)
-            if (filename.endsWith(".pdf") || filename.endsWith(".doc") || filename.endsWith(".docx")) {
-                return extractFromFileDirect(file);
+            if (isBinaryDocument(file.getOriginalFilename())) {
+                String fileHash = hashFile(file);
+                // Stream from the multipart spool instead of copying the document onto the heap
+                return extractRemotely(fileHash, null, () -> extractFromFileDirect(file.getOriginalFilename(), file.getResource()));
             }
 
             // For text-like files, read bytes as UTF-8 and extract
@@ -190,45 +311,93 @@ public class ExtractorService {
     }
     
     /**
-     * Extract job information from file by sending file directly to extractor
+     * Extract job information from a document kept by the extraction queue, streamed from its BLOB.
+     * The caller holds the upload budget for length bytes and keeps the BLOB readable for this call.
      */
-    private ExtractorResponse extractFromFileDirect(MultipartFile file) {
+    public ExtractorResponse extractFromStoredFile(String originalFilename, long length, Blob content) {
+        try {
+            if (isBinaryDocument(originalFilename)) {
+                String fileHash;
+                try (InputStream in = content.getBinaryStream()) {
+                    fileHash = hash(in);
+                }
+                // Opened only when the request body is written, so a collapsed call never opens it
+                Resource resource = new AbstractResource() {
+                    @Override
+                    public InputStream getInputStream() throws IOException {
+                        try {
+                            return content.getBinaryStream();
+                        } catch (SQLException e) {
+                            throw new IOException(e);
+                        }
+                    }
+                    
+                    @Override
+                    public String getFilename() {
+                        return originalFilename;
+                    }
+                    
+                    @Override
+                    public long contentLength() {
+                        return length;
+                    }
+                    
+                    @Override
+                    public String getDescription() {
+                        return "Stored document [" + originalFilename + "]";
+                    }
+                };
+                return extractRemotely(fileHash, null, () -> extractFromFileDirect(originalFilename, resource));
+            }
+            try (InputStream in = content.getBinaryStream()) {
+                return extractFromText(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        } catch (IOException | SQLException e) {
+            throw new RuntimeException("Failed to read stored document: " + e.getMessage(), e);
+        }
+    }
+    
+    private boolean isBinaryDocument(String originalFilename) {
+        String filename = originalFilename != null ? originalFilename.toLowerCase() : "";
+        return filename.endsWith(".pdf") || filename.endsWith(".doc") || filename.endsWith(".docx");
+    }
+    
+    /**
+     * SHA-256 of an uploaded document, streamed so the file is not copied onto the heap
+     */
+    private String hashFile(MultipartFile file) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            return hash(in);
+        }
+    }
+    
+    private static String hash(InputStream content) throws IOException {
+        MessageDigest digest = ExtractionCacheService.newSha256();
+        new DigestInputStream(content, digest).transferTo(OutputStream.nullOutputStream());
+        return HexFormat.of().formatHex(digest.digest());
+    }
+    
+    /**
+     * Extract job information from file by sending file directly to extractor. The document is
+     * written to the request as it is read from the resource, never buffered as a whole.
+     */
+    private ExtractorResponse extractFromFileDirect(String originalFilename, Resource content) {
         try {
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.MULTIPART_FORM_DATA);
 
-            org.springframework.util.LinkedMultiValueMap<String, Object> multipartBody = new org.springframework.util.LinkedMultiValueMap<>();
+            LinkedMultiValueMap<String, Object> multipartBody = new LinkedMultiValueMap<>();
 
             // Ensure filename and content-disposition are set for the file part
-            final String originalFilename = file.getOriginalFilename();
-            org.springframework.core.io.ByteArrayResource resource = new org.springframework.core.io.ByteArrayResource(file.getBytes()) {
-                @Override
-                public String getFilename() {
-                    return originalFilename;
-                }
-            };
-
             HttpHeaders partHeaders = new HttpHeaders();
             partHeaders.setContentType(MediaType.APPLICATION_OCTET_STREAM);
             partHeaders.setContentDispositionFormData("file", originalFilename);
-            HttpEntity<org.springframework.core.io.ByteArrayResource> filePart = new HttpEntity<>(resource, partHeaders);
-            multipartBody.add("file", filePart);
+            multipartBody.add("file", new HttpEntity<>(content, partHeaders));
 
-            HttpEntity<org.springframework.util.LinkedMultiValueMap<String, Object>> entity = new HttpEntity<>(multipartBody, headers);
+            HttpEntity<LinkedMultiValueMap<String, Object>> entity = new HttpEntity<>(multipartBody, headers);
 
-            ResponseEntity<java.util.Map<String, Object>> response = restTemplate.exchange(
-                extractorServiceUrl + "/api/batch-extract",
-                HttpMethod.POST,
-                entity,
-                (Class<java.util.Map<String, Object>>)(Class<?>) java.util.Map.class
-            );
-
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                Map<String, Object> map = response.getBody();
-                return convertMapToExtractorResponse(map);
-            }
-
-            throw new RuntimeException("Extractor service returned status: " + response.getStatusCode());
+            return restTemplate.execute(extractorServiceUrl + "/api/batch-extract", HttpMethod.POST,
+                restTemplate.httpEntityCallback(entity), ExtractorService::decodeResponse);
 
         } catch (Exception e) {
             throw new RuntimeException("Failed to extract from file: " + e.getMessage(), e);
@@ -236,16 +405,10 @@ public class ExtractorService {
     }
     
     /**
-     * Check if extractor service is available
+     * Check if extractor service is available, from the last background health probe and the circuit state
      */
     public boolean isExtractorAvailable() {
-        try {
-            String url = extractorServiceUrl + "/health";
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
-            return response.getStatusCode().is2xxSuccessful();
-        } catch (Exception e) {
-            return false;
-        }
+        return healthProber.isHealthy() && circuitBreaker.getState() != ExtractorCircuitBreaker.State.OPEN;
     }
     
     /**
@@ -255,98 +418,27 @@ public class ExtractorService {
         Map<String, Object> status = new HashMap<>();
         status.put("available", isExtractorAvailable());
         status.put("url", extractorServiceUrl);
-        return status;
-    }
-    
-    /**
-     * Convert Map response from Flask to ExtractorResponse
-     */
-    private ExtractorResponse convertMapToExtractorResponse(Map<String, Object> map) {
-        ExtractorResponse response = new ExtractorResponse();
-        
-        // Set basic fields - handle both flat and nested structures
-        response.setRawText((String) map.get("raw_text"));
-        response.setLanguage((String) map.get("language"));
-        response.setInferredDomain((String) map.get("inferred_domain"));
-        
-        // Set job title - handle both flat and nested structures
-        String jobTitle = (String) map.get("job_title");
-        if (jobTitle != null) {
-            ExtractorResponse.JobTitle title = new ExtractorResponse.JobTitle();
-            title.setValue(jobTitle);
-            title.setConfidence(0.8); // Default confidence
-            response.setJobTitle(title);
-        }
+        status.put("pool", connectionManager.getMetrics());
+        status.put("cache", extractionCache.getStats());
         
-        // Set company - handle both flat and nested structures
-        String company = (String) map.get("company");
-        if (company != null) {
-            ExtractorResponse.Company comp = new ExtractorResponse.Company();
-            comp.setValue(company);
-            comp.setConfidence(0.8); // Default confidence
-            response.setCompany(comp);
-        }
-        
-        // Set location - handle both flat and nested structures
-        String location = (String) map.get("location");
-        if (location != null) {
-            ExtractorResponse.Location loc = new ExtractorResponse.Location();
-            loc.setValue(java.util.Arrays.asList(location));
-            loc.setConfidence(0.8); // Default confidence
-            response.setLocation(loc);
-        }
-        
-        // Set contract type - handle both flat and nested structures
-        String contractType = (String) map.get("contract_type");
-        if (contractType != null) {
-            response.setContractType(java.util.Arrays.asList(contractType));
-        }
-        
-        // Set salary - handle both flat and nested structures
-        String salary = (String) map.get("salary");
-        if (salary != null) {
-            response.setSalary(java.util.Arrays.asList(salary));
-        }
-        
-        // Set duration - handle both flat and nested structures
-        String duration = (String) map.get("duration");
-        if (duration != null) {
-            response.setDuration(java.util.Arrays.asList(duration));
-        }
+        Map<String, Object> tiers = new HashMap<>();
+        tiers.put("localEnabled", localEnabled);
+        tiers.put("localMinConfidence", localMinConfidence);
+        tiers.put("localAnswers", localAnswers.sum());
+        tiers.put("remoteCalls", remoteCalls.sum());
+        tiers.put("collapsedCalls", collapsedCalls.sum());
+        tiers.put("inFlight", inFlight.size());
+        status.put("tiers", tiers);
+        status.put("skills", skillDictionary.getStats());
+        status.put("health", healthProber.getStatus());
+        status.put("circuit", circuitBreaker.getMetrics());
         
-        // Set deadline - handle both flat and nested structures
-        String deadline = (String) map.get("deadline");
-        if (deadline != null) {
-            response.setDeadline(java.util.Arrays.asList(deadline));
-        }
-        
-        // Set skills - handle both flat and nested structures
-        Object skillsObj = map.get("skills");
-        if (skillsObj != null) {
-            if (skillsObj instanceof java.util.List) {
-                @SuppressWarnings("unchecked")
-                java.util.List<String> skills = (java.util.List<String>) skillsObj;
-                if (!skills.isEmpty()) {
-                    java.util.List<ExtractorResponse.Skill> skillList = new java.util.ArrayList<>();
-                    for (String skill : skills) {
-                        ExtractorResponse.Skill skillObj = new ExtractorResponse.Skill();
-                        skillObj.setSkill(skill);
-                        skillObj.setConfidence(0.7); // Default confidence
-                        skillList.add(skillObj);
-                    }
-                    response.setSkills(skillList);
-                } else {
-                    response.setSkills(new java.util.ArrayList<>());
-                }
-            } else {
-                // If skills is not a list (e.g., empty object {}), create empty list
-                response.setSkills(new java.util.ArrayList<>());
-            }
-        } else {
-            // If no skills found, create an empty list
-            response.setSkills(new java.util.ArrayList<>());
-        }
-        
-        return response;
+        Map<String, Object> bulkheadStatus = new HashMap<>();
+        bulkheadStatus.put("maxConcurrentCalls", bulkheadMaxConcurrentCalls);
+        bulkheadStatus.put("inUse", bulkheadMaxConcurrentCalls - bulkhead.availablePermits());
+        bulkheadStatus.put("rejectedCalls", bulkheadRejections.sum());
+        status.put("bulkhead", bulkheadStatus);
+        status.put("uploads", uploadMemoryBudget.getStatus());
+        return status;
     }
 }
@@ -0,0 +1,48 @@
+package com.jobplatform.service;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-value counts of the categorical job offer fields over a search's matching set
+ */
+public class FacetCounter {
+
+    public static final String DOMAIN = "domain";
+    public static final String CONTRACT_TYPE = "contractType";
+    public static final String LOCATION = "location";
+    public static final String TYPE = "type";
+
+    public static final List<String> FACETS = List.of(DOMAIN, CONTRACT_TYPE, LOCATION, TYPE);
+
+    private final Map<String, Map<String, long[]>> counts = new HashMap<>();
+
+    public FacetCounter() {
+        FACETS.forEach(facet -> counts.put(facet, new HashMap<>()));
+    }
+
+    public void add(String facet, String value, long count) {
+        if (value == null || value.isBlank() || count == 0) {
+            return;
+        }
+        counts.get(facet).computeIfAbsent(value, key -> new long[1])[0] += count;
+    }
+
+    /**
+     * Counts per facet, most frequent values first, keeping at most maxValues values per facet
+     */
+    public Map<String, Map<String, Long>> toMap(int maxValues) {
+        Map<String, Map<String, Long>> result = new LinkedHashMap<>();
+        for (String facet : FACETS) {
+            Map<String, Long> values = new LinkedHashMap<>();
+            counts.get(facet).entrySet().stream()
+                .sorted((a, b) -> Long.compare(b.getValue()[0], a.getValue()[0]))
+                .limit(maxValues)
+                .forEach(entry -> values.put(entry.getKey(), entry.getValue()[0]));
+            result.put(facet, values);
+        }
+        return result;
+    }
+}
@@ -3,8 +3,10 @@ package com.jobplatform.service;
 import com.jobplatform.dto.FavoriteDto;
 import com.jobplatform.entity.Favorite;
 import com.jobplatform.entity.JobOffer;
+import com.jobplatform.entity.JobOfferContent;
 import com.jobplatform.entity.User;
 import com.jobplatform.repository.FavoriteRepository;
+import com.jobplatform.repository.JobOfferContentRepository;
 import com.jobplatform.repository.JobOfferRepository;
 import com.jobplatform.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,6 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -29,6 +32,9 @@ public class FavoriteService {
     @Autowired
     private JobOfferRepository jobOfferRepository;
     
+    @Autowired
+    private JobOfferContentRepository jobOfferContentRepository;
+    
     public FavoriteDto addFavorite(Long seekerId, Long jobOfferId) {
         Optional<User> seekerOpt = userRepository.findById(seekerId);
         if (seekerOpt.isEmpty()) {
@@ -50,13 +56,16 @@ public class FavoriteService {
         
         Favorite favorite = new Favorite(seeker, jobOffer);
         Favorite savedFavorite = favoriteRepository.save(favorite);
-        return convertToDto(savedFavorite);
+        return convertToDto(savedFavorite, jobOfferContentRepository.findById(jobOfferId).orElse(null));
     }
     
     public List<FavoriteDto> getFavoritesBySeeker(Long seekerId) {
         List<Favorite> favorites = favoriteRepository.findBySeekerId(seekerId);
+        List<Long> jobOfferIds = favorites.stream().map(favorite -> favorite.getJobOffer().getId()).toList();
+        Map<Long, JobOfferContent> contents = jobOfferContentRepository.findAllById(jobOfferIds).stream()
+                .collect(Collectors.toMap(JobOfferContent::getJobOfferId, content -> content));
         return favorites.stream()
-                .map(this::convertToDto)
+                .map(favorite -> convertToDto(favorite, contents.get(favorite.getJobOffer().getId())))
                 .collect(Collectors.toList());
     }
     
@@ -91,17 +100,17 @@ public class FavoriteService {
         favoriteRepository.deleteBySeekerAndJobOffer(seeker, jobOffer);
     }
     
-    private FavoriteDto convertToDto(Favorite favorite) {
+    private FavoriteDto convertToDto(Favorite favorite, JobOfferContent content) {
         return new FavoriteDto(
             favorite.getId(),
             favorite.getSeeker().getId(),
             favorite.getJobOffer().getId(),
-            convertJobOfferToDto(favorite.getJobOffer()),
+            convertJobOfferToDto(favorite.getJobOffer(), content),
             LocalDateTime.now() // You might want to add createdAt to Favorite entity
         );
     }
     
-    private com.jobplatform.dto.JobOfferDto convertJobOfferToDto(JobOffer jobOffer) {
-        return new com.jobplatform.dto.JobOfferDto(jobOffer);
+    private com.jobplatform.dto.JobOfferDto convertJobOfferToDto(JobOffer jobOffer, JobOfferContent content) {
+        return new com.jobplatform.dto.JobOfferDto(jobOffer, content);
     }
 }
@@ -0,0 +1,79 @@
+package com.jobplatform.service;
+
+import com.jobplatform.entity.JobOfferEmbedding;
+import com.jobplatform.repository.JobOfferEmbeddingRepository;
+import com.jobplatform.similarity.EmbeddingCodec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Job offer embeddings kept in their own table as packed float32 (about 1.5 KB for MiniLM) with an
+ * optional int8 copy, so vector consumers never load or parse the offer's extracted JSON
+ */
+@Service
+@Transactional
+public class JobOfferEmbeddingService {
+
+    @Autowired
+    private JobOfferEmbeddingRepository jobOfferEmbeddingRepository;
+
+    @Value("${extractor.model.version:app-v1}")
+    private String modelVersion;
+
+    @Value("${embedding.store-quantized:true}")
+    private boolean storeQuantized;
+
+    /**
+     * Store or replace the embedding of a job offer
+     */
+    public void save(Long jobOfferId, float[] vector) {
+        JobOfferEmbedding embedding = jobOfferEmbeddingRepository.findById(jobOfferId)
+            .orElseGet(() -> new JobOfferEmbedding(jobOfferId));
+        embedding.setModelVersion(modelVersion);
+        embedding.setDimensions(vector.length);
+        embedding.setVector(EmbeddingCodec.pack(vector));
+
+        if (storeQuantized) {
+            float scale = EmbeddingCodec.quantizationScale(vector);
+            embedding.setQuantized(EmbeddingCodec.quantize(vector, scale));
+            embedding.setQuantScale(scale);
+        } else {
+            embedding.setQuantized(null);
+            embedding.setQuantScale(null);
+        }
+        jobOfferEmbeddingRepository.save(embedding);
+    }
+
+    /**
+     * Full-precision embedding of a job offer
+     */
+    @Transactional(readOnly = true)
+    public Optional<float[]> findVector(Long jobOfferId) {
+        return jobOfferEmbeddingRepository.findVectorByJobOfferId(jobOfferId).map(EmbeddingCodec::unpack);
+    }
+
+    /**
+     * Embedding reconstructed from its int8 copy, falling back to full precision when none was stored
+     */
+    @Transactional(readOnly = true)
+    public Optional<float[]> findQuantizedVector(Long jobOfferId) {
+        Optional<float[]> quantized = jobOfferEmbeddingRepository.findQuantizedByJobOfferId(jobOfferId)
+            .map(view -> EmbeddingCodec.dequantize(view.getQuantized(), view.getQuantScale()));
+        return quantized.isPresent() ? quantized : findVector(jobOfferId);
+    }
+
+    public void delete(Long jobOfferId) {
+        deleteAll(List.of(jobOfferId));
+    }
+
+    public void deleteAll(List<Long> jobOfferIds) {
+        if (!jobOfferIds.isEmpty()) {
+            jobOfferEmbeddingRepository.deleteByJobOfferIdIn(jobOfferIds);
+        }
+    }
+}
@@ -0,0 +1,712 @@
+package com.jobplatform.service;
+
+import com.jobplatform.bitmap.IdBitmap;
+import com.jobplatform.entity.JobOffer;
+import com.jobplatform.entity.Skill;
+import com.jobplatform.repository.JobOfferRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntPredicate;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory filter index of active job offers: one compressed bitmap of offer ids per distinct domain,
+ * contract type, location and type value and per normalized skill. Filter combinations become bitmap
+ * AND/OR operations and only the ids of the requested page are loaded from the database. Creation times
+ * and per-facet value ordinals sit in primitive arrays indexed by offer id, so sorting and facet counts
+ * touch no maps. Kept current by JobOfferService writes.
+ */
+@Component
+public class JobOfferFilterIndex {
+
+    private static final Set<String> SORTABLE = Set.of(JobOfferSearchIndex.SORT_RELEVANCE, "createdAt", "id");
+
+    private static final int LOAD_PAGE_SIZE = 1000;
+
+    private static final long LOAD_RETRY_INITIAL_MS = 1000;
+
+    private static final long LOAD_RETRY_MAX_MS = 60000;
+
+    private static final Pattern TOKEN_SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    @Autowired
+    private JobOfferRepository jobOfferRepository;
+
+    @Value("${search.filter-index.enabled:true}")
+    private boolean enabled;
+
+    @Value("${search.facets.max-values:20}")
+    private int maxFacetValues;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Facet -> stored value -> offers having it
+    private final Map<String, Map<String, IdBitmap>> values = new HashMap<>();
+
+    // Facet -> token -> stored values containing it; filters match values by token, like the Lucene search
+    private final Map<String, Map<String, Set<String>>> tokens = new HashMap<>();
+
+    // Normalized skill -> offers listing it
+    private final Map<String, IdBitmap> skills = new HashMap<>();
+
+    private IdBitmap active = new IdBitmap();
+
+    private final Map<Integer, Entry> entries = new HashMap<>();
+
+    // Creation time (epoch millis) of each active offer, by id
+    private long[] createdAtById = new long[0];
+
+    // Per facet, in FacetCounter.FACETS order: value ordinals of each active offer, for facet counts
+    private final List<FacetOrdinals> ordinals = new ArrayList<>();
+
+    // Offers written while a load runs; the load skips them rather than apply an older row
+    private Set<Integer> writtenDuringLoad;
+
+    private boolean clearedDuringLoad;
+
+    private final AtomicBoolean loading = new AtomicBoolean();
+
+    // Filters go to the other search backends until the index has been loaded
+    private volatile boolean ready;
+
+    // Bitmaps hold int ids; larger ids turn the index off
+    private volatile boolean overflow;
+
+    private volatile Instant lastLoadAt;
+
+    private final LongAdder queries = new LongAdder();
+
+    private final LongAdder queryNanos = new LongAdder();
+
+    public JobOfferFilterIndex() {
+        FacetCounter.FACETS.forEach(facet -> {
+            values.put(facet, new HashMap<>());
+            tokens.put(facet, new HashMap<>());
+            ordinals.add(new FacetOrdinals());
+        });
+    }
+
+    /**
+     * Whether searches with this sort can be answered from the index
+     */
+    public boolean canServe(Pageable pageable) {
+        if (!isReady()) {
+            return false;
+        }
+        return pageable.getSort().stream().allMatch(order -> SORTABLE.contains(order.getProperty()));
+    }
+
+    public boolean isReady() {
+        return enabled && ready && !overflow;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        Thread thread = new Thread(this::loadWithRetry, "filter-index-load");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // Retry a failed startup load (e.g. database not reachable yet) with exponential backoff
+    private void loadWithRetry() {
+        long delay = LOAD_RETRY_INITIAL_MS;
+        while (!load() && !overflow) {
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            delay = Math.min(delay * 2, LOAD_RETRY_MAX_MS);
+        }
+    }
+
+    /**
+     * Rebuild the index from the active offers in the database. False only when the load failed;
+     * a load already running counts as done.
+     */
+    public boolean load() {
+        if (!enabled || !loading.compareAndSet(false, true)) {
+            return true;
+        }
+        ready = false;
+        lock.writeLock().lock();
+        try {
+            clearAll();
+            writtenDuringLoad = new HashSet<>();
+            clearedDuringLoad = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            long afterId = 0;
+            List<Object[]> page;
+            do {
+                page = jobOfferRepository.findFilterValuesAfter(afterId, PageRequest.of(0, LOAD_PAGE_SIZE));
+                lock.writeLock().lock();
+                try {
+                    for (Object[] row : page) {
+                        afterId = (Long) row[0];
+                        if (afterId > Integer.MAX_VALUE) {
+                            overflow = true;
+                            throw new IllegalStateException("Job offer id " + afterId + " exceeds the int range");
+                        }
+                        int id = (int) afterId;
+                        if (clearedDuringLoad || writtenDuringLoad.contains(id)) {
+                            continue;
+                        }
+                        addEntry(id, toMillis((LocalDateTime) row[1]), new Entry(
+                            new String[] { (String) row[2], (String) row[3], (String) row[4], (String) row[5] },
+                            skillsOf((String) row[6])));
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            } while (page.size() == LOAD_PAGE_SIZE);
+            ready = true;
+            lastLoadAt = Instant.now();
+            return true;
+        } catch (Exception e) {
+            System.err.println("Failed to load filter index: " + e.getMessage());
+            return false;
+        } finally {
+            lock.writeLock().lock();
+            try {
+                writtenDuringLoad = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            loading.set(false);
+        }
+    }
+
+    /**
+     * Add, replace or drop a job offer depending on whether it is active
+     */
+    public void put(JobOffer jobOffer) {
+        if (!enabled) {
+            return;
+        }
+        if (jobOffer.getId() > Integer.MAX_VALUE) {
+            overflow = true;
+            return;
+        }
+        int id = jobOffer.getId().intValue();
+        lock.writeLock().lock();
+        try {
+            if (writtenDuringLoad != null) {
+                writtenDuringLoad.add(id);
+            }
+            removeEntry(id);
+            if (Boolean.TRUE.equals(jobOffer.getIsActive())) {
+                addEntry(id, toMillis(jobOffer.getCreatedAt()), new Entry(
+                    new String[] { jobOffer.getDomain(), jobOffer.getContractType(), jobOffer.getLocation(),
+                        jobOffer.getType() },
+                    skillsOf(jobOffer.getSkills())));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long jobOfferId) {
+        if (!enabled || jobOfferId > Integer.MAX_VALUE) {
+            return;
+        }
+        int id = jobOfferId.intValue();
+        lock.writeLock().lock();
+        try {
+            if (writtenDuringLoad != null) {
+                writtenDuringLoad.add(id);
+            }
+            removeEntry(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            clearAll();
+            clearedDuringLoad = writtenDuringLoad != null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * One page of active offers matching every given filter. Each filter is a list of alternatives:
+     * domain, contract type, location and type values match stored values containing all of their
+     * words (ignoring case and accents), skills match by normalized name. Null or empty filters match
+     * everything.
+     */
+    public JobOfferSearchIndex.SearchPage search(List<String> domains, List<String> contractTypes,
+                                                 List<String> locations, List<String> types,
+                                                 List<String> skillNames, Pageable pageable, boolean facets) {
+        long start = System.nanoTime();
+        lock.readLock().lock();
+        try {
+            IdBitmap matches = active;
+            matches = restrict(matches, matchValues(FacetCounter.DOMAIN, domains));
+            matches = restrict(matches, matchValues(FacetCounter.CONTRACT_TYPE, contractTypes));
+            matches = restrict(matches, matchValues(FacetCounter.LOCATION, locations));
+            matches = restrict(matches, matchValues(FacetCounter.TYPE, types));
+            matches = restrict(matches, matchSkills(skillNames));
+            long total = matches.cardinality();
+            return new JobOfferSearchIndex.SearchPage(topIds(matches, total, pageable), total,
+                facets ? countFacets(matches) : null);
+        } finally {
+            lock.readLock().unlock();
+            queries.increment();
+            queryNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("ready", isReady());
+        stats.put("loading", loading.get());
+        stats.put("lastLoadAt", lastLoadAt != null ? lastLoadAt.toString() : null);
+        long count = queries.sum();
+        stats.put("queries", count);
+        stats.put("avgQueryMicros", count == 0 ? null : queryNanos.sum() / 1000.0 / count);
+        lock.readLock().lock();
+        try {
+            stats.put("activeOffers", active.cardinality());
+            Map<String, Integer> distinct = new HashMap<>();
+            long bytes = active.sizeInBytes();
+            for (String facet : FacetCounter.FACETS) {
+                distinct.put(facet, values.get(facet).size());
+                bytes += values.get(facet).values().stream().mapToLong(IdBitmap::sizeInBytes).sum();
+            }
+            distinct.put("skills", skills.size());
+            bytes += skills.values().stream().mapToLong(IdBitmap::sizeInBytes).sum();
+            stats.put("distinctValues", distinct);
+            stats.put("bitmapBytes", bytes);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return stats;
+    }
+
+    // Union of the bitmaps of every stored value containing all words of one of the wanted values,
+    // found through the token map instead of scanning every value; null for no filter
+    private IdBitmap matchValues(String facet, List<String> wanted) {
+        List<String> terms = normalizeTerms(wanted);
+        if (terms.isEmpty()) {
+            return null;
+        }
+        Map<String, Set<String>> facetTokens = tokens.get(facet);
+        Set<String> matched = new HashSet<>();
+        for (String term : terms) {
+            Set<String> candidates = null;
+            for (String token : tokenize(term)) {
+                Set<String> containing = facetTokens.getOrDefault(token, Set.of());
+                if (candidates == null) {
+                    candidates = new HashSet<>(containing);
+                } else {
+                    candidates.retainAll(containing);
+                }
+            }
+            if (candidates != null) {
+                matched.addAll(candidates);
+            }
+        }
+        IdBitmap union = new IdBitmap();
+        for (String value : matched) {
+            union = union.or(values.get(facet).get(value));
+        }
+        return union;
+    }
+
+    // Lower-cased, accent-free words of a value
+    private static Set<String> tokenize(String value) {
+        String folded = MARKS.matcher(Normalizer.normalize(value, Normalizer.Form.NFD)).replaceAll("");
+        Set<String> words = new HashSet<>();
+        for (String word : TOKEN_SEPARATORS.split(folded.toLowerCase(Locale.ROOT))) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    private IdBitmap matchSkills(List<String> wanted) {
+        if (wanted == null || wanted.stream().allMatch(name -> Skill.normalize(name) == null)) {
+            return null;
+        }
+        IdBitmap union = new IdBitmap();
+        for (String name : wanted) {
+            IdBitmap bitmap = skills.get(Skill.normalize(name));
+            if (bitmap != null) {
+                union = union.or(bitmap);
+            }
+        }
+        return union;
+    }
+
+    private static IdBitmap restrict(IdBitmap matches, IdBitmap filter) {
+        return filter == null ? matches : matches.and(filter);
+    }
+
+    private static List<String> normalizeTerms(List<String> wanted) {
+        if (wanted == null) {
+            return List.of();
+        }
+        return wanted.stream()
+            .filter(Objects::nonNull)
+            .map(term -> term.trim().toLowerCase(Locale.ROOT))
+            .filter(term -> !term.isEmpty())
+            .toList();
+    }
+
+    /**
+     * Ids of the requested page. Ids grow with creation time, so the usual newest-first order is a
+     * descending walk of the matches that stops once the page is full; other orders keep only
+     * offset + size candidates in a heap over the primitive creation times.
+     */
+    private List<Long> topIds(IdBitmap matches, long total, Pageable pageable) {
+        if (pageable.getOffset() >= total) {
+            return List.of();
+        }
+        Boolean descending = idOrder(pageable.getSort());
+        if (descending != null) {
+            long offset = pageable.getOffset();
+            int pageSize = pageable.getPageSize();
+            List<Long> ids = new ArrayList<>(pageSize);
+            long[] seen = new long[1];
+            IntPredicate collect = id -> {
+                if (seen[0]++ >= offset) {
+                    ids.add((long) id);
+                }
+                return ids.size() < pageSize;
+            };
+            if (descending) {
+                matches.forEachDescendingWhile(collect);
+            } else {
+                matches.forEachWhile(collect);
+            }
+            return ids;
+        }
+
+        int limit = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), total);
+        IdOrder order = toOrder(pageable.getSort());
+        // Binary heap of the best limit ids seen so far, the worst of them at the root
+        int[] heap = new int[limit];
+        int[] size = new int[1];
+        matches.forEach(id -> {
+            if (size[0] < limit) {
+                heap[size[0]] = id;
+                siftUp(heap, size[0]++, order);
+            } else if (order.compare(id, heap[0]) < 0) {
+                heap[0] = id;
+                siftDown(heap, limit, order);
+            }
+        });
+        int[] sorted = new int[size[0]];
+        for (int n = size[0]; n > 0; n--) {
+            sorted[n - 1] = heap[0];
+            heap[0] = heap[n - 1];
+            siftDown(heap, n - 1, order);
+        }
+        List<Long> ids = new ArrayList<>(pageable.getPageSize());
+        for (int i = (int) pageable.getOffset(); i < sorted.length; i++) {
+            ids.add((long) sorted[i]);
+        }
+        return ids;
+    }
+
+    // TRUE or FALSE when the sort is plain id order, descending or ascending: every key is relevance
+    // (newest first without a keyword), createdAt or id in the same direction. Null otherwise.
+    private static Boolean idOrder(Sort sort) {
+        Boolean descending = null;
+        for (Sort.Order sortOrder : sort) {
+            boolean keyDescending = JobOfferSearchIndex.SORT_RELEVANCE.equals(sortOrder.getProperty())
+                || sortOrder.isDescending();
+            if (descending != null && descending != keyDescending) {
+                return null;
+            }
+            descending = keyDescending;
+        }
+        return descending != null ? descending : Boolean.TRUE;
+    }
+
+    // Without a keyword there is nothing to rank on, so relevance means newest first; ties go to the newest id
+    private IdOrder toOrder(Sort sort) {
+        long[] createdAt = createdAtById;
+        IdOrder newestFirst = (a, b) -> Long.compare(createdAt[b], createdAt[a]);
+        IdOrder order = null;
+        for (Sort.Order sortOrder : sort) {
+            IdOrder next = switch (sortOrder.getProperty()) {
+                case JobOfferSearchIndex.SORT_RELEVANCE -> newestFirst;
+                case "createdAt" -> sortOrder.isDescending() ? newestFirst : (a, b) -> newestFirst.compare(b, a);
+                default -> sortOrder.isDescending() ? (a, b) -> Integer.compare(b, a) : Integer::compare;
+            };
+            order = order == null ? next : order.then(next);
+        }
+        return (order != null ? order : newestFirst).then((a, b) -> Integer.compare(b, a));
+    }
+
+    @FunctionalInterface
+    private interface IdOrder {
+        int compare(int a, int b);
+
+        default IdOrder then(IdOrder next) {
+            return (a, b) -> {
+                int result = compare(a, b);
+                return result != 0 ? result : next.compare(a, b);
+            };
+        }
+    }
+
+    private static void siftUp(int[] heap, int i, IdOrder order) {
+        int id = heap[i];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (order.compare(id, heap[parent]) <= 0) {
+                break;
+            }
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = id;
+    }
+
+    private static void siftDown(int[] heap, int size, IdOrder order) {
+        if (size == 0) {
+            return;
+        }
+        int id = heap[0];
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && order.compare(heap[child + 1], heap[child]) > 0) {
+                child++;
+            }
+            if (order.compare(id, heap[child]) >= 0) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = id;
+    }
+
+    // One pass over the matches, incrementing the count of each facet value's ordinal
+    private Map<String, Map<String, Long>> countFacets(IdBitmap matches) {
+        int facetCount = ordinals.size();
+        int[][] byId = new int[facetCount][];
+        int[][] counts = new int[facetCount][];
+        for (int f = 0; f < facetCount; f++) {
+            byId[f] = ordinals.get(f).byId;
+            counts[f] = new int[ordinals.get(f).values.size() + 1];
+        }
+        matches.forEach(id -> {
+            for (int f = 0; f < facetCount; f++) {
+                counts[f][byId[f][id]]++;
+            }
+        });
+        FacetCounter counter = new FacetCounter();
+        for (int f = 0; f < facetCount; f++) {
+            List<String> facetValues = ordinals.get(f).values;
+            // Ordinal 0 is "no value"
+            for (int ordinal = 1; ordinal < counts[f].length; ordinal++) {
+                if (counts[f][ordinal] > 0) {
+                    counter.add(FacetCounter.FACETS.get(f), facetValues.get(ordinal - 1), counts[f][ordinal]);
+                }
+            }
+        }
+        return counter.toMap(maxFacetValues);
+    }
+
+    private void addEntry(int id, long createdAt, Entry entry) {
+        entries.put(id, entry);
+        active.add(id);
+        ensureCapacity(id);
+        createdAtById[id] = createdAt;
+        for (int i = 0; i < FacetCounter.FACETS.size(); i++) {
+            String value = entry.values[i];
+            if (value != null && !value.isBlank()) {
+                String facet = FacetCounter.FACETS.get(i);
+                IdBitmap bitmap = values.get(facet).get(value);
+                if (bitmap == null) {
+                    bitmap = new IdBitmap();
+                    values.get(facet).put(value, bitmap);
+                    for (String token : tokenize(value)) {
+                        tokens.get(facet).computeIfAbsent(token, key -> new HashSet<>()).add(value);
+                    }
+                }
+                bitmap.add(id);
+                ordinals.get(i).set(id, value);
+            }
+        }
+        for (String skill : entry.skills) {
+            skills.computeIfAbsent(skill, key -> new IdBitmap()).add(id);
+        }
+    }
+
+    // Values no active offer has any more are dropped, so the dictionaries only hold live values
+    private void removeEntry(int id) {
+        Entry entry = entries.remove(id);
+        if (entry == null) {
+            return;
+        }
+        active.remove(id);
+        createdAtById[id] = 0;
+        for (int i = 0; i < FacetCounter.FACETS.size(); i++) {
+            String value = entry.values[i];
+            if (value != null && !value.isBlank()) {
+                String facet = FacetCounter.FACETS.get(i);
+                removeFrom(values.get(facet), value, id);
+                ordinals.get(i).byId[id] = 0;
+                if (!values.get(facet).containsKey(value)) {
+                    ordinals.get(i).release(value);
+                    for (String token : tokenize(value)) {
+                        Set<String> containing = tokens.get(facet).get(token);
+                        if (containing != null && containing.remove(value) && containing.isEmpty()) {
+                            tokens.get(facet).remove(token);
+                        }
+                    }
+                }
+            }
+        }
+        for (String skill : entry.skills) {
+            removeFrom(skills, skill, id);
+        }
+    }
+
+    private static void removeFrom(Map<String, IdBitmap> bitmaps, String key, int id) {
+        IdBitmap bitmap = bitmaps.get(key);
+        if (bitmap == null) {
+            return;
+        }
+        bitmap.remove(id);
+        if (bitmap.isEmpty()) {
+            bitmaps.remove(key);
+        }
+    }
+
+    private void clearAll() {
+        entries.clear();
+        values.values().forEach(Map::clear);
+        tokens.values().forEach(Map::clear);
+        skills.clear();
+        active = new IdBitmap();
+        createdAtById = new long[0];
+        ordinals.forEach(FacetOrdinals::clear);
+    }
+
+    // Arrays indexed by id grow geometrically up to the largest active id
+    private void ensureCapacity(int id) {
+        if (id < createdAtById.length) {
+            return;
+        }
+        int length = (int) Math.min(Integer.MAX_VALUE - 8L, Math.max(id + 1L, createdAtById.length * 2L));
+        createdAtById = Arrays.copyOf(createdAtById, length);
+        ordinals.forEach(facet -> facet.byId = Arrays.copyOf(facet.byId, length));
+    }
+
+    private static String[] skillsOf(String skillsColumn) {
+        if (skillsColumn == null) {
+            return new String[0];
+        }
+        return Arrays.stream(skillsColumn.split(","))
+            .map(Skill::normalize)
+            .filter(Objects::nonNull)
+            .distinct()
+            .toArray(String[]::new);
+    }
+
+    private static long toMillis(LocalDateTime createdAt) {
+        return createdAt != null ? createdAt.toInstant(ZoneOffset.UTC).toEpochMilli() : 0L;
+    }
+
+    private static final class Entry {
+        // Stored values in FacetCounter.FACETS order
+        private final String[] values;
+        private final String[] skills;
+
+        Entry(String[] values, String[] skills) {
+            this.values = values;
+            this.skills = skills;
+        }
+    }
+
+    /**
+     * Dense ordinals of one facet's live values. byId holds ordinal + 1 of each offer's value, 0 for
+     * none; ordinals of values no offer has any more are reused.
+     */
+    private static final class FacetOrdinals {
+        private final Map<String, Integer> byValue = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+        private final ArrayDeque<Integer> free = new ArrayDeque<>();
+        private int[] byId = new int[0];
+
+        void set(int id, String value) {
+            Integer ordinal = byValue.get(value);
+            if (ordinal == null) {
+                if (free.isEmpty()) {
+                    ordinal = values.size();
+                    values.add(value);
+                } else {
+                    ordinal = free.pop();
+                    values.set(ordinal, value);
+                }
+                byValue.put(value, ordinal);
+            }
+            byId[id] = ordinal + 1;
+        }
+
+        void release(String value) {
+            Integer ordinal = byValue.remove(value);
+            if (ordinal != null) {
+                values.set(ordinal, null);
+                free.push(ordinal);
+            }
+        }
+
+        void clear() {
+            byValue.clear();
+            values.clear();
+            free.clear();
+            byId = new int[0];
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.jobplatform.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.jobplatform.dto.JobOfferSearchPage;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Bounded in-memory cache (Caffeine, W-TinyLFU) of search result pages keyed by the normalized search
+ * parameters. A global job offer version, bumped by every write, marks all entries stale at once; stale
+ * and expired entries keep being served while a single background refresh per key replaces them, and
+ * concurrent misses of one key share a single search.
+ */
+@Service
+public class JobOfferSearchCache {
+
+    @Value("${search.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${search.cache.max-entries:2000}")
+    private long maxEntries;
+
+    @Value("${search.cache.ttl-ms:30000}")
+    private long ttlMs;
+
+    @Value("${search.cache.max-stale-ms:300000}")
+    private long maxStaleMs;
+
+    @Value("${search.cache.max-page-size:50}")
+    private int maxPageSize;
+
+    @Value("${search.cache.refresh-threads:2}")
+    private int refreshThreads;
+
+    private Cache<String, Entry> cache;
+
+    private final ConcurrentHashMap<String, CompletableFuture<JobOfferSearchPage<Object>>> loading =
+        new ConcurrentHashMap<>();
+
+    private ThreadPoolExecutor refresher;
+
+    private final AtomicLong version = new AtomicLong();
+
+    private final LongAdder freshHits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder refreshFailures = new LongAdder();
+
+    @PostConstruct
+    void init() {
+        // Entries are only dropped for size or after max-stale; freshness is checked on read
+        cache = Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfterWrite(maxStaleMs, TimeUnit.MILLISECONDS)
+            .recordStats()
+            .build();
+        refresher = new ThreadPoolExecutor(refreshThreads, refreshThreads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(100), runnable -> {
+                Thread thread = new Thread(runnable, "search-cache-refresh");
+                thread.setDaemon(true);
+                return thread;
+            });
+    }
+
+    @PreDestroy
+    void stop() {
+        refresher.shutdownNow();
+    }
+
+    /**
+     * Whether results of this page size are cached; large pages would crowd out the hot ones
+     */
+    public boolean isCacheable(int pageSize) {
+        return enabled && pageSize <= maxPageSize;
+    }
+
+    /**
+     * Cached page for the key, or the loader's result. A page is fresh while no job offer was
+     * written and it is younger than the TTL; otherwise it is still returned once and refreshed in
+     * the background.
+     */
+    public JobOfferSearchPage<Object> get(String key, Supplier<JobOfferSearchPage<Object>> loader) {
+        Entry entry = cache.getIfPresent(key);
+        if (entry != null) {
+            if (entry.version == version.get() && System.nanoTime() - entry.loadedAt < ttlMs * 1_000_000) {
+                freshHits.increment();
+            } else {
+                staleHits.increment();
+                refreshInBackground(key, entry, loader);
+            }
+            return entry.page;
+        }
+        misses.increment();
+        return load(key, loader);
+    }
+
+    /**
+     * Mark every cached page stale. Called again after commit when inside a transaction, so a search
+     * running before the commit cannot store pre-commit results as current.
+     */
+    public void bumpVersion() {
+        version.incrementAndGet();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    version.incrementAndGet();
+                }
+            });
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        CacheStats cacheStats = cache.stats();
+        long fresh = freshHits.sum();
+        long stale = staleHits.sum();
+        long missCount = misses.sum();
+        long lookups = fresh + stale + missCount;
+
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("version", version.get());
+        stats.put("size", cache.estimatedSize());
+        stats.put("freshHits", fresh);
+        stats.put("staleHits", stale);
+        stats.put("misses", missCount);
+        stats.put("coalescedMisses", coalesced.sum());
+        stats.put("hitRatio", lookups > 0 ? (double) (fresh + stale) / lookups : 0.0);
+        stats.put("refreshes", refreshes.sum());
+        stats.put("refreshFailures", refreshFailures.sum());
+        stats.put("evictions", cacheStats.evictionCount());
+        return stats;
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    // Run the search once per key at a time; callers arriving meanwhile wait for the same result
+    private JobOfferSearchPage<Object> load(String key, Supplier<JobOfferSearchPage<Object>> loader) {
+        CompletableFuture<JobOfferSearchPage<Object>> mine = new CompletableFuture<>();
+        CompletableFuture<JobOfferSearchPage<Object>> running = loading.putIfAbsent(key, mine);
+        if (running != null) {
+            coalesced.increment();
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+        try {
+            // Read before searching: a write during the search leaves the entry stale
+            long loadedVersion = version.get();
+            long loadedAt = System.nanoTime();
+            JobOfferSearchPage<Object> page = loader.get();
+            cache.put(key, new Entry(page, loadedVersion, loadedAt));
+            mine.complete(page);
+            return page;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, mine);
+        }
+    }
+
+    private void refreshInBackground(String key, Entry entry, Supplier<JobOfferSearchPage<Object>> loader) {
+        if (!entry.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refresher.execute(() -> {
+                try {
+                    load(key, loader);
+                    refreshes.increment();
+                } catch (Exception e) {
+                    refreshFailures.increment();
+                    System.err.println("Search cache refresh failed: " + e.getMessage());
+                } finally {
+                    entry.refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Refresh queue full: keep serving the stale page and retry on a later hit
+            entry.refreshing.set(false);
+        }
+    }
+
+    private static final class Entry {
+        private final JobOfferSearchPage<Object> page;
+        private final long version;
+        private final long loadedAt;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        Entry(JobOfferSearchPage<Object> page, long version, long loadedAt) {
+            this.page = page;
+            this.version = version;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,668 @@
+package com.jobplatform.service;
+
+import com.jobplatform.dto.Cursor;
+import com.jobplatform.entity.JobOffer;
+import com.jobplatform.repository.JobOfferContentRepository;
+import com.jobplatform.repository.JobOfferRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SortedDocValues;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.MultiCollector;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ReferenceManager;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.SimpleCollector;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopDocsCollector;
+import org.apache.lucene.search.TopFieldCollector;
+import org.apache.lucene.search.TopScoreDocCollector;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.BitSetIterator;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.FixedBitSet;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Embedded Lucene index of active job offers on local disk, ranked with BM25. Writes from
+ * JobOfferService are visible to searches after the next near-real-time refresh.
+ */
+@Component
+public class JobOfferSearchIndex {
+
+    public static final String SORT_RELEVANCE = "relevance";
+
+    private static final Set<String> SORTABLE = Set.of(SORT_RELEVANCE, "createdAt", "id");
+
+    private static final int REBUILD_PAGE_SIZE = 500;
+
+    private static final String ID = "key";
+    private static final String TITLE = "title";
+    private static final String COMPANY = "company";
+    private static final String DESCRIPTION = "description";
+    private static final String SKILLS = "skills";
+    private static final String DOMAIN = "domain";
+    private static final String CONTRACT_TYPE = "contractType";
+    private static final String LOCATION = "location";
+    private static final String TYPE = "type";
+    private static final String CREATED_AT = "createdAt";
+    private static final String ID_SORT = "id";
+
+    // Bumped when the document layout changes, so indexes written by older versions get rebuilt
+    private static final String SCHEMA_KEY = "schema";
+    private static final String SCHEMA_VERSION = "2";
+
+    // Latest job offer modification (epoch millis) the committed index reflects
+    private static final String MODIFIED_KEY = "modifiedUpTo";
+
+    // Doc values holding the raw categorical values, counted for facets
+    private static final String FACET_PREFIX = "facet.";
+
+    // Longest value a sorted doc values field accepts
+    private static final int MAX_FACET_BYTES = 32766;
+
+    // Keyword matches on the title count more than matches buried in the description
+    private static final Map<String, Float> KEYWORD_FIELDS = Map.of(
+        TITLE, 3.0f,
+        SKILLS, 2.0f,
+        COMPANY, 2.0f,
+        DESCRIPTION, 1.0f);
+
+    @Autowired
+    private JobOfferRepository jobOfferRepository;
+
+    @Autowired
+    private JobOfferContentRepository jobOfferContentRepository;
+
+    @Autowired
+    private JobOfferSearchCache jobOfferSearchCache;
+
+    @Value("${search.backend:lucene}")
+    private String backend;
+
+    @Value("${search.lucene.path:data/search-index}")
+    private String indexPath;
+
+    @Value("${search.facets.max-values:20}")
+    private int maxFacetValues;
+
+    private final Analyzer analyzer = new Analyzer() {
+        @Override
+        protected TokenStreamComponents createComponents(String fieldName) {
+            StandardTokenizer tokenizer = new StandardTokenizer();
+            TokenStream stream = new ASCIIFoldingFilter(new LowerCaseFilter(tokenizer));
+            return new TokenStreamComponents(tokenizer, stream);
+        }
+    };
+
+    private FSDirectory directory;
+
+    private IndexWriter writer;
+
+    private SearcherManager searcherManager;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    // Serializes writes with the end of a rebuild; writes made while a rebuild runs are recorded here
+    // and replayed over the rebuilt documents before the index is served again
+    private final Object rebuildLock = new Object();
+
+    private List<IndexMutation> pendingMutations;
+
+    // Latest modification time of the offers written to the index, stored with each commit
+    private final AtomicLong modifiedUpTo = new AtomicLong();
+
+    // Searches go to the database until the index has been built at least once
+    private volatile boolean ready;
+
+    private volatile Instant lastRebuildAt;
+
+    @PostConstruct
+    void open() throws IOException {
+        if (!isEnabled()) {
+            return;
+        }
+        directory = FSDirectory.open(Path.of(indexPath));
+        IndexWriterConfig config = new IndexWriterConfig(analyzer);
+        config.setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+        // Only commitWithState commits, so every commit carries the modification mark
+        config.setCommitOnClose(false);
+        writer = new IndexWriter(directory, config);
+        searcherManager = new SearcherManager(writer, null);
+        // Writes reach searches only at the next refresh; results cached before it are stale from then on
+        searcherManager.addListener(new ReferenceManager.RefreshListener() {
+            @Override
+            public void beforeRefresh() {
+            }
+
+            @Override
+            public void afterRefresh(boolean didRefresh) {
+                if (didRefresh) {
+                    jobOfferSearchCache.bumpVersion();
+                }
+            }
+        });
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        if (writer == null) {
+            return;
+        }
+        searcherManager.close();
+        if (!rebuilding.get()) {
+            commitWithState();
+        }
+        writer.close();
+        directory.close();
+    }
+
+    public boolean isEnabled() {
+        return "lucene".equalsIgnoreCase(backend);
+    }
+
+    /**
+     * Whether searches with this sort can be answered from the index
+     */
+    public boolean canServe(Pageable pageable) {
+        if (!isReady()) {
+            return false;
+        }
+        return pageable.getSort().stream().allMatch(order -> SORTABLE.contains(order.getProperty()));
+    }
+
+    /**
+     * Whether the index is built and can answer queries at all
+     */
+    public boolean isReady() {
+        return isEnabled() && ready;
+    }
+
+    /**
+     * Serve the index on disk if it matches the database, otherwise rebuild it in the background. The
+     * index matches when it holds as many offers as are active and its last commit reflects the latest
+     * offer modification; writes lost in a crash before the commit leave it behind and force a rebuild.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (!isEnabled()) {
+            return;
+        }
+        String committedModifiedUpTo = committedValue(MODIFIED_KEY);
+        if (SCHEMA_VERSION.equals(committedValue(SCHEMA_KEY)) && committedModifiedUpTo != null
+                && Long.parseLong(committedModifiedUpTo) == toMillis(jobOfferRepository.findLastModifiedAt())
+                && writer.getDocStats().numDocs == jobOfferRepository.countActiveJobOffers()) {
+            modifiedUpTo.accumulateAndGet(Long.parseLong(committedModifiedUpTo), Math::max);
+            ready = true;
+            return;
+        }
+        Thread thread = new Thread(this::rebuild, "search-index-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Re-index every active job offer from the database
+     */
+    public void rebuild() {
+        if (!isEnabled() || !rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        // Serve from the database while the index is partially built
+        ready = false;
+        try {
+            long lastModified = toMillis(jobOfferRepository.findLastModifiedAt());
+            synchronized (rebuildLock) {
+                pendingMutations = new ArrayList<>();
+                writer.deleteAll();
+            }
+            long afterId = 0;
+            List<JobOffer> page;
+            do {
+                // Keyset paging: each page is an index range seek, however deep the rebuild gets
+                page = jobOfferRepository.findActiveAfter(afterId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+                Map<Long, String> descriptions = new HashMap<>();
+                if (!page.isEmpty()) {
+                    List<Long> ids = page.stream().map(JobOffer::getId).toList();
+                    for (Object[] row : jobOfferContentRepository.findDescriptionsByJobOfferIdIn(ids)) {
+                        descriptions.put((Long) row[0], (String) row[1]);
+                    }
+                }
+                for (JobOffer jobOffer : page) {
+                    writer.updateDocument(new Term(ID, jobOffer.getId().toString()),
+                        toDocument(jobOffer, descriptions.get(jobOffer.getId())));
+                    afterId = jobOffer.getId();
+                }
+            } while (page.size() == REBUILD_PAGE_SIZE);
+            // Writes made since the rebuild started are newer than the pages read; replaying them in
+            // order drops offers deleted meanwhile and restores updates a later page overwrote
+            synchronized (rebuildLock) {
+                for (IndexMutation mutation : pendingMutations) {
+                    mutation.apply(writer);
+                }
+                pendingMutations = null;
+            }
+            modifiedUpTo.accumulateAndGet(lastModified, Math::max);
+            commitWithState();
+            searcherManager.maybeRefresh();
+            ready = true;
+            lastRebuildAt = Instant.now();
+        } catch (Exception e) {
+            // Searches keep going to the database until a later rebuild succeeds
+            System.err.println("Failed to rebuild search index: " + e.getMessage());
+        } finally {
+            synchronized (rebuildLock) {
+                pendingMutations = null;
+            }
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * Add, replace or drop a job offer depending on whether it is active; description comes from
+     * job_offer_content and may be null
+     */
+    public void index(JobOffer jobOffer, String description) {
+        if (!isEnabled()) {
+            return;
+        }
+        Term key = new Term(ID, jobOffer.getId().toString());
+        boolean active = Boolean.TRUE.equals(jobOffer.getIsActive());
+        Document doc = active ? toDocument(jobOffer, description) : null;
+        try {
+            apply(indexWriter -> {
+                if (active) {
+                    indexWriter.updateDocument(key, doc);
+                } else {
+                    indexWriter.deleteDocuments(key);
+                }
+            });
+            modifiedUpTo.accumulateAndGet(toMillis(jobOffer.getUpdatedAt() != null
+                ? jobOffer.getUpdatedAt() : jobOffer.getCreatedAt()), Math::max);
+        } catch (IOException e) {
+            System.err.println("Failed to index job offer " + jobOffer.getId() + ": " + e.getMessage());
+        }
+    }
+
+    public void remove(Long jobOfferId) {
+        if (!isEnabled()) {
+            return;
+        }
+        Term key = new Term(ID, jobOfferId.toString());
+        try {
+            apply(indexWriter -> indexWriter.deleteDocuments(key));
+        } catch (IOException e) {
+            System.err.println("Failed to remove job offer " + jobOfferId + " from search index: " + e.getMessage());
+        }
+    }
+
+    public void clear() {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            apply(IndexWriter::deleteAll);
+        } catch (IOException e) {
+            System.err.println("Failed to clear search index: " + e.getMessage());
+        }
+    }
+
+    private void apply(IndexMutation mutation) throws IOException {
+        synchronized (rebuildLock) {
+            mutation.apply(writer);
+            if (pendingMutations != null) {
+                pendingMutations.add(mutation);
+            }
+        }
+    }
+
+    /**
+     * Write to the index, replayable after a rebuild
+     */
+    @FunctionalInterface
+    private interface IndexMutation {
+        void apply(IndexWriter writer) throws IOException;
+    }
+
+    /**
+     * Make recent writes visible to searches
+     */
+    @Scheduled(fixedDelayString = "${search.lucene.refresh-interval-ms:1000}")
+    public void refresh() {
+        if (searcherManager == null) {
+            return;
+        }
+        try {
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            System.err.println("Failed to refresh search index: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Persist recent writes so a restart does not need a rebuild
+     */
+    @Scheduled(fixedDelayString = "${search.lucene.commit-interval-ms:60000}")
+    public void commit() {
+        // Left to the rebuild while one runs, so no commit claims the half-built index is current
+        if (writer == null || rebuilding.get() || !writer.hasUncommittedChanges()) {
+            return;
+        }
+        try {
+            commitWithState();
+        } catch (IOException e) {
+            System.err.println("Failed to commit search index: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Ids of one page of matching offers in ranking order, plus the total number of matches and,
+     * when requested, facet counts over all matches collected in the same pass
+     */
+    public SearchPage search(String keyword, String domain, String contractType, String location, Pageable pageable,
+                             boolean withFacets) throws IOException {
+        Query query = buildQuery(keyword, domain, contractType, location);
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            int end = (int) Math.min(Integer.MAX_VALUE, pageable.getOffset() + pageable.getPageSize());
+            Sort sort = toLuceneSort(pageable, keyword != null);
+            TopDocsCollector<?> top = sort != null
+                ? TopFieldCollector.create(sort, Math.max(1, end), Integer.MAX_VALUE)
+                : TopScoreDocCollector.create(Math.max(1, end), Integer.MAX_VALUE);
+            MatchingDocsCollector matching = withFacets ? new MatchingDocsCollector() : null;
+            searcher.search(query, matching != null ? MultiCollector.wrap(top, matching) : top);
+
+            TopDocs topDocs = top.topDocs();
+            List<Long> ids = new ArrayList<>(pageable.getPageSize());
+            ScoreDoc[] hits = topDocs.scoreDocs;
+            for (int i = (int) pageable.getOffset(); i < hits.length; i++) {
+                ids.add(Long.parseLong(searcher.storedFields().document(hits[i].doc).get(ID)));
+            }
+            Map<String, Map<String, Long>> facets = matching != null ? matching.countFacets() : null;
+            return new SearchPage(ids, topDocs.totalHits.value, facets);
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    /**
+     * Ids of up to limit matching offers that come after the cursor in (createdAt, id) descending order.
+     * Uses searchAfter, so no hits before the cursor are collected and no total is counted.
+     */
+    public List<Long> searchFeed(String keyword, String domain, String contractType, String location,
+                                 Cursor after, int limit) throws IOException {
+        Query query = buildQuery(keyword, domain, contractType, location);
+        Sort sort = new Sort(new SortField(CREATED_AT, SortField.Type.LONG, true),
+            new SortField(ID_SORT, SortField.Type.LONG, true));
+        // (createdAt, id) is unique, so the doc id of the position never breaks a tie
+        FieldDoc position = new FieldDoc(Integer.MAX_VALUE, Float.NaN, new Object[] {
+            after.getCreatedAt().toInstant(ZoneOffset.UTC).toEpochMilli(), after.getId()});
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            TopDocs topDocs = searcher.searchAfter(position, query, Math.max(1, limit), sort);
+            List<Long> ids = new ArrayList<>(topDocs.scoreDocs.length);
+            for (ScoreDoc hit : topDocs.scoreDocs) {
+                ids.add(Long.parseLong(searcher.storedFields().document(hit.doc).get(ID)));
+            }
+            return ids;
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    /**
+     * Records the matching documents of each segment in a bitset, then counts the facet values of
+     * the set bits with one forward scan of each facet's doc values
+     */
+    private final class MatchingDocsCollector extends SimpleCollector {
+
+        private final List<LeafReaderContext> leaves = new ArrayList<>();
+        private final List<FixedBitSet> bits = new ArrayList<>();
+        private FixedBitSet current;
+
+        @Override
+        protected void doSetNextReader(LeafReaderContext context) {
+            current = new FixedBitSet(context.reader().maxDoc());
+            leaves.add(context);
+            bits.add(current);
+        }
+
+        @Override
+        public void collect(int doc) {
+            current.set(doc);
+        }
+
+        @Override
+        public ScoreMode scoreMode() {
+            return ScoreMode.COMPLETE_NO_SCORES;
+        }
+
+        Map<String, Map<String, Long>> countFacets() throws IOException {
+            FacetCounter counter = new FacetCounter();
+            for (int leaf = 0; leaf < leaves.size(); leaf++) {
+                LeafReader reader = leaves.get(leaf).reader();
+                FixedBitSet matches = bits.get(leaf);
+                for (String facet : FacetCounter.FACETS) {
+                    SortedDocValues values = DocValues.getSorted(reader, FACET_PREFIX + facet);
+                    int[] ordCounts = new int[values.getValueCount()];
+                    BitSetIterator docs = new BitSetIterator(matches, 0);
+                    for (int doc = docs.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = docs.nextDoc()) {
+                        if (values.advanceExact(doc)) {
+                            ordCounts[values.ordValue()]++;
+                        }
+                    }
+                    for (int ord = 0; ord < ordCounts.length; ord++) {
+                        if (ordCounts[ord] > 0) {
+                            counter.add(facet, values.lookupOrd(ord).utf8ToString(), ordCounts[ord]);
+                        }
+                    }
+                }
+            }
+            return counter.toMap(maxFacetValues);
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("backend", backend);
+        if (writer != null) {
+            stats.put("path", indexPath);
+            stats.put("documents", writer.getDocStats().numDocs);
+            stats.put("ready", ready);
+            stats.put("rebuilding", rebuilding.get());
+            stats.put("lastRebuildAt", lastRebuildAt != null ? lastRebuildAt.toString() : null);
+        }
+        return stats;
+    }
+
+    private Query buildQuery(String keyword, String domain, String contractType, String location) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        boolean hasClause = false;
+        if (keyword != null && !keyword.isBlank()) {
+            SimpleQueryParser parser = new SimpleQueryParser(analyzer, KEYWORD_FIELDS);
+            parser.setDefaultOperator(BooleanClause.Occur.MUST);
+            builder.add(parser.parse(keyword), BooleanClause.Occur.MUST);
+            hasClause = true;
+        }
+        hasClause |= addFilter(builder, DOMAIN, domain);
+        hasClause |= addFilter(builder, CONTRACT_TYPE, contractType);
+        hasClause |= addFilter(builder, LOCATION, location);
+        return hasClause ? builder.build() : new MatchAllDocsQuery();
+    }
+
+    // Categorical filters match on every word of the value, like the contains-match of the SQL search
+    private boolean addFilter(BooleanQuery.Builder builder, String field, String value) {
+        if (value == null || value.isBlank()) {
+            return false;
+        }
+        SimpleQueryParser parser = new SimpleQueryParser(analyzer, field);
+        parser.setDefaultOperator(BooleanClause.Occur.MUST);
+        builder.add(parser.parse(value), BooleanClause.Occur.FILTER);
+        return true;
+    }
+
+    /**
+     * Lucene sort for the page request, or null for BM25 score order
+     */
+    private Sort toLuceneSort(Pageable pageable, boolean hasKeyword) {
+        List<SortField> fields = new ArrayList<>();
+        for (org.springframework.data.domain.Sort.Order order : pageable.getSort()) {
+            boolean reverse = order.getDirection() == Direction.DESC;
+            switch (order.getProperty()) {
+                case SORT_RELEVANCE:
+                    if (!hasKeyword) {
+                        // Nothing to rank on: newest first
+                        fields.add(new SortField(CREATED_AT, SortField.Type.LONG, true));
+                    } else {
+                        fields.add(SortField.FIELD_SCORE);
+                    }
+                    break;
+                case CREATED_AT:
+                    fields.add(new SortField(CREATED_AT, SortField.Type.LONG, reverse));
+                    break;
+                case ID_SORT:
+                    fields.add(new SortField(ID_SORT, SortField.Type.LONG, reverse));
+                    break;
+                default:
+                    break;
+            }
+        }
+        if (fields.isEmpty() || (fields.size() == 1 && fields.get(0) == SortField.FIELD_SCORE)) {
+            return null;
+        }
+        return new Sort(fields.toArray(new SortField[0]));
+    }
+
+    private Document toDocument(JobOffer jobOffer, String description) {
+        Document doc = new Document();
+        doc.add(new StringField(ID, jobOffer.getId().toString(), Field.Store.YES));
+        doc.add(new NumericDocValuesField(ID_SORT, jobOffer.getId()));
+        long createdAt = jobOffer.getCreatedAt() != null
+            ? jobOffer.getCreatedAt().toInstant(ZoneOffset.UTC).toEpochMilli() : 0L;
+        doc.add(new NumericDocValuesField(CREATED_AT, createdAt));
+        addText(doc, TITLE, jobOffer.getTitle());
+        addText(doc, COMPANY, jobOffer.getCompany());
+        addText(doc, DESCRIPTION, description);
+        addText(doc, SKILLS, jobOffer.getSkills());
+        addText(doc, DOMAIN, jobOffer.getDomain());
+        addText(doc, CONTRACT_TYPE, jobOffer.getContractType());
+        addText(doc, LOCATION, jobOffer.getLocation());
+        addText(doc, TYPE, jobOffer.getType());
+        addFacet(doc, FacetCounter.DOMAIN, jobOffer.getDomain());
+        addFacet(doc, FacetCounter.CONTRACT_TYPE, jobOffer.getContractType());
+        addFacet(doc, FacetCounter.LOCATION, jobOffer.getLocation());
+        addFacet(doc, FacetCounter.TYPE, jobOffer.getType());
+        return doc;
+    }
+
+    private static void addFacet(Document doc, String facet, String value) {
+        if (value == null || value.isBlank()) {
+            return;
+        }
+        BytesRef bytes = new BytesRef(value);
+        if (bytes.length <= MAX_FACET_BYTES) {
+            doc.add(new SortedDocValuesField(FACET_PREFIX + facet, bytes));
+        }
+    }
+
+    // The modification mark is read before committing, so it never covers a write the commit lacks
+    private void commitWithState() throws IOException {
+        writer.setLiveCommitData(Map.of(SCHEMA_KEY, SCHEMA_VERSION,
+            MODIFIED_KEY, Long.toString(modifiedUpTo.get())).entrySet());
+        writer.commit();
+    }
+
+    private String committedValue(String key) {
+        for (Map.Entry<String, String> entry : writer.getLiveCommitData()) {
+            if (key.equals(entry.getKey())) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time != null ? time.toInstant(ZoneOffset.UTC).toEpochMilli() : 0L;
+    }
+
+    private static void addText(Document doc, String field, String value) {
+        if (value != null && !value.isBlank()) {
+            doc.add(new TextField(field, value, Field.Store.NO));
+        }
+    }
+
+    /**
+     * One page of ids from the index
+     */
+    public static final class SearchPage {
+        private final List<Long> ids;
+        private final long total;
+        private final Map<String, Map<String, Long>> facets;
+
+        SearchPage(List<Long> ids, long total, Map<String, Map<String, Long>> facets) {
+            this.ids = ids;
+            this.total = total;
+            this.facets = facets;
+        }
+
+        public List<Long> getIds() {
+            return ids;
+        }
+
+        public long getTotal() {
+            return total;
+        }
+
+        public Map<String, Map<String, Long>> getFacets() {
+            return facets;
+        }
+    }
+}
@@ -2,20 +2,41 @@ package com.jobplatform.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.jobplatform.dto.Cursor;
+import com.jobplatform.dto.CursorSlice;
 import com.jobplatform.dto.ExtractorResponse;
+import com.jobplatform.dto.JobOfferCardDto;
 import com.jobplatform.dto.JobOfferDto;
+import com.jobplatform.dto.JobOfferFields;
+import com.jobplatform.dto.JobOfferSearchPage;
 import com.jobplatform.entity.JobOffer;
+import com.jobplatform.entity.JobOfferContent;
 import com.jobplatform.dto.JobOfferLiteDto;
 import com.jobplatform.entity.User;
+import com.jobplatform.repository.JobOfferContentRepository;
 import com.jobplatform.repository.JobOfferRepository;
 import com.jobplatform.repository.UserRepository;
+import com.jobplatform.similarity.HnswIndex;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -27,65 +48,110 @@ public class JobOfferService {
     private JobOfferRepository jobOfferRepository;
     
     @Autowired
-    private UserRepository userRepository;
+    private JobOfferContentRepository jobOfferContentRepository;
     
     @Autowired
-    private ExtractorService extractorService;
-
+    private UserRepository userRepository;
+    
     @Autowired
     private com.jobplatform.repository.FavoriteRepository favoriteRepository;
 
     @Autowired
     private com.jobplatform.repository.ApplicationRepository applicationRepository;
     
+    @Autowired
+    private ExtractionQueueService extractionQueueService;
+    
+    @Autowired
+    private UploadMemoryBudget uploadMemoryBudget;
+    
+    @Autowired
+    private JobOfferEmbeddingService jobOfferEmbeddingService;
+    
+    @Autowired
+    private JobOfferVectorIndex jobOfferVectorIndex;
+    
+    @Autowired
+    private DuplicateDetectionService duplicateDetectionService;
+    
+    @Autowired
+    private JobOfferSearchIndex jobOfferSearchIndex;
+    
+    @Autowired
+    private JobOfferSkillService jobOfferSkillService;
+    
+    @Autowired
+    private JobOfferFilterIndex jobOfferFilterIndex;
+    
+    @Autowired
+    private JobOfferSearchCache jobOfferSearchCache;
+    
+    @Value("${search.backend:lucene}")
+    private String searchBackend;
+    
+    @Value("${search.facets.max-values:20}")
+    private int maxFacetValues;
+    
+    private static final String PENDING_COMPANY = "Pending extraction";
+    
+    // InnoDB ignores words shorter than innodb_ft_min_token_size (3 by default)
+    private static final int FULLTEXT_MIN_TOKEN = 3;
+    
     private final ObjectMapper objectMapper = new ObjectMapper();
     
     /**
-     * Create a new job offer from form data
+     * Create a new job offer from form data; structured fields are extracted asynchronously
      */
+    @Transactional
     public JobOfferDto createJobOffer(Long offererId, String title, String company, String description) {
         User offerer = userRepository.findById(offererId)
             .orElseThrow(() -> new RuntimeException("User not found"));
         
-        JobOffer jobOffer = new JobOffer(offerer, title, company, description);
-        jobOffer.setRawText(description);
-        
-        // Try to extract structured data
-        try {
-            ExtractorResponse extractedData = extractorService.extractFromText(description);
-            populateJobOfferFromExtraction(jobOffer, extractedData);
-        } catch (Exception e) {
-            // If extraction fails, continue with basic data
-            System.err.println("Extraction failed: " + e.getMessage());
-        }
+        JobOffer jobOffer = new JobOffer(offerer, title, company);
+        jobOffer.setExtractionStatus(JobOffer.ExtractionStatus.PENDING);
+        duplicateDetectionService.screen(jobOffer, description, false);
         
         JobOffer savedJobOffer = jobOfferRepository.save(jobOffer);
-        return new JobOfferDto(savedJobOffer);
+        JobOfferContent content = new JobOfferContent(savedJobOffer.getId());
+        content.setDescription(description);
+        content.setRawText(description);
+        jobOfferContentRepository.save(content);
+        duplicateDetectionService.register(savedJobOffer.getId(), description);
+        afterCommit(() -> {
+            jobOfferSearchIndex.index(savedJobOffer, description);
+            jobOfferFilterIndex.put(savedJobOffer);
+        });
+        jobOfferSearchCache.bumpVersion();
+        extractionQueueService.enqueue(savedJobOffer);
+        return new JobOfferDto(savedJobOffer, content);
     }
     
     /**
-     * Create a new job offer from uploaded file
+     * Create a new job offer from uploaded file; the document is streamed from the multipart spool into
+     * the extraction queue rather than copied onto the heap
      */
+    @Transactional
     public JobOfferDto createJobOfferFromFile(Long offererId, String title, MultipartFile file) {
         User offerer = userRepository.findById(offererId)
             .orElseThrow(() -> new RuntimeException("User not found"));
         
-        try {
-            // Extract structured data from file
-            ExtractorResponse extractedData = extractorService.extractFromFile(file);
-            
-            // Create job offer with extracted data
+        try (UploadMemoryBudget.Permit ignored = uploadMemoryBudget.admit(file.getSize())) {
             JobOffer jobOffer = new JobOffer();
             jobOffer.setOfferer(offerer);
             jobOffer.setTitle(title); // Use user-provided title
-            jobOffer.setRawText(extractedData.getRawText());
-            jobOffer.setExtractedData(objectMapper.writeValueAsString(extractedData));
-            
-            // Populate fields from extraction
-            populateJobOfferFromExtraction(jobOffer, extractedData);
+            jobOffer.setCompany(PENDING_COMPANY); // Replaced once the document has been extracted
+            jobOffer.setExtractionStatus(JobOffer.ExtractionStatus.PENDING);
             
             JobOffer savedJobOffer = jobOfferRepository.save(jobOffer);
-            return new JobOfferDto(savedJobOffer);
+            afterCommit(() -> {
+                jobOfferSearchIndex.index(savedJobOffer, null);
+                jobOfferFilterIndex.put(savedJobOffer);
+            });
+            jobOfferSearchCache.bumpVersion();
+            try (InputStream document = file.getInputStream()) {
+                extractionQueueService.enqueue(savedJobOffer, file.getOriginalFilename(), document, file.getSize());
+            }
+            return new JobOfferDto(savedJobOffer, null);
             
         } catch (Exception e) {
             // Bubble up precise cause for UI visibility
@@ -93,6 +159,103 @@ public class JobOfferService {
         }
     }
     
+    /**
+     * Raw text queued for extraction, or null if the offer no longer exists
+     */
+    public String getRawText(Long id) {
+        return jobOfferContentRepository.findRawTextByJobOfferId(id);
+    }
+    
+    /**
+     * Apply a completed extraction to a job offer in one transaction; the in-memory indexes follow on commit
+     */
+    @Transactional
+    public void applyExtraction(Long id, ExtractorResponse extractedData, boolean fromDocument) {
+        JobOffer jobOffer = jobOfferRepository.findById(id).orElse(null);
+        if (jobOffer == null) {
+            return;
+        }
+        
+        JobOfferContent content = contentOf(id);
+        if (fromDocument) {
+            content.setRawText(extractedData.getRawText());
+            try {
+                // The embedding lives in its own table rather than as decimal text in the JSON,
+                // and the document text is already stored as rawText
+                ObjectNode json = objectMapper.valueToTree(extractedData);
+                json.remove("embedding");
+                json.remove("rawText");
+                content.setExtractedData(objectMapper.writeValueAsString(json));
+            } catch (JsonProcessingException e) {
+                System.err.println("Failed to serialize extracted data: " + e.getMessage());
+            }
+            // Document text is only known now, so duplicates of uploads are caught here
+            duplicateDetectionService.screen(jobOffer, content.getRawText(), true);
+            duplicateDetectionService.register(id, content.getRawText());
+        }
+        
+        if (extractedData.getEmbedding() != null && extractedData.getEmbedding().length > 0) {
+            jobOfferEmbeddingService.save(id, extractedData.getEmbedding());
+            if (Boolean.TRUE.equals(jobOffer.getIsActive())) {
+                afterCommit(() -> jobOfferVectorIndex.put(id, extractedData.getEmbedding()));
+            }
+        }
+        
+        populateJobOfferFromExtraction(jobOffer, extractedData);
+        // Set description from raw text if not already set
+        if (content.getDescription() == null && extractedData.getRawText() != null) {
+            content.setDescription(extractedData.getRawText());
+        }
+        jobOffer.setExtractionStatus(JobOffer.ExtractionStatus.DONE);
+        jobOfferRepository.save(jobOffer);
+        jobOfferContentRepository.save(content);
+        jobOfferSkillService.replace(id, extractedData.getSkills());
+        String description = content.getDescription();
+        afterCommit(() -> {
+            jobOfferSearchIndex.index(jobOffer, description);
+            jobOfferFilterIndex.put(jobOffer);
+        });
+        jobOfferSearchCache.bumpVersion();
+    }
+    
+    /**
+     * Store the embedding fetched for an offer that was extracted without one
+     */
+    @Transactional
+    public void applyEmbedding(Long id, float[] embedding) {
+        JobOffer jobOffer = jobOfferRepository.findById(id).orElse(null);
+        if (jobOffer == null || embedding == null || embedding.length == 0) {
+            return;
+        }
+        jobOfferEmbeddingService.save(id, embedding);
+        if (Boolean.TRUE.equals(jobOffer.getIsActive())) {
+            afterCommit(() -> jobOfferVectorIndex.put(id, embedding));
+        }
+    }
+    
+    // The offer's content row, or a new one if it has none yet
+    private JobOfferContent contentOf(Long id) {
+        return jobOfferContentRepository.findById(id).orElseGet(() -> new JobOfferContent(id));
+    }
+    
+    /**
+     * Run an in-memory index update once the surrounding transaction commits, so a rollback never
+     * leaves the indexes ahead of the database; runs immediately outside a transaction.
+     * Register before bumping the search cache version so refreshed pages see the update.
+     */
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+    
     /**
      * Populate job offer fields from extraction response
      */
@@ -155,45 +318,354 @@ public class JobOfferService {
         if (extractedData.getType() != null) {
             jobOffer.setType(extractedData.getType());
         }
-        
-        // Set description from raw text if not already set
-        if (jobOffer.getDescription() == null && extractedData.getRawText() != null) {
-            jobOffer.setDescription(extractedData.getRawText());
-        }
     }
     
     /**
-     * Get all job offers with pagination
+     * Get all job offers with pagination, with the fields selected by JobOfferFields
      */
-    public Page<JobOfferDto> getAllJobOffers(Pageable pageable) {
-        Page<JobOffer> jobOffers = jobOfferRepository.findByIsActiveTrue(pageable);
-        return jobOffers.map(JobOfferDto::new);
+    public Page<?> getAllJobOffers(Pageable pageable, JobOfferFields fields) {
+        Page<Long> ids = jobOfferRepository.findActiveIds(pageable);
+        return new PageImpl<>(hydrate(ids.getContent(), fields), pageable, ids.getTotalElements());
     }
     
     /**
-     * Get job offers by offerer
+     * Get job offers by offerer, with the fields selected by JobOfferFields
      */
-    public Page<JobOfferDto> getJobOffersByOfferer(Long offererId, Pageable pageable) {
-        Page<JobOffer> jobOffers = jobOfferRepository.findByOffererId(offererId, pageable);
-        return jobOffers.map(JobOfferDto::new);
+    public Page<?> getJobOffersByOfferer(Long offererId, Pageable pageable, JobOfferFields fields) {
+        Page<Long> ids = jobOfferRepository.findIdsByOffererId(offererId, pageable);
+        return new PageImpl<>(hydrate(ids.getContent(), fields), pageable, ids.getTotalElements());
+    }
+
+    /**
+     * Active job offers having every skill in all and at least one in any, with the fields selected by
+     * JobOfferFields
+     */
+    public Page<?> getJobOffersBySkills(List<String> all, List<String> any, Pageable pageable, JobOfferFields fields) {
+        Page<Long> ids = jobOfferSkillService.findJobOfferIds(all, any, pageable);
+        return new PageImpl<>(hydrate(ids.getContent(), fields), pageable, ids.getTotalElements());
     }
 
     /**
      * Get lightweight job offers by offerer
      */
     public Page<JobOfferLiteDto> getJobOffersByOffererLite(Long offererId, Pageable pageable) {
-        Page<JobOffer> jobOffers = jobOfferRepository.findByOffererId(offererId, pageable);
-        return jobOffers.map(JobOfferLiteDto::new);
+        return jobOfferRepository.findLiteByOffererId(offererId, pageable);
+    }
+    
+    /**
+     * Active job offers newest first, one slice after the cursor; no count query is run
+     */
+    public CursorSlice<?> getJobOfferFeed(String cursor, int size, JobOfferFields fields) {
+        Cursor after = Cursor.decode(cursor);
+        List<Long> ids = jobOfferRepository.findActiveFeed(after.getCreatedAt(), after.getId(), feedRequest(size));
+        return toFeedSlice(ids, size, fields);
+    }
+    
+    /**
+     * An offerer's job offers newest first, one slice after the cursor
+     */
+    public CursorSlice<?> getJobOfferFeedByOfferer(Long offererId, String cursor, int size, JobOfferFields fields) {
+        Cursor after = Cursor.decode(cursor);
+        List<Long> ids = jobOfferRepository.findOffererFeed(
+            offererId, after.getCreatedAt(), after.getId(), feedRequest(size));
+        return toFeedSlice(ids, size, fields);
+    }
+    
+    /**
+     * Search matches newest first, one slice after the cursor. Goes through the same backends as
+     * searchJobOffers; relevance order has no stable position to resume from, so feeds are by date only.
+     */
+    public CursorSlice<?> searchJobOfferFeed(String keyword, String domain, String contractType,
+                                             String location, String cursor, int size, JobOfferFields fields) {
+        Cursor after = Cursor.decode(cursor);
+        if (jobOfferSearchIndex.isReady()) {
+            try {
+                List<Long> ids = jobOfferSearchIndex.searchFeed(keyword, domain, contractType, location, after, size + 1);
+                return toFeedSlice(ids, size, fields);
+            } catch (Exception e) {
+                System.err.println("Search index query failed, falling back to database: " + e.getMessage());
+            }
+        }
+        
+        String terms = toBooleanModeTerms(keyword);
+        if ("fulltext".equalsIgnoreCase(searchBackend) && terms != null) {
+            try {
+                List<Long> ids = jobOfferRepository.fullTextSearchFeed(terms, domain, contractType, location,
+                    after.getCreatedAt(), after.getId(), size + 1);
+                return toFeedSlice(ids, size, fields);
+            } catch (Exception e) {
+                System.err.println("Full-text query failed, falling back to LIKE search: " + e.getMessage());
+            }
+        }
+        
+        List<Long> ids = jobOfferRepository.searchFeedWithFilters(keyword, domain, contractType, location,
+            after.getCreatedAt(), after.getId(), feedRequest(size));
+        return toFeedSlice(ids, size, fields);
+    }
+    
+    // One extra row tells whether another slice follows
+    private static Pageable feedRequest(int size) {
+        return PageRequest.of(0, size + 1);
+    }
+    
+    /**
+     * Load the offers of up to size + 1 feed ids; the position of the last one kept is the next cursor
+     */
+    private CursorSlice<?> toFeedSlice(List<Long> ids, int size, JobOfferFields fields) {
+        if (fields.isAll()) {
+            Map<Long, JobOfferContent> contents = loadContents(ids);
+            return CursorSlice.of(loadInOrder(ids), size,
+                jobOffer -> new JobOfferDto(jobOffer, contents.get(jobOffer.getId())),
+                JobOffer::getCreatedAt, JobOffer::getId);
+        }
+        Map<Long, Map<String, Object>> texts = loadTextFields(ids, fields);
+        return CursorSlice.of(loadCards(ids), size, card -> fields.render(card, texts.get(card.getId())),
+            JobOfferCardDto::getCreatedAt, JobOfferCardDto::getId);
+    }
+    
+    /**
+     * Offers of the given ids in that order, as full DTOs, cards, or maps of the requested fields
+     */
+    private List<Object> hydrate(List<Long> ids, JobOfferFields fields) {
+        if (fields.isAll()) {
+            Map<Long, JobOfferContent> contents = loadContents(ids);
+            return loadInOrder(ids).stream()
+                .map(jobOffer -> (Object) new JobOfferDto(jobOffer, contents.get(jobOffer.getId())))
+                .toList();
+        }
+        Map<Long, Map<String, Object>> texts = loadTextFields(ids, fields);
+        return loadCards(ids).stream().map(card -> fields.render(card, texts.get(card.getId()))).toList();
+    }
+    
+    private Map<Long, JobOfferContent> loadContents(List<Long> ids) {
+        return jobOfferContentRepository.findAllById(ids).stream()
+            .collect(Collectors.toMap(JobOfferContent::getJobOfferId, content -> content));
+    }
+    
+    private List<JobOfferCardDto> loadCards(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, JobOfferCardDto> byId = jobOfferRepository.findCardsByIdIn(ids).stream()
+            .collect(Collectors.toMap(JobOfferCardDto::getId, card -> card));
+        return ids.stream()
+            .map(byId::get)
+            .filter(card -> card != null)
+            .toList();
     }
     
     /**
-     * Search job offers with filters
+     * Requested text columns of the given offers (id -> field -> value), one query per column
      */
-    public Page<JobOfferDto> searchJobOffers(String keyword, String domain, String contractType, 
-                                            String location, Pageable pageable) {
-        Page<JobOffer> jobOffers = jobOfferRepository.searchWithFilters(
-            keyword, domain, contractType, location, pageable);
-        return jobOffers.map(JobOfferDto::new);
+    private Map<Long, Map<String, Object>> loadTextFields(List<Long> ids, JobOfferFields fields) {
+        Map<Long, Map<String, Object>> texts = new HashMap<>();
+        if (ids.isEmpty()) {
+            return texts;
+        }
+        for (String field : fields.getTextFields()) {
+            List<Object[]> rows = switch (field) {
+                case JobOfferFields.DESCRIPTION -> jobOfferContentRepository.findDescriptionsByJobOfferIdIn(ids);
+                case JobOfferFields.RAW_TEXT -> jobOfferContentRepository.findRawTextsByJobOfferIdIn(ids);
+                case JobOfferFields.EXTRACTED_DATA -> jobOfferContentRepository.findExtractedDataByJobOfferIdIn(ids);
+                case JobOfferFields.SKILLS -> jobOfferRepository.findSkillsByIdIn(ids);
+                case JobOfferFields.CONTACTS -> jobOfferRepository.findContactsByIdIn(ids);
+                default -> List.of();
+            };
+            for (Object[] row : rows) {
+                texts.computeIfAbsent((Long) row[0], id -> new HashMap<>()).put(field, row[1]);
+            }
+        }
+        return texts;
+    }
+    
+    /**
+     * Search job offers with filters, through the search result cache. Parameters are normalized first
+     * (trimmed, whitespace collapsed, lower case): every search backend matches case-insensitively, so
+     * equivalent searches share one cache entry.
+     */
+    public JobOfferSearchPage<Object> searchJobOffers(String keyword, String domain, String contractType,
+                                                      String location, Pageable pageable, boolean facets,
+                                                      JobOfferFields fields) {
+        String normalizedKeyword = normalizeSearchTerm(keyword);
+        String normalizedDomain = normalizeSearchTerm(domain);
+        String normalizedContractType = normalizeSearchTerm(contractType);
+        String normalizedLocation = normalizeSearchTerm(location);
+        if (!jobOfferSearchCache.isCacheable(pageable.getPageSize())) {
+            return runSearch(normalizedKeyword, normalizedDomain, normalizedContractType, normalizedLocation,
+                pageable, facets, fields);
+        }
+        String key = String.join("\u0000", String.valueOf(normalizedKeyword), String.valueOf(normalizedDomain),
+            String.valueOf(normalizedContractType), String.valueOf(normalizedLocation),
+            String.valueOf(pageable.getPageNumber()), String.valueOf(pageable.getPageSize()),
+            pageable.getSort().toString(), String.valueOf(facets), fields.toString());
+        return jobOfferSearchCache.get(key, () -> runSearch(normalizedKeyword, normalizedDomain,
+            normalizedContractType, normalizedLocation, pageable, facets, fields));
+    }
+    
+    private static String normalizeSearchTerm(String value) {
+        if (value == null) {
+            return null;
+        }
+        String normalized = value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        return normalized.isEmpty() ? null : normalized;
+    }
+    
+    /**
+     * Search job offers with filters. The configured search backend (Lucene index or MySQL FULLTEXT)
+     * returns one page of ids which is then loaded from the database; the LIKE query is the fallback.
+     * With facets set, per-value counts of the categorical fields over all matches are included.
+     */
+    private JobOfferSearchPage<Object> runSearch(String keyword, String domain, String contractType,
+                                                 String location, Pageable pageable, boolean facets,
+                                                 JobOfferFields fields) {
+        if ((keyword == null || keyword.isBlank()) && jobOfferFilterIndex.canServe(pageable)) {
+            JobOfferSearchIndex.SearchPage hits = jobOfferFilterIndex.search(alternatives(domain),
+                alternatives(contractType), alternatives(location), null, null, pageable, facets);
+            return loadPage(hits.getIds(), hits.getTotal(), pageable, hits.getFacets(), fields);
+        }
+        
+        if (jobOfferSearchIndex.canServe(pageable)) {
+            try {
+                JobOfferSearchIndex.SearchPage hits = jobOfferSearchIndex.search(
+                    keyword, domain, contractType, location, pageable, facets);
+                return loadPage(hits.getIds(), hits.getTotal(), pageable, hits.getFacets(), fields);
+            } catch (Exception e) {
+                System.err.println("Search index query failed, falling back to database: " + e.getMessage());
+            }
+        }
+        
+        String terms = toBooleanModeTerms(keyword);
+        if ("fulltext".equalsIgnoreCase(searchBackend) && terms != null) {
+            Boolean byRelevance = fullTextOrdering(pageable);
+            if (byRelevance != null) {
+                try {
+                    List<Long> ids = byRelevance
+                        ? jobOfferRepository.fullTextSearchByRelevance(terms, domain, contractType, location,
+                            pageable.getPageSize(), pageable.getOffset())
+                        : jobOfferRepository.fullTextSearchByDate(terms, domain, contractType, location,
+                            pageable.getPageSize(), pageable.getOffset());
+                    long total = jobOfferRepository.countFullTextSearch(terms, domain, contractType, location);
+                    Map<String, Map<String, Long>> facetCounts = facets
+                        ? countFacets(jobOfferRepository.countFullTextFacetValues(terms, domain, contractType, location))
+                        : null;
+                    return loadPage(ids, total, pageable, facetCounts, fields);
+                } catch (Exception e) {
+                    System.err.println("Full-text query failed, falling back to LIKE search: " + e.getMessage());
+                }
+            }
+        }
+        
+        Page<Long> ids = jobOfferRepository.searchIdsWithFilters(
+            keyword, domain, contractType, location, withoutRelevanceSort(pageable));
+        Map<String, Map<String, Long>> facetCounts = facets
+            ? countFacets(jobOfferRepository.countFacetValuesWithFilters(keyword, domain, contractType, location))
+            : null;
+        return loadPage(ids.getContent(), ids.getTotalElements(), pageable, facetCounts, fields);
+    }
+    
+    /**
+     * Filter active job offers by any combination of categorical values: each argument lists
+     * alternatives (OR) and the arguments are combined with AND. Served from the filter index; while it
+     * is loading, single-value domain, contract type and location filters go through searchJobOffers.
+     */
+    public JobOfferSearchPage<Object> filterJobOffers(List<String> domains, List<String> contractTypes,
+                                                      List<String> locations, List<String> types,
+                                                      List<String> skills, Pageable pageable, boolean facets,
+                                                      JobOfferFields fields) {
+        if (jobOfferFilterIndex.canServe(pageable)) {
+            JobOfferSearchIndex.SearchPage hits = jobOfferFilterIndex.search(
+                domains, contractTypes, locations, types, skills, pageable, facets);
+            return loadPage(hits.getIds(), hits.getTotal(), pageable, hits.getFacets(), fields);
+        }
+        if (domains.size() > 1 || contractTypes.size() > 1 || locations.size() > 1
+                || !types.isEmpty() || !skills.isEmpty()) {
+            throw new RuntimeException("Filter index is not ready");
+        }
+        return searchJobOffers(null, domains.stream().findFirst().orElse(null),
+            contractTypes.stream().findFirst().orElse(null), locations.stream().findFirst().orElse(null),
+            pageable, facets, fields);
+    }
+    
+    private static List<String> alternatives(String value) {
+        return value == null ? List.of() : List.of(value);
+    }
+    
+    /**
+     * Facet counts from (domain, contractType, location, type, count) rows grouped in the database,
+     * so only distinct value combinations leave it
+     */
+    private Map<String, Map<String, Long>> countFacets(List<Object[]> rows) {
+        FacetCounter counter = new FacetCounter();
+        for (Object[] row : rows) {
+            long count = ((Number) row[FacetCounter.FACETS.size()]).longValue();
+            for (int i = 0; i < FacetCounter.FACETS.size(); i++) {
+                counter.add(FacetCounter.FACETS.get(i), (String) row[i], count);
+            }
+        }
+        return counter.toMap(maxFacetValues);
+    }
+    
+    /**
+     * Load the offers of one page of search hits, keeping the ranking order
+     */
+    private JobOfferSearchPage<Object> loadPage(List<Long> ids, long total, Pageable pageable,
+                                                Map<String, Map<String, Long>> facets, JobOfferFields fields) {
+        return new JobOfferSearchPage<>(hydrate(ids, fields), pageable, total, facets);
+    }
+    
+    /**
+     * Load offers by id in the order given, skipping ids deleted since they were found
+     */
+    private List<JobOffer> loadInOrder(List<Long> ids) {
+        Map<Long, JobOffer> byId = jobOfferRepository.findWithOffererByIdIn(ids).stream()
+            .collect(Collectors.toMap(JobOffer::getId, jobOffer -> jobOffer));
+        return ids.stream()
+            .map(byId::get)
+            .filter(jobOffer -> jobOffer != null)
+            .toList();
+    }
+    
+    /**
+     * Every keyword word as a required prefix term ("+java* +spring*"), dropping boolean-mode
+     * operators and words too short for the FULLTEXT index; null when nothing is left
+     */
+    private static String toBooleanModeTerms(String keyword) {
+        if (keyword == null) {
+            return null;
+        }
+        String terms = Arrays.stream(keyword.split("[^\\p{L}\\p{N}]+"))
+            .filter(word -> word.length() >= FULLTEXT_MIN_TOKEN)
+            .map(word -> "+" + word + "*")
+            .collect(Collectors.joining(" "));
+        return terms.isEmpty() ? null : terms;
+    }
+    
+    /**
+     * True for relevance order, false for newest first, null for sorts the full-text queries do not offer
+     */
+    private static Boolean fullTextOrdering(Pageable pageable) {
+        if (pageable.getSort().isUnsorted()) {
+            return true;
+        }
+        Sort.Order relevance = pageable.getSort().getOrderFor(JobOfferSearchIndex.SORT_RELEVANCE);
+        Sort.Order createdAt = pageable.getSort().getOrderFor("createdAt");
+        if (relevance != null && pageable.getSort().stream().count() == 1) {
+            return true;
+        }
+        if (createdAt != null && createdAt.isDescending() && pageable.getSort().stream().count() == 1) {
+            return false;
+        }
+        return null;
+    }
+    
+    /**
+     * The database has no relevance score, so relevance ordering falls back to newest first
+     */
+    private Pageable withoutRelevanceSort(Pageable pageable) {
+        if (pageable.getSort().getOrderFor(JobOfferSearchIndex.SORT_RELEVANCE) == null) {
+            return pageable;
+        }
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by("createdAt").descending());
     }
     
     /**
@@ -201,31 +673,56 @@ public class JobOfferService {
      */
     public Optional<JobOfferDto> getJobOfferById(Long id) {
         return jobOfferRepository.findById(id)
-            .map(JobOfferDto::new);
+            .map(jobOffer -> new JobOfferDto(jobOffer, jobOfferContentRepository.findById(id).orElse(null)));
     }
     
     /**
-     * Update job offer
+     * Get the active job offers most similar to the given one, most similar first
      */
+    public List<JobOfferDto> getSimilarJobOffers(Long id, int k) {
+        List<Long> ids = jobOfferVectorIndex.findSimilar(id, k).stream()
+            .map(HnswIndex.Result::getId)
+            .toList();
+        Map<Long, JobOffer> byId = jobOfferRepository.findWithOffererByIdIn(ids).stream()
+            .collect(Collectors.toMap(JobOffer::getId, jobOffer -> jobOffer));
+        Map<Long, JobOfferContent> contents = loadContents(ids);
+        return ids.stream()
+            .map(byId::get)
+            .filter(jobOffer -> jobOffer != null && Boolean.TRUE.equals(jobOffer.getIsActive()))
+            .map(jobOffer -> new JobOfferDto(jobOffer, contents.get(jobOffer.getId())))
+            .toList();
+    }
+    
+    /**
+     * Update job offer; the new description is queued for re-extraction
+     */
+    @Transactional
     public JobOfferDto updateJobOffer(Long id, String title, String company, String description) {
         JobOffer jobOffer = jobOfferRepository.findById(id)
             .orElseThrow(() -> new RuntimeException("Job offer not found"));
         
         jobOffer.setTitle(title);
         jobOffer.setCompany(company);
-        jobOffer.setDescription(description);
-        jobOffer.setRawText(description);
-        
-        // Re-extract structured data
-        try {
-            ExtractorResponse extractedData = extractorService.extractFromText(description);
-            populateJobOfferFromExtraction(jobOffer, extractedData);
-        } catch (Exception e) {
-            System.err.println("Re-extraction failed: " + e.getMessage());
-        }
+        // The description lives in job_offer_content; mark the offer modified even if only it changed
+        jobOffer.setUpdatedAt(LocalDateTime.now());
+        JobOfferContent content = contentOf(id);
+        content.setDescription(description);
+        content.setRawText(description);
+        duplicateDetectionService.screen(jobOffer, description, false);
         
         JobOffer savedJobOffer = jobOfferRepository.save(jobOffer);
-        return new JobOfferDto(savedJobOffer);
+        jobOfferContentRepository.save(content);
+        duplicateDetectionService.register(id, description);
+        afterCommit(() -> {
+            if (!Boolean.TRUE.equals(savedJobOffer.getIsActive())) {
+                jobOfferVectorIndex.remove(id);
+            }
+            jobOfferSearchIndex.index(savedJobOffer, description);
+            jobOfferFilterIndex.put(savedJobOffer);
+        });
+        jobOfferSearchCache.bumpVersion();
+        extractionQueueService.enqueue(savedJobOffer);
+        return new JobOfferDto(savedJobOffer, content);
     }
     
     /**
@@ -236,18 +733,37 @@ public class JobOfferService {
             .orElseThrow(() -> new RuntimeException("Job offer not found"));
         jobOffer.setIsActive(isActive);
         JobOffer savedJobOffer = jobOfferRepository.save(jobOffer);
-        return new JobOfferDto(savedJobOffer);
+        JobOfferContent content = jobOfferContentRepository.findById(id).orElse(null);
+        afterCommit(() -> {
+            jobOfferVectorIndex.onStatusChanged(id, isActive);
+            jobOfferSearchIndex.index(savedJobOffer, content != null ? content.getDescription() : null);
+            jobOfferFilterIndex.put(savedJobOffer);
+        });
+        jobOfferSearchCache.bumpVersion();
+        return new JobOfferDto(savedJobOffer, content);
     }
 
     /**
      * Delete job offer
      */
+    @Transactional
     public void deleteJobOffer(Long id) {
         JobOffer jobOffer = jobOfferRepository.findById(id)
             .orElseThrow(() -> new RuntimeException("Job offer not found"));
 
         // Remove dependent records to avoid FK constraint issues
         favoriteRepository.deleteByJobOffer_Id(id);
+        extractionQueueService.deleteByJobOfferIds(List.of(id));
+        jobOfferEmbeddingService.delete(id);
+        duplicateDetectionService.delete(id);
+        afterCommit(() -> {
+            jobOfferVectorIndex.remove(id);
+            jobOfferSearchIndex.remove(id);
+            jobOfferFilterIndex.remove(id);
+        });
+        jobOfferSearchCache.bumpVersion();
+        jobOfferContentRepository.deleteById(id);
+        jobOfferSkillService.delete(id);
         applicationRepository.findByJobOfferId(id).forEach(app -> applicationRepository.delete(app));
 
         jobOfferRepository.delete(jobOffer);
@@ -256,6 +772,7 @@ public class JobOfferService {
     /**
      * ADMIN: Delete all job offers and their dependents
      */
+    @Transactional
     public void deleteAllJobOffers() {
         java.util.List<JobOffer> all = jobOfferRepository.findAll();
         if (all.isEmpty()) {
@@ -267,10 +784,28 @@ public class JobOfferService {
             favoriteRepository.deleteByJobOffer_Id(id);
         }
         applicationRepository.deleteByJobOffer_IdIn(ids);
+        extractionQueueService.deleteByJobOfferIds(ids);
+        jobOfferEmbeddingService.deleteAll(ids);
+        duplicateDetectionService.deleteAll(ids);
+        afterCommit(() -> {
+            jobOfferVectorIndex.clear();
+            jobOfferSearchIndex.clear();
+            jobOfferFilterIndex.clear();
+        });
+        jobOfferSearchCache.bumpVersion();
+        jobOfferContentRepository.deleteByJobOfferIdIn(ids);
+        jobOfferSkillService.deleteAll(ids);
         // Delete job offers
         jobOfferRepository.deleteAll(all);
     }
     
+    /**
+     * Get near-duplicate clusters of job offers
+     */
+    public List<Map<String, Object>> getDuplicateClusters() {
+        return duplicateDetectionService.getClusters();
+    }
+    
     /**
      * Get job offer statistics
      */
@@ -0,0 +1,237 @@
+package com.jobplatform.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobplatform.dto.ExtractorResponse;
+import com.jobplatform.entity.JobOfferSkill;
+import com.jobplatform.entity.Skill;
+import com.jobplatform.repository.JobOfferContentRepository;
+import com.jobplatform.repository.JobOfferSkillRepository;
+import com.jobplatform.repository.SkillRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Normalized skills of job offers: a skills dictionary and a job_offer_skills join table filled from
+ * extraction results, queried by skill id instead of LIKE scans over the comma-joined skills column
+ */
+@Service
+public class JobOfferSkillService {
+
+    private static final int BACKFILL_PAGE_SIZE = 500;
+
+    private static final int MAX_RESOLVE_ATTEMPTS = 3;
+
+    @Autowired
+    private SkillRepository skillRepository;
+
+    @Autowired
+    private JobOfferSkillRepository jobOfferSkillRepository;
+
+    @Autowired
+    private JobOfferContentRepository jobOfferContentRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // New dictionary entries commit on their own, before the resolving lock is released, even when
+    // the caller's transaction is still open
+    private TransactionTemplate dictionaryTransaction;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @PostConstruct
+    void init() {
+        dictionaryTransaction = new TransactionTemplate(transactionManager);
+        dictionaryTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Replace the skills of a job offer with those of an extraction result
+     */
+    public void replace(Long jobOfferId, List<ExtractorResponse.Skill> skills) {
+        Map<String, String> names = new LinkedHashMap<>();
+        Map<String, Double> confidences = new HashMap<>();
+        if (skills != null) {
+            for (ExtractorResponse.Skill skill : skills) {
+                String key = Skill.normalize(skill.getSkill());
+                if (key == null) {
+                    continue;
+                }
+                names.putIfAbsent(key, skill.getSkill());
+                // The same skill extracted twice keeps its highest confidence
+                if (skill.getConfidence() != null) {
+                    confidences.merge(key, skill.getConfidence(), Math::max);
+                }
+            }
+        }
+
+        Map<String, Long> skillIds = resolveSkillIds(names);
+        List<JobOfferSkill> rows = names.keySet().stream()
+            .map(key -> new JobOfferSkill(jobOfferId, skillIds.get(key), confidences.get(key)))
+            .toList();
+        transactionTemplate.executeWithoutResult(status -> {
+            jobOfferSkillRepository.deleteByJobOfferIdIn(List.of(jobOfferId));
+            jobOfferSkillRepository.saveAll(rows);
+        });
+    }
+
+    // Ids of the given skills (normalized name -> name), creating the missing dictionary entries.
+    // Serialized so two extractions on this node never insert the same new skill; when another node
+    // inserts it first, the unique key rejects the insert and the next pass finds its row.
+    private synchronized Map<String, Long> resolveSkillIds(Map<String, String> names) {
+        if (names.isEmpty()) {
+            return new HashMap<>();
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return dictionaryTransaction.execute(status -> findOrCreateSkills(names));
+            } catch (DataIntegrityViolationException e) {
+                if (attempt >= MAX_RESOLVE_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private Map<String, Long> findOrCreateSkills(Map<String, String> names) {
+        Map<String, Long> ids = new HashMap<>();
+        skillRepository.findByNormalizedNameIn(names.keySet())
+            .forEach(skill -> ids.put(skill.getNormalizedName(), skill.getId()));
+        List<Skill> missing = names.entrySet().stream()
+            .filter(entry -> !ids.containsKey(entry.getKey()))
+            .map(entry -> new Skill(entry.getValue()))
+            .toList();
+        skillRepository.saveAll(missing).forEach(skill -> ids.put(skill.getNormalizedName(), skill.getId()));
+        return ids;
+    }
+
+    /**
+     * Ids of one page of active offers requiring every skill in all and at least one in any; either
+     * list may be empty but not both. Unknown skill names match nothing.
+     */
+    public Page<Long> findJobOfferIds(Collection<String> all, Collection<String> any, Pageable pageable) {
+        Set<String> allKeys = normalizeAll(all);
+        Set<String> anyKeys = normalizeAll(any);
+        if (allKeys.isEmpty() && anyKeys.isEmpty()) {
+            throw new RuntimeException("At least one skill is required");
+        }
+
+        Set<String> keys = new HashSet<>(allKeys);
+        keys.addAll(anyKeys);
+        Map<String, Long> known = skillRepository.findByNormalizedNameIn(keys).stream()
+            .collect(Collectors.toMap(Skill::getNormalizedName, Skill::getId));
+        List<Long> allIds = allKeys.stream().map(known::get).toList();
+        List<Long> anyIds = anyKeys.stream().map(known::get).filter(id -> id != null).toList();
+        if (allIds.contains(null) || (!anyKeys.isEmpty() && anyIds.isEmpty())) {
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+
+        // IN () is not valid SQL, so a disabled part gets a placeholder that its count short-circuits
+        return jobOfferSkillRepository.findJobOfferIdsBySkills(
+            allIds.isEmpty() ? List.of(-1L) : allIds, allIds.size(),
+            anyIds.isEmpty() ? List.of(-1L) : anyIds, anyIds.size(),
+            pageable);
+    }
+
+    private static Set<String> normalizeAll(Collection<String> names) {
+        if (names == null) {
+            return Set.of();
+        }
+        return names.stream()
+            .map(Skill::normalize)
+            .filter(key -> key != null)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    public void delete(Long jobOfferId) {
+        deleteAll(List.of(jobOfferId));
+    }
+
+    public void deleteAll(List<Long> jobOfferIds) {
+        if (!jobOfferIds.isEmpty()) {
+            jobOfferSkillRepository.deleteByJobOfferIdIn(jobOfferIds);
+        }
+    }
+
+    /**
+     * Fill job_offer_skills for offers extracted before it existed, in the background
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        Thread thread = new Thread(this::backfill, "skill-backfill");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void backfill() {
+        try {
+            long afterId = 0;
+            List<Object[]> page;
+            do {
+                page = jobOfferSkillRepository.findUnindexedAfter(afterId, PageRequest.of(0, BACKFILL_PAGE_SIZE));
+                if (page.isEmpty()) {
+                    break;
+                }
+                List<Long> ids = page.stream().map(row -> (Long) row[0]).toList();
+                Map<Long, String> extractedData = new HashMap<>();
+                for (Object[] row : jobOfferContentRepository.findExtractedDataByJobOfferIdIn(ids)) {
+                    extractedData.put((Long) row[0], (String) row[1]);
+                }
+                for (Object[] row : page) {
+                    afterId = (Long) row[0];
+                    replace(afterId, storedSkills((String) row[1], extractedData.get(afterId)));
+                }
+            } while (page.size() == BACKFILL_PAGE_SIZE);
+        } catch (Exception e) {
+            System.err.println("Failed to backfill job offer skills: " + e.getMessage());
+        }
+    }
+
+    // Skills of an already extracted offer: from the stored extraction JSON, which has confidences,
+    // otherwise from the comma-joined skills column
+    private List<ExtractorResponse.Skill> storedSkills(String skillsColumn, String extractedData) {
+        List<ExtractorResponse.Skill> skills = new ArrayList<>();
+        if (extractedData != null) {
+            try {
+                for (JsonNode node : objectMapper.readTree(extractedData).path("skills")) {
+                    skills.add(new ExtractorResponse.Skill(node.path("skill").asText(null),
+                        node.path("confidence").isNumber() ? node.path("confidence").asDouble() : null));
+                }
+            } catch (Exception e) {
+                skills.clear();
+            }
+        }
+        if (skills.isEmpty() && skillsColumn != null) {
+            for (String name : skillsColumn.split(",")) {
+                skills.add(new ExtractorResponse.Skill(name, null));
+            }
+        }
+        return skills;
+    }
+}
@@ -0,0 +1,249 @@
+package com.jobplatform.service;
+
+import com.jobplatform.repository.JobOfferEmbeddingRepository;
+import com.jobplatform.similarity.EmbeddingCodec;
+import com.jobplatform.similarity.HnswIndex;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * In-memory HNSW index over the embeddings of active job offers, for "similar offers" lookups.
+ * Built from job_offer_embeddings at startup and kept current by JobOfferService.
+ */
+@Component
+public class JobOfferVectorIndex {
+
+    private static final int LOAD_PAGE_SIZE = 1000;
+
+    @Autowired
+    private JobOfferEmbeddingRepository jobOfferEmbeddingRepository;
+
+    @Autowired
+    private JobOfferEmbeddingService jobOfferEmbeddingService;
+
+    @Value("${similarity.enabled:true}")
+    private boolean enabled;
+
+    @Value("${similarity.hnsw.m:16}")
+    private int m;
+
+    @Value("${similarity.hnsw.ef-construction:200}")
+    private int efConstruction;
+
+    @Value("${similarity.hnsw.ef-search:64}")
+    private int efSearch;
+
+    @Value("${similarity.compact-deleted-ratio:0.3}")
+    private double compactDeletedRatio;
+
+    private volatile HnswIndex index;
+
+    private final AtomicBoolean loading = new AtomicBoolean();
+
+    private volatile Instant loadedAt;
+
+    // Guards the swap of a rebuilt graph; mutations made while a rebuild runs are recorded here and
+    // replayed on the new graph before it replaces the current one
+    private final Object swapLock = new Object();
+
+    private List<Consumer<HnswIndex>> pendingMutations;
+
+    @PostConstruct
+    void init() {
+        index = new HnswIndex(m, efConstruction, efSearch);
+    }
+
+    /**
+     * Build the index in the background so startup does not wait on it
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        Thread thread = new Thread(this::rebuild, "similarity-index-loader");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Reload every active embedding from the database into a fresh graph, swapped in when complete
+     */
+    public void rebuild() {
+        if (!loading.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            synchronized (swapLock) {
+                pendingMutations = new ArrayList<>();
+            }
+            HnswIndex rebuilt = new HnswIndex(m, efConstruction, index.getEfSearch());
+            long afterId = 0;
+            List<JobOfferEmbeddingRepository.VectorView> page;
+            do {
+                page = jobOfferEmbeddingRepository.findActiveVectorsAfter(afterId, PageRequest.of(0, LOAD_PAGE_SIZE));
+                for (JobOfferEmbeddingRepository.VectorView row : page) {
+                    rebuilt.put(row.getJobOfferId(), EmbeddingCodec.unpack(row.getVector()));
+                    afterId = row.getJobOfferId();
+                }
+            } while (page.size() == LOAD_PAGE_SIZE);
+            synchronized (swapLock) {
+                pendingMutations.forEach(mutation -> mutation.accept(rebuilt));
+                index = rebuilt;
+            }
+            loadedAt = Instant.now();
+        } catch (Exception e) {
+            System.err.println("Failed to build similarity index: " + e.getMessage());
+        } finally {
+            synchronized (swapLock) {
+                pendingMutations = null;
+            }
+            loading.set(false);
+        }
+    }
+
+    // Apply a mutation to the current graph, and record it for the graph being rebuilt if any
+    private void apply(Consumer<HnswIndex> mutation) {
+        synchronized (swapLock) {
+            mutation.accept(index);
+            if (pendingMutations != null) {
+                pendingMutations.add(mutation);
+            }
+        }
+    }
+
+    public void put(Long jobOfferId, float[] vector) {
+        if (enabled && vector != null && vector.length > 0) {
+            apply(graph -> graph.put(jobOfferId, vector));
+        }
+    }
+
+    public void remove(Long jobOfferId) {
+        if (!enabled) {
+            return;
+        }
+        apply(graph -> graph.remove(jobOfferId));
+        if (index.deletedRatio() > compactDeletedRatio && !loading.get()) {
+            // Compact by rebuilding off the caller's thread; removals keep serving from the current graph
+            Thread thread = new Thread(this::rebuild, "similarity-index-compactor");
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    public void clear() {
+        apply(HnswIndex::clear);
+    }
+
+    /**
+     * Inactive offers leave the index; reactivated ones come back with their stored embedding
+     */
+    public void onStatusChanged(Long jobOfferId, boolean active) {
+        if (!enabled) {
+            return;
+        }
+        if (active) {
+            jobOfferEmbeddingService.findVector(jobOfferId).ifPresent(vector -> put(jobOfferId, vector));
+        } else {
+            remove(jobOfferId);
+        }
+    }
+
+    /**
+     * Ids of the k offers closest to the given one, most similar first; empty when it has no embedding
+     */
+    public List<HnswIndex.Result> findSimilar(Long jobOfferId, int k) {
+        if (!enabled) {
+            return List.of();
+        }
+        float[] vector = index.get(jobOfferId);
+        if (vector == null) {
+            vector = jobOfferEmbeddingService.findVector(jobOfferId).orElse(null);
+        }
+        if (vector == null) {
+            return List.of();
+        }
+
+        List<HnswIndex.Result> results = new ArrayList<>(k);
+        for (HnswIndex.Result result : index.search(vector, k + 1)) {
+            if (result.getId() != jobOfferId && results.size() < k) {
+                results.add(result);
+            }
+        }
+        return results;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("size", index.size());
+        stats.put("deletedRatio", index.deletedRatio());
+        stats.put("m", index.getM());
+        stats.put("efConstruction", index.getEfConstruction());
+        stats.put("efSearch", index.getEfSearch());
+        stats.put("loading", loading.get());
+        stats.put("loadedAt", loadedAt != null ? loadedAt.toString() : null);
+        return stats;
+    }
+
+    /**
+     * Recall@k and latency of the index against an exact scan, using random indexed offers as queries.
+     * An efSearch override applies to the measurement only.
+     */
+    public Map<String, Object> measureRecall(int samples, int k, Integer efSearchOverride) {
+        List<Long> ids = index.sampleIds(samples);
+        int ef = efSearchOverride != null ? efSearchOverride : index.getEfSearch();
+
+        long approximateNanos = 0;
+        long exactNanos = 0;
+        long hits = 0;
+        long expected = 0;
+        for (Long id : ids) {
+            float[] query = index.get(id);
+            if (query == null) {
+                continue;
+            }
+            long start = System.nanoTime();
+            List<HnswIndex.Result> approximate = index.search(query, k, ef);
+            approximateNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            List<HnswIndex.Result> exact = index.exactSearch(query, k);
+            exactNanos += System.nanoTime() - start;
+
+            Set<Long> found = new HashSet<>();
+            approximate.forEach(result -> found.add(result.getId()));
+            for (HnswIndex.Result result : exact) {
+                if (found.contains(result.getId())) {
+                    hits++;
+                }
+            }
+            expected += exact.size();
+        }
+
+        Map<String, Object> report = new HashMap<>();
+        report.put("samples", ids.size());
+        report.put("k", k);
+        report.put("efSearch", ef);
+        report.put("indexSize", index.size());
+        report.put("recall", expected == 0 ? null : (double) hits / expected);
+        report.put("avgHnswMicros", ids.isEmpty() ? null : approximateNanos / 1000.0 / ids.size());
+        report.put("avgExactMicros", ids.isEmpty() ? null : exactNanos / 1000.0 / ids.size());
+        return report;
+    }
+}
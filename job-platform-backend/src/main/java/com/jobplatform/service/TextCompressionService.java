@@ -0,0 +1,230 @@
+package com.jobplatform.service;
+
+import com.jobplatform.compression.DictionaryTrainer;
+import com.jobplatform.compression.TextCodec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Storage report and maintenance for the compressed text columns (job_offer_content.raw_text and
+ * extracted_data, applications.cover_letter). Works on the stored values directly, so rows written
+ * before compression can be measured and rewritten.
+ */
+@Service
+public class TextCompressionService {
+
+    private static final int COMPACT_BATCH_SIZE = 500;
+
+    // Every fifth sampled value is held out to compare the trained dictionary with the current one
+    private static final int HOLDOUT_EVERY = 5;
+
+    // Training text kept in memory at once
+    private static final long MAX_TRAINING_BYTES = 16L * 1024 * 1024;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${compression.dictionary.output-dir:data/compression}")
+    private String dictionaryOutputDir;
+
+    @Value("${compression.dictionary.max-bytes:32768}")
+    private int dictionaryMaxBytes;
+
+    /**
+     * Codec counters plus, per column, stored size against plain UTF-8 and encode/decode cost on the
+     * most recent rows. description is measured too although it is stored plain.
+     */
+    public Map<String, Object> measure(int samples) {
+        Map<String, Object> report = new HashMap<>(TextCodec.getStats());
+        report.put("rawText", measureColumn("SELECT raw_text FROM job_offer_content WHERE raw_text IS NOT NULL " +
+            "ORDER BY job_offer_id DESC LIMIT ?", samples));
+        report.put("extractedData", measureColumn("SELECT extracted_data FROM job_offer_content " +
+            "WHERE extracted_data IS NOT NULL ORDER BY job_offer_id DESC LIMIT ?", samples));
+        report.put("description", measureColumn("SELECT description FROM job_offer_content " +
+            "WHERE description IS NOT NULL ORDER BY job_offer_id DESC LIMIT ?", samples));
+        report.put("coverLetter", measureColumn("SELECT cover_letter FROM applications " +
+            "WHERE cover_letter IS NOT NULL ORDER BY id DESC LIMIT ?", samples));
+
+        Map<String, Object> dedup = new HashMap<>();
+        dedup.put("rows", jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM job_offer_content WHERE raw_text_is_description = true", Long.class));
+        dedup.put("savedChars", jdbcTemplate.queryForObject(
+            "SELECT COALESCE(SUM(LENGTH(description)), 0) FROM job_offer_content WHERE raw_text_is_description = true",
+            Long.class));
+        report.put("rawTextDeduplicated", dedup);
+        return report;
+    }
+
+    private Map<String, Object> measureColumn(String sql, int samples) {
+        List<String> values = jdbcTemplate.queryForList(sql, String.class, samples);
+        long plainBytes = 0;
+        long storedBytes = 0;
+        long encodedBytes = 0;
+        long encodeNanos = 0;
+        long decodeNanos = 0;
+        int alreadyEncoded = 0;
+        for (String stored : values) {
+            long start = System.nanoTime();
+            String text = TextCodec.decode(stored);
+            decodeNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            String encoded = TextCodec.encode(text);
+            encodeNanos += System.nanoTime() - start;
+
+            plainBytes += text.getBytes(StandardCharsets.UTF_8).length;
+            storedBytes += stored.getBytes(StandardCharsets.UTF_8).length;
+            encodedBytes += encoded.getBytes(StandardCharsets.UTF_8).length;
+            if (TextCodec.isEncoded(stored)) {
+                alreadyEncoded++;
+            }
+        }
+
+        Map<String, Object> column = new HashMap<>();
+        column.put("samples", values.size());
+        column.put("alreadyEncoded", alreadyEncoded);
+        column.put("plainBytes", plainBytes);
+        column.put("storedBytes", storedBytes);
+        column.put("encodedBytes", encodedBytes);
+        column.put("ratio", plainBytes == 0 ? null : (double) encodedBytes / plainBytes);
+        column.put("avgEncodeMicros", values.isEmpty() ? null : encodeNanos / 1000.0 / values.size());
+        column.put("avgDecodeMicros", values.isEmpty() ? null : decodeNanos / 1000.0 / values.size());
+        return column;
+    }
+
+    /**
+     * Train the next dictionary version on the most recent stored raw texts, extraction JSON and cover
+     * letters, and write it as posting-dictionary-v<n>.txt to the output directory. The codec only
+     * uses it once the file is bundled under src/main/resources/compression; compact then rewrites
+     * older rows with it.
+     */
+    public Map<String, Object> trainDictionary(int samples) {
+        List<String> values = new ArrayList<>();
+        values.addAll(jdbcTemplate.queryForList(
+            "SELECT CASE WHEN raw_text_is_description = true THEN description ELSE raw_text END " +
+            "FROM job_offer_content WHERE raw_text IS NOT NULL OR raw_text_is_description = true " +
+            "ORDER BY job_offer_id DESC LIMIT ?", String.class, samples));
+        values.addAll(jdbcTemplate.queryForList("SELECT extracted_data FROM job_offer_content " +
+            "WHERE extracted_data IS NOT NULL ORDER BY job_offer_id DESC LIMIT ?", String.class, samples));
+        values.addAll(jdbcTemplate.queryForList("SELECT cover_letter FROM applications " +
+            "WHERE cover_letter IS NOT NULL ORDER BY id DESC LIMIT ?", String.class, samples));
+
+        List<String> training = new ArrayList<>();
+        List<String> holdout = new ArrayList<>();
+        long trainingBytes = 0;
+        for (int i = 0; i < values.size(); i++) {
+            String text = TextCodec.decode(values.get(i));
+            if (text == null || text.isBlank()) {
+                continue;
+            }
+            if (i % HOLDOUT_EVERY == HOLDOUT_EVERY - 1) {
+                holdout.add(text);
+            } else if (trainingBytes < MAX_TRAINING_BYTES) {
+                training.add(text);
+                trainingBytes += text.length();
+            }
+        }
+
+        byte[] dictionary = DictionaryTrainer.train(training, dictionaryMaxBytes);
+        if (dictionary.length == 0) {
+            throw new RuntimeException("Sampled text has nothing in common to build a dictionary from");
+        }
+        int version = TextCodec.currentVersion() + 1;
+        Path file = Path.of(dictionaryOutputDir, "posting-dictionary-v" + version + ".txt");
+        try {
+            Files.createDirectories(file.getParent());
+            Files.write(file, dictionary);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write " + file + ": " + e.getMessage(), e);
+        }
+
+        byte[] current = TextCodec.currentDictionary();
+        long plainBytes = 0;
+        long currentBytes = 0;
+        long trainedBytes = 0;
+        for (String text : holdout) {
+            plainBytes += text.getBytes(StandardCharsets.UTF_8).length;
+            currentBytes += TextCodec.deflatedSize(text, current);
+            trainedBytes += TextCodec.deflatedSize(text, dictionary);
+        }
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("version", version);
+        result.put("file", file.toAbsolutePath().toString());
+        result.put("dictionaryBytes", dictionary.length);
+        result.put("trainingSamples", training.size());
+        result.put("trainingBytes", trainingBytes);
+        result.put("holdoutSamples", holdout.size());
+        result.put("holdoutPlainBytes", plainBytes);
+        result.put("holdoutDeflatedWithCurrent", currentBytes);
+        result.put("holdoutDeflatedWithTrained", trainedBytes);
+        return result;
+    }
+
+    /**
+     * Rewrite rows stored before compression or with an older dictionary: encode their text and drop
+     * raw text equal to the description. Rows already in the current form are left untouched.
+     */
+    public Map<String, Object> compact() {
+        long contentRows = 0;
+        long afterId = 0;
+        List<Map<String, Object>> page;
+        do {
+            page = jdbcTemplate.queryForList(
+                "SELECT job_offer_id, description, raw_text, raw_text_is_description, extracted_data " +
+                "FROM job_offer_content WHERE job_offer_id > ? ORDER BY job_offer_id LIMIT ?",
+                afterId, COMPACT_BATCH_SIZE);
+            for (Map<String, Object> row : page) {
+                afterId = ((Number) row.get("job_offer_id")).longValue();
+                String description = (String) row.get("description");
+                String storedRawText = (String) row.get("raw_text");
+                boolean wasSame = Boolean.TRUE.equals(row.get("raw_text_is_description"));
+                String rawText = wasSame ? description : TextCodec.decode(storedRawText);
+                boolean same = rawText != null && rawText.equals(description);
+                String newRawText = same ? null : TextCodec.encode(rawText);
+                String storedExtractedData = (String) row.get("extracted_data");
+                String newExtractedData = TextCodec.encode(TextCodec.decode(storedExtractedData));
+                if (same != wasSame || !Objects.equals(newRawText, storedRawText)
+                        || !Objects.equals(newExtractedData, storedExtractedData)) {
+                    contentRows += jdbcTemplate.update(
+                        "UPDATE job_offer_content SET raw_text = ?, raw_text_is_description = ?, extracted_data = ? " +
+                        "WHERE job_offer_id = ?", newRawText, same, newExtractedData, afterId);
+                }
+            }
+        } while (page.size() == COMPACT_BATCH_SIZE);
+
+        long applicationRows = 0;
+        afterId = 0;
+        do {
+            page = jdbcTemplate.queryForList(
+                "SELECT id, cover_letter FROM applications WHERE id > ? AND cover_letter IS NOT NULL " +
+                "ORDER BY id LIMIT ?", afterId, COMPACT_BATCH_SIZE);
+            for (Map<String, Object> row : page) {
+                afterId = ((Number) row.get("id")).longValue();
+                String stored = (String) row.get("cover_letter");
+                String encoded = TextCodec.encode(TextCodec.decode(stored));
+                if (!encoded.equals(stored)) {
+                    applicationRows += jdbcTemplate.update(
+                        "UPDATE applications SET cover_letter = ? WHERE id = ?", encoded, afterId);
+                }
+            }
+        } while (page.size() == COMPACT_BATCH_SIZE);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("contentRowsRewritten", contentRows);
+        result.put("applicationRowsRewritten", applicationRows);
+        return result;
+    }
+}
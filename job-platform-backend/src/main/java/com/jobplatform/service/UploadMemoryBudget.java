@@ -0,0 +1,88 @@
+package com.jobplatform.service;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Global budget for document bytes being handled at the same time. Uploads and queued documents are
+ * admitted only while the budget allows, so concurrent large files queue up instead of exhausting the heap.
+ */
+@Component
+public class UploadMemoryBudget {
+
+    private static final long UNIT = 1024;
+
+    @Value("${extractor.upload.max-in-flight-bytes:268435456}")
+    private long maxInFlightBytes;
+
+    @Value("${extractor.upload.admission-wait-ms:2000}")
+    private long admissionWaitMs;
+
+    // One permit per KiB; fair so a large document is not starved by a stream of small ones
+    private Semaphore permits;
+
+    private int totalPermits;
+
+    private final LongAdder rejected = new LongAdder();
+
+    @PostConstruct
+    void init() {
+        totalPermits = (int) Math.min(Integer.MAX_VALUE, Math.max(1, maxInFlightBytes / UNIT));
+        permits = new Semaphore(totalPermits, true);
+    }
+
+    /**
+     * Reserve room for a document of the given size, waiting up to the admission timeout.
+     * A document larger than the whole budget is admitted once it can run alone.
+     */
+    public Permit admit(long bytes) {
+        int units = (int) Math.min(totalPermits, Math.max(1, (bytes + UNIT - 1) / UNIT));
+        boolean admitted;
+        try {
+            admitted = permits.tryAcquire(units, admissionWaitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for upload capacity", e);
+        }
+        if (!admitted) {
+            rejected.increment();
+            throw new RuntimeException("Too many documents are being processed, please retry shortly");
+        }
+        return new Permit(units);
+    }
+
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new HashMap<>();
+        status.put("maxInFlightBytes", totalPermits * UNIT);
+        status.put("inFlightBytes", (totalPermits - permits.availablePermits()) * UNIT);
+        status.put("rejected", rejected.sum());
+        return status;
+    }
+
+    /**
+     * Reserved share of the budget, returned on close
+     */
+    public class Permit implements AutoCloseable {
+        private final int units;
+        private boolean released;
+
+        private Permit(int units) {
+            this.units = units;
+        }
+
+        @Override
+        public void close() {
+            if (!released) {
+                released = true;
+                permits.release(units);
+            }
+        }
+    }
+}
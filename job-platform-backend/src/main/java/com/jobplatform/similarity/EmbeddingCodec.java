@@ -0,0 +1,52 @@
+package com.jobplatform.similarity;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Binary encodings of embedding vectors: packed little-endian float32, and symmetric int8
+ * quantization where value = byte * scale
+ */
+public final class EmbeddingCodec {
+
+    private EmbeddingCodec() {}
+
+    public static byte[] pack(float[] vector) {
+        ByteBuffer buffer = ByteBuffer.allocate(vector.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asFloatBuffer().put(vector);
+        return buffer.array();
+    }
+
+    public static float[] unpack(byte[] packed) {
+        float[] vector = new float[packed.length / Float.BYTES];
+        ByteBuffer.wrap(packed).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(vector);
+        return vector;
+    }
+
+    /**
+     * Scale mapping the largest absolute component to 127
+     */
+    public static float quantizationScale(float[] vector) {
+        float max = 0f;
+        for (float v : vector) {
+            max = Math.max(max, Math.abs(v));
+        }
+        return max == 0f ? 1f : max / 127f;
+    }
+
+    public static byte[] quantize(float[] vector, float scale) {
+        byte[] quantized = new byte[vector.length];
+        for (int i = 0; i < vector.length; i++) {
+            quantized[i] = (byte) Math.max(-127, Math.min(127, Math.round(vector[i] / scale)));
+        }
+        return quantized;
+    }
+
+    public static float[] dequantize(byte[] quantized, float scale) {
+        float[] vector = new float[quantized.length];
+        for (int i = 0; i < quantized.length; i++) {
+            vector[i] = quantized[i] * scale;
+        }
+        return vector;
+    }
+}
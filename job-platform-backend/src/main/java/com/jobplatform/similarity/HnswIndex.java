@@ -0,0 +1,486 @@
+package com.jobplatform.similarity;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Hierarchical Navigable Small World graph for approximate nearest-neighbour search by cosine
+ * similarity. Vectors are normalized on insert. Removed entries stay in the graph as routing nodes
+ * and are skipped in results until the index is compacted.
+ */
+public final class HnswIndex {
+
+    private final int m;
+    private final int maxLinksLevel0;
+    private final int efConstruction;
+    private final double levelMultiplier;
+    private volatile int efSearch;
+
+    private final List<Node> nodes = new ArrayList<>();
+    private final Map<Long, Integer> nodeById = new HashMap<>();
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+    private int deletedCount;
+    private int dimensions = -1;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public HnswIndex(int m, int efConstruction, int efSearch) {
+        this.m = Math.max(2, m);
+        this.maxLinksLevel0 = this.m * 2;
+        this.efConstruction = Math.max(this.m, efConstruction);
+        this.efSearch = efSearch;
+        this.levelMultiplier = 1 / Math.log(this.m);
+    }
+
+    /**
+     * Neighbour found by a search, with its cosine similarity to the query
+     */
+    public static final class Result {
+        private final long id;
+        private final float similarity;
+
+        Result(long id, float similarity) {
+            this.id = id;
+            this.similarity = similarity;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public float getSimilarity() {
+            return similarity;
+        }
+    }
+
+    private static final class Node {
+        final long id;
+        final float[] vector;
+        final int[][] links;
+        final int[] linkCount;
+        boolean deleted;
+
+        Node(long id, float[] vector, int level, int m, int maxLinksLevel0) {
+            this.id = id;
+            this.vector = vector;
+            this.links = new int[level + 1][];
+            this.linkCount = new int[level + 1];
+            for (int l = 0; l <= level; l++) {
+                links[l] = new int[(l == 0 ? maxLinksLevel0 : m) + 1];
+            }
+        }
+
+        int level() {
+            return links.length - 1;
+        }
+    }
+
+    private static final class Candidate {
+        final int node;
+        final float distance;
+
+        Candidate(int node, float distance) {
+            this.node = node;
+            this.distance = distance;
+        }
+    }
+
+    private static final Comparator<Candidate> NEAREST_FIRST = Comparator.comparingDouble(c -> c.distance);
+    private static final Comparator<Candidate> FARTHEST_FIRST = NEAREST_FIRST.reversed();
+
+    /**
+     * Insert a vector, replacing any previous vector stored under the same id
+     */
+    public void put(long id, float[] vector) {
+        float[] normalized = normalize(vector);
+        lock.writeLock().lock();
+        try {
+            if (dimensions == -1) {
+                dimensions = normalized.length;
+            } else if (dimensions != normalized.length) {
+                throw new IllegalArgumentException("Expected " + dimensions + " dimensions, got " + normalized.length);
+            }
+            markDeleted(id);
+            insert(id, normalized);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            markDeleted(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean contains(long id) {
+        lock.readLock().lock();
+        try {
+            return nodeById.containsKey(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Stored (normalized) vector of an id, or null when absent
+     */
+    public float[] get(long id) {
+        lock.readLock().lock();
+        try {
+            Integer node = nodeById.get(id);
+            return node != null ? nodes.get(node).vector.clone() : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Approximate k nearest neighbours, most similar first
+     */
+    public List<Result> search(float[] query, int k) {
+        return search(query, k, efSearch);
+    }
+
+    /**
+     * Approximate k nearest neighbours with an explicit candidate list size
+     */
+    public List<Result> search(float[] query, int k, int ef) {
+        float[] q = normalize(query);
+        lock.readLock().lock();
+        try {
+            if (entryPoint == -1 || k <= 0 || q.length != dimensions) {
+                return List.of();
+            }
+
+            int current = entryPoint;
+            for (int level = maxLevel; level > 0; level--) {
+                current = greedyClosest(q, current, level);
+            }
+
+            List<Candidate> candidates = searchLayer(q, current, Math.max(ef, k), 0);
+            List<Result> results = new ArrayList<>(k);
+            for (Candidate candidate : candidates) {
+                Node node = nodes.get(candidate.node);
+                if (!node.deleted) {
+                    results.add(new Result(node.id, 1 - candidate.distance));
+                    if (results.size() == k) {
+                        break;
+                    }
+                }
+            }
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Exact k nearest neighbours by linear scan, used to measure the recall of search()
+     */
+    public List<Result> exactSearch(float[] query, int k) {
+        float[] q = normalize(query);
+        lock.readLock().lock();
+        try {
+            if (q.length != dimensions) {
+                return List.of();
+            }
+            PriorityQueue<Candidate> best = new PriorityQueue<>(FARTHEST_FIRST);
+            for (int i = 0; i < nodes.size(); i++) {
+                if (nodes.get(i).deleted) {
+                    continue;
+                }
+                best.add(new Candidate(i, distance(q, nodes.get(i).vector)));
+                if (best.size() > k) {
+                    best.poll();
+                }
+            }
+            List<Candidate> sorted = new ArrayList<>(best);
+            sorted.sort(NEAREST_FIRST);
+            return sorted.stream().map(c -> new Result(nodes.get(c.node).id, 1 - c.distance)).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Up to n distinct live ids picked at random
+     */
+    public List<Long> sampleIds(int n) {
+        lock.readLock().lock();
+        try {
+            List<Long> ids = new ArrayList<>(nodeById.keySet());
+            Collections.shuffle(ids, ThreadLocalRandom.current());
+            return new ArrayList<>(ids.subList(0, Math.min(n, ids.size())));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rebuild the graph from the live entries, dropping the routing nodes left by removals
+     */
+    public void compact() {
+        lock.writeLock().lock();
+        try {
+            List<Node> live = nodes.stream().filter(node -> !node.deleted).toList();
+            nodes.clear();
+            nodeById.clear();
+            entryPoint = -1;
+            maxLevel = -1;
+            deletedCount = 0;
+            for (Node node : live) {
+                insert(node.id, node.vector);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            nodes.clear();
+            nodeById.clear();
+            entryPoint = -1;
+            maxLevel = -1;
+            deletedCount = 0;
+            dimensions = -1;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return nodeById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Share of graph nodes that are removed entries
+     */
+    public double deletedRatio() {
+        lock.readLock().lock();
+        try {
+            return nodes.isEmpty() ? 0.0 : (double) deletedCount / nodes.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getM() {
+        return m;
+    }
+
+    public int getEfConstruction() {
+        return efConstruction;
+    }
+
+    public int getEfSearch() {
+        return efSearch;
+    }
+
+    public void setEfSearch(int efSearch) {
+        this.efSearch = efSearch;
+    }
+
+    private void markDeleted(long id) {
+        Integer existing = nodeById.remove(id);
+        if (existing != null) {
+            nodes.get(existing).deleted = true;
+            deletedCount++;
+        }
+    }
+
+    private void insert(long id, float[] vector) {
+        int level = randomLevel();
+        int index = nodes.size();
+        Node node = new Node(id, vector, level, m, maxLinksLevel0);
+        nodes.add(node);
+        nodeById.put(id, index);
+
+        if (entryPoint == -1) {
+            entryPoint = index;
+            maxLevel = level;
+            return;
+        }
+
+        int current = entryPoint;
+        for (int l = maxLevel; l > level; l--) {
+            current = greedyClosest(vector, current, l);
+        }
+
+        for (int l = Math.min(level, maxLevel); l >= 0; l--) {
+            List<Candidate> candidates = searchLayer(vector, current, efConstruction, l);
+            for (Candidate neighbour : selectNeighbours(candidates, m)) {
+                addLink(index, neighbour.node, l);
+                addLink(neighbour.node, index, l);
+            }
+            current = candidates.get(0).node;
+        }
+
+        if (level > maxLevel) {
+            entryPoint = index;
+            maxLevel = level;
+        }
+    }
+
+    private int randomLevel() {
+        double u = 1.0 - ThreadLocalRandom.current().nextDouble();
+        return (int) (-Math.log(u) * levelMultiplier);
+    }
+
+    private int greedyClosest(float[] query, int start, int level) {
+        int current = start;
+        float currentDistance = distance(query, nodes.get(current).vector);
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            Node node = nodes.get(current);
+            for (int i = 0; i < node.linkCount[level]; i++) {
+                int neighbour = node.links[level][i];
+                float d = distance(query, nodes.get(neighbour).vector);
+                if (d < currentDistance) {
+                    current = neighbour;
+                    currentDistance = d;
+                    improved = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Best-first search of one layer; returns up to ef candidates, nearest first
+     */
+    private List<Candidate> searchLayer(float[] query, int start, int ef, int level) {
+        BitSet visited = new BitSet(nodes.size());
+        PriorityQueue<Candidate> toVisit = new PriorityQueue<>(NEAREST_FIRST);
+        PriorityQueue<Candidate> found = new PriorityQueue<>(FARTHEST_FIRST);
+
+        Candidate first = new Candidate(start, distance(query, nodes.get(start).vector));
+        visited.set(start);
+        toVisit.add(first);
+        found.add(first);
+
+        while (!toVisit.isEmpty()) {
+            Candidate closest = toVisit.poll();
+            if (closest.distance > found.peek().distance && found.size() >= ef) {
+                break;
+            }
+            Node node = nodes.get(closest.node);
+            for (int i = 0; i < node.linkCount[level]; i++) {
+                int neighbour = node.links[level][i];
+                if (visited.get(neighbour)) {
+                    continue;
+                }
+                visited.set(neighbour);
+                float d = distance(query, nodes.get(neighbour).vector);
+                if (found.size() < ef || d < found.peek().distance) {
+                    Candidate candidate = new Candidate(neighbour, d);
+                    toVisit.add(candidate);
+                    found.add(candidate);
+                    if (found.size() > ef) {
+                        found.poll();
+                    }
+                }
+            }
+        }
+
+        List<Candidate> result = new ArrayList<>(found);
+        result.sort(NEAREST_FIRST);
+        return result;
+    }
+
+    /**
+     * Neighbour selection heuristic: keep a candidate only if it is closer to the base than to any
+     * neighbour already kept, which spreads links across clusters; top up with the nearest pruned ones
+     */
+    private List<Candidate> selectNeighbours(List<Candidate> candidatesNearestFirst, int max) {
+        List<Candidate> selected = new ArrayList<>(max);
+        List<Candidate> pruned = new ArrayList<>();
+        for (Candidate candidate : candidatesNearestFirst) {
+            if (selected.size() >= max) {
+                break;
+            }
+            boolean diverse = true;
+            float[] vector = nodes.get(candidate.node).vector;
+            for (Candidate kept : selected) {
+                if (distance(vector, nodes.get(kept.node).vector) < candidate.distance) {
+                    diverse = false;
+                    break;
+                }
+            }
+            if (diverse) {
+                selected.add(candidate);
+            } else {
+                pruned.add(candidate);
+            }
+        }
+        for (int i = 0; i < pruned.size() && selected.size() < max; i++) {
+            selected.add(pruned.get(i));
+        }
+        return selected;
+    }
+
+    private void addLink(int from, int to, int level) {
+        Node node = nodes.get(from);
+        int max = level == 0 ? maxLinksLevel0 : m;
+        node.links[level][node.linkCount[level]++] = to;
+        if (node.linkCount[level] <= max) {
+            return;
+        }
+
+        // Over capacity: re-select this node's neighbours among the current ones plus the new link
+        List<Candidate> candidates = new ArrayList<>(node.linkCount[level]);
+        for (int i = 0; i < node.linkCount[level]; i++) {
+            int neighbour = node.links[level][i];
+            candidates.add(new Candidate(neighbour, distance(node.vector, nodes.get(neighbour).vector)));
+        }
+        candidates.sort(NEAREST_FIRST);
+        List<Candidate> kept = selectNeighbours(candidates, max);
+        node.linkCount[level] = kept.size();
+        for (int i = 0; i < kept.size(); i++) {
+            node.links[level][i] = kept.get(i).node;
+        }
+    }
+
+    private static float distance(float[] a, float[] b) {
+        float dot = 0f;
+        for (int i = 0; i < a.length; i++) {
+            dot += a[i] * b[i];
+        }
+        return 1f - dot;
+    }
+
+    private static float[] normalize(float[] vector) {
+        double norm = 0;
+        for (float v : vector) {
+            norm += v * v;
+        }
+        float[] normalized = vector.clone();
+        if (norm > 0) {
+            float inverse = (float) (1 / Math.sqrt(norm));
+            for (int i = 0; i < normalized.length; i++) {
+                normalized[i] *= inverse;
+            }
+        }
+        return normalized;
+    }
+}
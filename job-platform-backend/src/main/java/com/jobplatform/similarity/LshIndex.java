@@ -0,0 +1,152 @@
+package com.jobplatform.similarity;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Locality-sensitive hashing over MinHash signatures. Each signature is split into bands; entries
+ * sharing any whole band are candidates, which are then checked against the full signature.
+ */
+public final class LshIndex {
+
+    private final int bands;
+    private final int rows;
+
+    private final Map<Long, List<Long>> buckets = new HashMap<>();
+    private final Map<Long, int[]> signatures = new HashMap<>();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public LshIndex(int numHashes, int bands) {
+        if (bands <= 0 || numHashes % bands != 0) {
+            throw new IllegalArgumentException("Signature length " + numHashes + " is not divisible into " + bands + " bands");
+        }
+        this.bands = bands;
+        this.rows = numHashes / bands;
+    }
+
+    /**
+     * Closest indexed entry to a signature, if any
+     */
+    public static final class Match {
+        private final long id;
+        private final double similarity;
+
+        Match(long id, double similarity) {
+            this.id = id;
+            this.similarity = similarity;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public double getSimilarity() {
+            return similarity;
+        }
+    }
+
+    /**
+     * Index a signature, replacing any previous signature of the same id
+     */
+    public void put(long id, int[] signature) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            signatures.put(id, signature);
+            for (int band = 0; band < bands; band++) {
+                buckets.computeIfAbsent(bandKey(signature, band), key -> new ArrayList<>(1)).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            buckets.clear();
+            signatures.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return signatures.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Most similar indexed entry at or above the threshold, ignoring the given id
+     */
+    public Match findBest(int[] signature, double threshold, long excludeId) {
+        lock.readLock().lock();
+        try {
+            Set<Long> seen = new HashSet<>();
+            Match best = null;
+            for (int band = 0; band < bands; band++) {
+                List<Long> bucket = buckets.get(bandKey(signature, band));
+                if (bucket == null) {
+                    continue;
+                }
+                for (Long candidate : bucket) {
+                    if (candidate == excludeId || !seen.add(candidate)) {
+                        continue;
+                    }
+                    double similarity = MinHash.similarity(signature, signatures.get(candidate));
+                    if (similarity >= threshold && (best == null || similarity > best.similarity)) {
+                        best = new Match(candidate, similarity);
+                    }
+                }
+            }
+            return best;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeLocked(long id) {
+        int[] previous = signatures.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (int band = 0; band < bands; band++) {
+            long key = bandKey(previous, band);
+            List<Long> bucket = buckets.get(key);
+            if (bucket != null) {
+                bucket.remove(Long.valueOf(id));
+                if (bucket.isEmpty()) {
+                    buckets.remove(key);
+                }
+            }
+        }
+    }
+
+    // Band number mixed with the band's rows, so equal rows in different bands do not collide
+    private long bandKey(int[] signature, int band) {
+        long key = band;
+        for (int i = band * rows; i < (band + 1) * rows; i++) {
+            key = key * 0x9E3779B97F4A7C15L + signature[i];
+        }
+        return key;
+    }
+}
@@ -0,0 +1,125 @@
+package com.jobplatform.similarity;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * MinHash signatures over word shingles. The hash family is derived from a fixed seed so signatures
+ * stored in the database stay comparable across restarts.
+ */
+public final class MinHash {
+
+    private static final long SEED = 0x5DEECE66DL;
+
+    private final int numHashes;
+    private final int shingleSize;
+    private final long[] multipliers;
+    private final long[] offsets;
+
+    public MinHash(int numHashes, int shingleSize) {
+        this.numHashes = numHashes;
+        this.shingleSize = Math.max(1, shingleSize);
+        this.multipliers = new long[numHashes];
+        this.offsets = new long[numHashes];
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (int i = 0; i < numHashes; i++) {
+            multipliers[i] = random.nextLong() | 1L;
+            offsets[i] = random.nextLong();
+        }
+    }
+
+    public int getNumHashes() {
+        return numHashes;
+    }
+
+    /**
+     * Signature of a text; texts shorter than one shingle are hashed as a single shingle
+     */
+    public int[] signature(String text) {
+        int[] signature = new int[numHashes];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+
+        List<String> words = tokenize(text);
+        int shingles = Math.max(1, words.size() - shingleSize + 1);
+        for (int start = 0; start < shingles; start++) {
+            long shingle = hashShingle(words, start, Math.min(words.size(), start + shingleSize));
+            for (int i = 0; i < numHashes; i++) {
+                int h = (int) ((multipliers[i] * shingle + offsets[i]) >>> 32);
+                if (h < signature[i]) {
+                    signature[i] = h;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * Estimated Jaccard similarity: share of positions where both signatures agree
+     */
+    public static double similarity(int[] a, int[] b) {
+        int same = 0;
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == b[i]) {
+                same++;
+            }
+        }
+        return (double) same / a.length;
+    }
+
+    /**
+     * Packed little-endian int32 form of a signature, for storage
+     */
+    public static byte[] pack(int[] signature) {
+        ByteBuffer buffer = ByteBuffer.allocate(signature.length * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asIntBuffer().put(signature);
+        return buffer.array();
+    }
+
+    public static int[] unpack(byte[] packed) {
+        int[] signature = new int[packed.length / Integer.BYTES];
+        ByteBuffer.wrap(packed).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(signature);
+        return signature;
+    }
+
+    /**
+     * Lower-cased letter/digit runs, so whitespace and punctuation edits do not change the shingles
+     */
+    private static List<String> tokenize(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean wordChar = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                words.add(lower.substring(start, i));
+                start = -1;
+            }
+        }
+        return words;
+    }
+
+    // 64-bit FNV-1a over the words of the shingle, with a separator between words
+    private static long hashShingle(List<String> words, int from, int to) {
+        long hash = 0xcbf29ce484222325L;
+        for (int w = from; w < to; w++) {
+            String word = words.get(w);
+            for (int i = 0; i < word.length(); i++) {
+                hash ^= word.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+            hash ^= ' ';
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
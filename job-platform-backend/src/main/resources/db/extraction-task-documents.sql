@@ -0,0 +1,5 @@
+-- Drops the document column left on extraction_tasks after documents moved to
+-- extraction_task_documents (MySQL). ExtractionTaskDocumentMigration moves queued documents at
+-- startup; run this once that has completed.
+
+ALTER TABLE extraction_tasks DROP COLUMN document_content;
@@ -0,0 +1,9 @@
+-- FULLTEXT indexes backing search.backend=fulltext (InnoDB, MySQL 5.6+)
+-- Applied automatically at startup when that backend is selected; kept here for manual migrations.
+-- The description lives in job_offer_content, so it is indexed there.
+
+ALTER TABLE job_offers
+    ADD FULLTEXT INDEX ft_job_offers_text (title, company, skills);
+
+ALTER TABLE job_offer_content
+    ADD FULLTEXT INDEX ft_job_offer_content_description (description);
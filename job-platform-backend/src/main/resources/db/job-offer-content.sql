@@ -0,0 +1,17 @@
+-- Moves the large text columns of job_offers to job_offer_content (MySQL).
+-- JobOfferContentMigration performs the data move at startup; run this script once that has
+-- completed to drop the emptied columns and the FULLTEXT index that covered them. Moved text is
+-- stored plain; POST /admin/compression/compact compresses it afterwards.
+
+INSERT INTO job_offer_content (job_offer_id, description, raw_text, extracted_data)
+SELECT j.id, j.description, j.raw_text, j.extracted_data
+FROM job_offers j
+WHERE (j.description IS NOT NULL OR j.raw_text IS NOT NULL OR j.extracted_data IS NOT NULL)
+  AND NOT EXISTS (SELECT 1 FROM job_offer_content c WHERE c.job_offer_id = j.id);
+
+ALTER TABLE job_offers DROP INDEX ft_job_offers_search;
+
+ALTER TABLE job_offers
+    DROP COLUMN description,
+    DROP COLUMN raw_text,
+    DROP COLUMN extracted_data;
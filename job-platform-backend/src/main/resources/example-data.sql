@@ -1,5 +1,6 @@
 -- Clear existing data
 DELETE FROM applications;
+DELETE FROM job_offer_content;
 DELETE FROM job_offers;
 DELETE FROM users;
 
@@ -14,8 +15,17 @@ INSERT INTO users (name, email, password, role, active) VALUES
 ('Sarah Johnson', 'sarah.johnson@email.com', '$2a$10$example', 'OFFERER', true);
 
 -- Create job offers with different dates and titles
-INSERT INTO job_offers (offerer_id, title, company, location, contract_type, domain, skills, salary, duration, deadline, description, raw_text, extracted_data, is_active, created_at) VALUES
-(2, 'Cloud Solutions Architect', 'MegaCorp Digital', 'Paris, France', 'Full-time', 'Cloud Computing', 'AWS, Azure, Kubernetes, DevOps', '€95,000 - €120,000', 'Permanent', '2024-12-15', 'Senior cloud architect position for digital transformation', 'POSTE : Architecte Solutions Cloud Hybrides & DevOps
+INSERT INTO job_offers (offerer_id, title, company, location, contract_type, domain, skills, salary, duration, deadline, is_active, created_at) VALUES
+(2, 'Cloud Solutions Architect', 'MegaCorp Digital', 'Paris, France', 'Full-time', 'Cloud Computing', 'AWS, Azure, Kubernetes, DevOps', '€95,000 - €120,000', 'Permanent', '2024-12-15', true, '2024-11-10 09:00:00'),
+(2, 'Python Data Science Intern', 'TechNova Solutions', 'Paris, France', 'Internship', 'Data Science', 'Python, Pandas, SQL, Machine Learning', '€1,200/month', '6 months', '2024-10-15', true, '2024-10-05 14:20:00'),
+(2, 'Software Engineer Intern', 'GlobalSoft Ltd', 'London, UK', 'Internship', 'Software Development', 'Java, Spring Boot, React, TypeScript', '£1,200/month', '3 months', '2024-11-01', true, '2024-09-25 11:15:00'),
+(2, 'Data Science & DevOps Intern', 'Quantum Analytics Group', 'Boston, MA', 'Internship', 'Data Science', 'Python, R, SQL, Machine Learning, DevOps', '$4,500-$5,200/month', '6-12 months', '2025-03-15', true, '2024-08-20 16:45:00'),
+(2, 'Senior Full-Stack Developer & AI Specialist', 'InnovateTech Solutions', 'Remote (Global)', 'Full-time', 'Software Development', 'Python, JavaScript, React, AI/ML, Blockchain', '$145,000-$185,000', 'Permanent', '2024-12-31', true, '2024-07-15 13:30:00'),
+(2, 'Frontend Developer', 'TechStart Inc', 'New York, NY', 'Full-time', 'Web Development', 'React, TypeScript, CSS, HTML', '$80,000-$100,000', 'Permanent', '2024-11-30', true, '2024-06-10 10:00:00');
+
+-- Description, raw text and extraction JSON of the offers above
+INSERT INTO job_offer_content (job_offer_id, description, raw_text, extracted_data) VALUES
+(1, 'Senior cloud architect position for digital transformation', 'POSTE : Architecte Solutions Cloud Hybrides & DevOps
 ENTREPRISE : MegaCorp Digital Transformation (Filiale du CAC 40)
 LIEUX : Multi-sites (Paris-La Défense, Lyon, Toulouse) + Télétravail Flexible + Clientèle Internationale
 
@@ -67,9 +77,8 @@ Dates Clés :
 Contacts Professionnels :
 - Responsable Recrutement : Marie Dubois - mdubois@megacorp-digital.com
 - Réseaux : LinkedIn MegaCorp Digital Transformation
-- Tel : 01 47 65 89 32 (Poste 245)', '{"job_title":{"value":"Architecte Solutions Cloud Hybrides & DevOps","confidence":0.95},"company":{"value":"MegaCorp Digital Transformation","confidence":0.95},"location":{"value":["Paris-La Défense","Lyon","Toulouse"],"confidence":0.9},"contract_type":["Full-time"],"salary":["€95,000 - €120,000"],"skills":[{"skill":"AWS","confidence":0.9},{"skill":"Azure","confidence":0.9},{"skill":"Kubernetes","confidence":0.8},{"skill":"DevOps","confidence":0.8}]}', true, '2024-11-10 09:00:00'),
-
-(2, 'Python Data Science Intern', 'TechNova Solutions', 'Paris, France', 'Internship', 'Data Science', 'Python, Pandas, SQL, Machine Learning', '€1,200/month', '6 months', '2024-10-15', 'Data science internship for students', 'Titre du poste : Stagiaire Développeur Python / Data
+- Tel : 01 47 65 89 32 (Poste 245)', '{"job_title":{"value":"Architecte Solutions Cloud Hybrides & DevOps","confidence":0.95},"company":{"value":"MegaCorp Digital Transformation","confidence":0.95},"location":{"value":["Paris-La Défense","Lyon","Toulouse"],"confidence":0.9},"contract_type":["Full-time"],"salary":["€95,000 - €120,000"],"skills":[{"skill":"AWS","confidence":0.9},{"skill":"Azure","confidence":0.9},{"skill":"Kubernetes","confidence":0.8},{"skill":"DevOps","confidence":0.8}]}'),
+(2, 'Data science internship for students', 'Titre du poste : Stagiaire Développeur Python / Data
 Entreprise : TechNova Solutions
 Lieu : Paris, France
 
@@ -87,9 +96,8 @@ Profil recherché :
 Type de contrat : Stage de 6 mois
 Début : 15/10/2025
 Rémunération : 1200 € / mois
-Contact : recrutement@technova.fr', '{"job_title":{"value":"Stagiaire Développeur Python / Data","confidence":0.95},"company":{"value":"TechNova Solutions","confidence":0.95},"location":{"value":["Paris, France"],"confidence":0.9},"contract_type":["Internship"],"salary":["€1,200/month"],"skills":[{"skill":"Python","confidence":0.9},{"skill":"Pandas","confidence":0.8},{"skill":"SQL","confidence":0.8},{"skill":"Machine Learning","confidence":0.8}]}', true, '2024-10-05 14:20:00'),
-
-(2, 'Software Engineer Intern', 'GlobalSoft Ltd', 'London, UK', 'Internship', 'Software Development', 'Java, Spring Boot, React, TypeScript', '£1,200/month', '3 months', '2024-11-01', 'Software engineering internship', 'Job Title: Software Engineer Intern
+Contact : recrutement@technova.fr', '{"job_title":{"value":"Stagiaire Développeur Python / Data","confidence":0.95},"company":{"value":"TechNova Solutions","confidence":0.95},"location":{"value":["Paris, France"],"confidence":0.9},"contract_type":["Internship"],"salary":["€1,200/month"],"skills":[{"skill":"Python","confidence":0.9},{"skill":"Pandas","confidence":0.8},{"skill":"SQL","confidence":0.8},{"skill":"Machine Learning","confidence":0.8}]}'),
+(3, 'Software engineering internship', 'Job Title: Software Engineer Intern
 Company: GlobalSoft Ltd
 Location: London, United Kingdom
 
@@ -107,9 +115,8 @@ Requirements:
 Contract Type: Internship, 3 months
 Start Date: 2025-11-01
 Salary: £1,200 per month
-Please send your CV to hr@globalsoft.co.uk', '{"job_title":{"value":"Software Engineer Intern","confidence":0.95},"company":{"value":"GlobalSoft Ltd","confidence":0.95},"location":{"value":["London, United Kingdom"],"confidence":0.9},"contract_type":["Internship"],"salary":["£1,200/month"],"skills":[{"skill":"Java","confidence":0.9},{"skill":"Spring Boot","confidence":0.8},{"skill":"React","confidence":0.8},{"skill":"TypeScript","confidence":0.8}]}', true, '2024-09-25 11:15:00'),
-
-(2, 'Data Science & DevOps Intern', 'Quantum Analytics Group', 'Boston, MA', 'Internship', 'Data Science', 'Python, R, SQL, Machine Learning, DevOps', '$4,500-$5,200/month', '6-12 months', '2025-03-15', 'Dual role internship in data science and DevOps', 'Position: Data Science & DevOps Intern (Dual Role)
+Please send your CV to hr@globalsoft.co.uk', '{"job_title":{"value":"Software Engineer Intern","confidence":0.95},"company":{"value":"GlobalSoft Ltd","confidence":0.95},"location":{"value":["London, United Kingdom"],"confidence":0.9},"contract_type":["Internship"],"salary":["£1,200/month"],"skills":[{"skill":"Java","confidence":0.9},{"skill":"Spring Boot","confidence":0.8},{"skill":"React","confidence":0.8},{"skill":"TypeScript","confidence":0.8}]}'),
+(4, 'Dual role internship in data science and DevOps', 'Position: Data Science & DevOps Intern (Dual Role)
 Organization: Quantum Analytics Group - A subsidiary of TechGlobal Partners LLC
 Locations: Multiple - Boston, MA (HQ) | London, UK | Singapore | Hybrid Options
 
@@ -145,9 +152,8 @@ Start: June 1, 2025 or September 1, 2025
 Application: Rolling admissions until March 15, 2025
 
 Contact: internship.coordinator@quantumanalytics.io | http://quantum-analytics.org/internships
-Reference Code: QAG-DS-DEVOPS-2025', '{"job_title":{"value":"Data Science & DevOps Intern","confidence":0.95},"company":{"value":"Quantum Analytics Group","confidence":0.95},"location":{"value":["Boston, MA","London, UK","Singapore"],"confidence":0.9},"contract_type":["Internship"],"salary":["$4,500-$5,200/month"],"skills":[{"skill":"Python","confidence":0.9},{"skill":"R","confidence":0.8},{"skill":"SQL","confidence":0.8},{"skill":"Machine Learning","confidence":0.8},{"skill":"DevOps","confidence":0.8}]}', true, '2024-08-20 16:45:00'),
-
-(2, 'Senior Full-Stack Developer & AI Specialist', 'InnovateTech Solutions', 'Remote (Global)', 'Full-time', 'Software Development', 'Python, JavaScript, React, AI/ML, Blockchain', '$145,000-$185,000', 'Permanent', '2024-12-31', 'Senior developer role with AI specialization', 'Job Title: Senior Full-Stack Developer & AI Specialist
+Reference Code: QAG-DS-DEVOPS-2025', '{"job_title":{"value":"Data Science & DevOps Intern","confidence":0.95},"company":{"value":"Quantum Analytics Group","confidence":0.95},"location":{"value":["Boston, MA","London, UK","Singapore"],"confidence":0.9},"contract_type":["Internship"],"salary":["$4,500-$5,200/month"],"skills":[{"skill":"Python","confidence":0.9},{"skill":"R","confidence":0.8},{"skill":"SQL","confidence":0.8},{"skill":"Machine Learning","confidence":0.8},{"skill":"DevOps","confidence":0.8}]}'),
+(5, 'Senior developer role with AI specialization', 'Job Title: Senior Full-Stack Developer & AI Specialist
 Company: InnovateTech Solutions Inc. (NYSE: INVT)
 Location: Remote (Global) with optional offices in San Francisco, CA or Austin, TX
 
@@ -182,9 +188,8 @@ Start Date: Flexible between 2025-01-15 and 2025-02-28
 Application Deadline: 2024-12-31
 
 Contact: careers+dev@innovatetech.com | https://innovatetech.com/careers/senior-dev
-Phone: +1 (415) 555-7890', '{"job_title":{"value":"Senior Full-Stack Developer & AI Specialist","confidence":0.95},"company":{"value":"InnovateTech Solutions Inc.","confidence":0.95},"location":{"value":["Remote (Global)","San Francisco, CA","Austin, TX"],"confidence":0.9},"contract_type":["Full-time"],"salary":["$145,000-$185,000"],"skills":[{"skill":"Python","confidence":0.9},{"skill":"JavaScript","confidence":0.9},{"skill":"React","confidence":0.8},{"skill":"AI/ML","confidence":0.8},{"skill":"Blockchain","confidence":0.7}]}', true, '2024-07-15 13:30:00'),
-
-(2, 'Frontend Developer', 'TechStart Inc', 'New York, NY', 'Full-time', 'Web Development', 'React, TypeScript, CSS, HTML', '$80,000-$100,000', 'Permanent', '2024-11-30', 'Frontend developer position', 'Job Title: Frontend Developer
+Phone: +1 (415) 555-7890', '{"job_title":{"value":"Senior Full-Stack Developer & AI Specialist","confidence":0.95},"company":{"value":"InnovateTech Solutions Inc.","confidence":0.95},"location":{"value":["Remote (Global)","San Francisco, CA","Austin, TX"],"confidence":0.9},"contract_type":["Full-time"],"salary":["$145,000-$185,000"],"skills":[{"skill":"Python","confidence":0.9},{"skill":"JavaScript","confidence":0.9},{"skill":"React","confidence":0.8},{"skill":"AI/ML","confidence":0.8},{"skill":"Blockchain","confidence":0.7}]}'),
+(6, 'Frontend developer position', 'Job Title: Frontend Developer
 Company: TechStart Inc
 Location: New York, NY
 
@@ -205,7 +210,7 @@ Requirements:
 Salary: $80,000 - $100,000
 Benefits: Health insurance, 401(k), flexible PTO
 Start Date: Immediate
-Contact: careers@techstart.com', '{"job_title":{"value":"Frontend Developer","confidence":0.95},"company":{"value":"TechStart Inc","confidence":0.95},"location":{"value":["New York, NY"],"confidence":0.9},"contract_type":["Full-time"],"salary":["$80,000-$100,000"],"skills":[{"skill":"React","confidence":0.9},{"skill":"TypeScript","confidence":0.9},{"skill":"CSS","confidence":0.8},{"skill":"HTML","confidence":0.8}]}', true, '2024-06-10 10:00:00');
+Contact: careers@techstart.com', '{"job_title":{"value":"Frontend Developer","confidence":0.95},"company":{"value":"TechStart Inc","confidence":0.95},"location":{"value":["New York, NY"],"confidence":0.9},"contract_type":["Full-time"],"salary":["$80,000-$100,000"],"skills":[{"skill":"React","confidence":0.9},{"skill":"TypeScript","confidence":0.9},{"skill":"CSS","confidence":0.8},{"skill":"HTML","confidence":0.8}]}');
 
 -- Create applications with different dates
 INSERT INTO applications (seeker_id, job_offer_id, status, created_at) VALUES
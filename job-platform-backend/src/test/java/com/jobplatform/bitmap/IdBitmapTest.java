@@ -0,0 +1,142 @@
+package com.jobplatform.bitmap;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IdBitmapTest {
+
+    private static List<Integer> ascending(IdBitmap bitmap) {
+        List<Integer> ids = new ArrayList<>();
+        bitmap.forEach(ids::add);
+        return ids;
+    }
+
+    private static List<Integer> descending(IdBitmap bitmap) {
+        List<Integer> ids = new ArrayList<>();
+        bitmap.forEachDescendingWhile(id -> ids.add(id));
+        return ids;
+    }
+
+    private static IdBitmap of(TreeSet<Integer> ids) {
+        IdBitmap bitmap = new IdBitmap();
+        ids.forEach(bitmap::add);
+        return bitmap;
+    }
+
+    @Test
+    void keepsIdsAcrossArrayToBitmapAndBack() {
+        IdBitmap bitmap = new IdBitmap();
+        for (int i = 0; i < IdBitmap.ARRAY_MAX; i++) {
+            bitmap.add(i * 2);
+        }
+        bitmap.add(2);
+        assertEquals(IdBitmap.ARRAY_MAX, bitmap.cardinality());
+
+        // One past ARRAY_MAX turns the group into a bitmap container
+        bitmap.add(1);
+        assertEquals(IdBitmap.ARRAY_MAX + 1, bitmap.cardinality());
+        assertTrue(bitmap.contains(1));
+        assertTrue(bitmap.contains(2 * (IdBitmap.ARRAY_MAX - 1)));
+        assertFalse(bitmap.contains(3));
+
+        // Back at ARRAY_MAX it is an array again; keep removing through that transition
+        for (int i = 0; i < IdBitmap.ARRAY_MAX - 10; i++) {
+            bitmap.remove(i * 2);
+        }
+        bitmap.remove(3);
+        assertEquals(11, bitmap.cardinality());
+        assertFalse(bitmap.contains(0));
+        List<Integer> expected = new ArrayList<>(List.of(1));
+        for (int i = IdBitmap.ARRAY_MAX - 10; i < IdBitmap.ARRAY_MAX; i++) {
+            expected.add(i * 2);
+        }
+        assertEquals(expected, ascending(bitmap));
+    }
+
+    @Test
+    void dropsEmptyGroups() {
+        IdBitmap bitmap = new IdBitmap();
+        bitmap.add(5);
+        bitmap.add(70000);
+        bitmap.remove(70000);
+        bitmap.remove(5);
+
+        assertTrue(bitmap.isEmpty());
+        assertEquals(List.of(), ascending(bitmap));
+    }
+
+    @Test
+    void setOperationsAgreeWithSortedSetAcrossContainerTypes() {
+        Random random = new Random(42);
+        TreeSet<Integer> dense = new TreeSet<>();
+        TreeSet<Integer> sparse = new TreeSet<>();
+        // Group 0 is a bitmap container in dense and an array in sparse, group 1 the other way round
+        for (int i = 0; i < 30000; i++) {
+            dense.add(random.nextInt(65536));
+        }
+        for (int i = 0; i < 300; i++) {
+            dense.add(65536 + random.nextInt(65536));
+        }
+        for (int i = 0; i < 3000; i++) {
+            sparse.add(random.nextInt(200000));
+        }
+        for (int i = 0; i < 6000; i++) {
+            sparse.add(65536 + random.nextInt(65536));
+        }
+        IdBitmap a = of(dense);
+        IdBitmap b = of(sparse);
+
+        TreeSet<Integer> and = new TreeSet<>(dense);
+        and.retainAll(sparse);
+        TreeSet<Integer> or = new TreeSet<>(dense);
+        or.addAll(sparse);
+
+        assertEquals(new ArrayList<>(and), ascending(a.and(b)));
+        assertEquals(and.size(), a.andCardinality(b));
+        assertEquals(new ArrayList<>(or), ascending(a.or(b)));
+        assertEquals(new ArrayList<>(or.descendingSet()), descending(a.or(b)));
+        // Operands are left untouched
+        assertEquals(new ArrayList<>(dense), ascending(a));
+        assertEquals(new ArrayList<>(sparse), ascending(b));
+    }
+
+    @Test
+    void walksStopWhenThePredicateSaysSo() {
+        TreeSet<Integer> ids = new TreeSet<>();
+        for (int i = 0; i < 10000; i++) {
+            ids.add(i * 7);
+        }
+        IdBitmap bitmap = of(ids);
+
+        List<Integer> first = new ArrayList<>();
+        bitmap.forEachWhile(id -> {
+            first.add(id);
+            return first.size() < 3;
+        });
+        List<Integer> last = new ArrayList<>();
+        bitmap.forEachDescendingWhile(id -> {
+            last.add(id);
+            return last.size() < 3;
+        });
+
+        assertEquals(List.of(0, 7, 14), first);
+        assertEquals(List.of(69993, 69986, 69979), last);
+    }
+
+    @Test
+    void rejectsNegativeIds() {
+        IdBitmap bitmap = new IdBitmap();
+
+        assertThrows(IllegalArgumentException.class, () -> bitmap.add(-1));
+        assertFalse(bitmap.contains(-1));
+    }
+}
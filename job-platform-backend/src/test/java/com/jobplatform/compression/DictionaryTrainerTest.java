@@ -0,0 +1,60 @@
+package com.jobplatform.compression;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DictionaryTrainerTest {
+
+    private static final String[] TITLES = { "Développeur Java", "Data Scientist", "Ingénieur DevOps", "Stagiaire Angular" };
+    private static final String[] CITIES = { "Paris", "Lyon", "Tunis", "Sfax", "Nantes" };
+    private static final String[] CONTRACTS = { "CDI", "CDD", "Stage", "Alternance" };
+
+    private static List<String> postings(int count, long seed) {
+        Random random = new Random(seed);
+        List<String> postings = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            postings.add("Titre du poste : " + TITLES[random.nextInt(TITLES.length)] + "\n"
+                + "Localisation : " + CITIES[random.nextInt(CITIES.length)] + "\n"
+                + "Type de contrat : " + CONTRACTS[random.nextInt(CONTRACTS.length)] + "\n"
+                + "Missions : Vous serez en charge de la conception et du développement de nouvelles "
+                + "fonctionnalités, en lien avec l'équipe produit. Référence " + random.nextInt(100000) + ".\n"
+                + "Profil recherché : Bac+5 en informatique, " + (1 + random.nextInt(5)) + " ans d'expérience, "
+                + "anglais professionnel. Avantages : tickets restaurant, mutuelle, télétravail partiel.");
+        }
+        return postings;
+    }
+
+    @Test
+    void dictionaryHelpsOnUnseenPostingsAndStaysWithinBudget() throws CharacterCodingException {
+        byte[] dictionary = DictionaryTrainer.train(postings(200, 1), 4096);
+
+        assertTrue(dictionary.length > 0 && dictionary.length <= 4096);
+        StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPORT)
+            .decode(ByteBuffer.wrap(dictionary));
+
+        long withDictionary = 0;
+        long without = 0;
+        for (String posting : postings(50, 2)) {
+            withDictionary += TextCodec.deflatedSize(posting, dictionary);
+            without += TextCodec.deflatedSize(posting, new byte[0]);
+        }
+        assertTrue(withDictionary < without * 0.6, withDictionary + " vs " + without);
+    }
+
+    @Test
+    void ignoresTextSeenInASingleSample() {
+        assertEquals(0, DictionaryTrainer.train(List.of("x".repeat(500)), 4096).length);
+        assertEquals(0, DictionaryTrainer.train(List.of(), 4096).length);
+    }
+}
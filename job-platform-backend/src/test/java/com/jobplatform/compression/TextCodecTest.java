@@ -0,0 +1,81 @@
+package com.jobplatform.compression;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TextCodecTest {
+
+    private static final String POSTING = """
+        Nous recherchons un(e) Développeur Full Stack Java / Angular pour rejoindre notre équipe à Paris.
+        Missions : conception et développement de microservices Spring Boot, mise en place de pipelines CI/CD,
+        revue de code. Profil : 3 ans d'expérience minimum, maîtrise de Docker et Kubernetes, anglais courant.
+        Type de contrat : CDI. Salaire : 45-55k€ selon expérience. Télétravail partiel possible.
+        """;
+
+    @Test
+    void roundTripsLongTextCompressed() {
+        String stored = TextCodec.encode(POSTING);
+
+        assertTrue(TextCodec.isEncoded(stored));
+        assertTrue(stored.length() < POSTING.length());
+        assertEquals(POSTING, TextCodec.decode(stored));
+    }
+
+    @Test
+    void keepsShortTextPlain() {
+        assertEquals("Stage PFE - Data Science", TextCodec.encode("Stage PFE - Data Science"));
+        assertFalse(TextCodec.isEncoded("Stage PFE - Data Science"));
+    }
+
+    @Test
+    void keepsTextThatWouldNotShrinkPlain() {
+        StringBuilder noise = new StringBuilder();
+        Random random = new Random(7);
+        for (int i = 0; i < 300; i++) {
+            noise.append((char) ('!' + random.nextInt(90)));
+        }
+
+        assertEquals(noise.toString(), TextCodec.encode(noise.toString()));
+    }
+
+    @Test
+    void alwaysEncodesTextStartingWithThePrefix() {
+        String tricky = "dz1:not really compressed";
+        String stored = TextCodec.encode(tricky);
+
+        assertTrue(TextCodec.isEncoded(stored));
+        assertEquals(tricky, TextCodec.decode(stored));
+    }
+
+    @Test
+    void escapesPrefixesOfVersionsNotBundled() {
+        String future = "dz" + (TextCodec.currentVersion() + 1) + ":plain text";
+
+        assertEquals(future, TextCodec.decode(future));
+        assertTrue(TextCodec.isEncoded(TextCodec.encode(future)));
+        assertEquals(future, TextCodec.decode(TextCodec.encode(future)));
+    }
+
+    @Test
+    void decodesLegacyPlainRowsAndNullAsThemselves() {
+        assertEquals(POSTING, TextCodec.decode(POSTING));
+        assertNull(TextCodec.encode(null));
+        assertNull(TextCodec.decode(null));
+    }
+
+    @Test
+    void rejectsTruncatedPayload() {
+        String stored = TextCodec.encode(POSTING.repeat(4));
+        // Whole Base64 quads, so only the Deflate stream is cut short
+        String truncated = stored.substring(0, (stored.length() / 2) & ~3);
+
+        assertThrows(RuntimeException.class, () -> TextCodec.decode(truncated));
+    }
+}
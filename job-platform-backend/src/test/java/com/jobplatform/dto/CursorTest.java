@@ -0,0 +1,60 @@
+package com.jobplatform.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CursorTest {
+
+    @Test
+    void roundTripsCreatedAtWithNanosAndId() {
+        Cursor cursor = new Cursor(LocalDateTime.of(2025, 3, 14, 9, 26, 53, 589_793_238), 4242L);
+
+        Cursor decoded = Cursor.decode(cursor.encode());
+
+        assertEquals(cursor.getCreatedAt(), decoded.getCreatedAt());
+        assertEquals(4242L, decoded.getId());
+    }
+
+    @Test
+    void roundTripsStartAndDatesBeforeTheEpoch() {
+        Cursor start = Cursor.decode(Cursor.START.encode());
+        assertEquals(Cursor.START.getCreatedAt(), start.getCreatedAt());
+        assertEquals(Long.MAX_VALUE, start.getId());
+
+        Cursor old = Cursor.decode(new Cursor(LocalDateTime.of(1969, 12, 31, 23, 59, 59, 1), 1L).encode());
+        assertEquals(LocalDateTime.of(1969, 12, 31, 23, 59, 59, 1), old.getCreatedAt());
+    }
+
+    @Test
+    void encodesUrlSafeWithoutPadding() {
+        String token = new Cursor(LocalDateTime.of(2024, 1, 1, 0, 0), 7L).encode();
+
+        assertTrue(token.matches("[A-Za-z0-9_-]+"));
+    }
+
+    @Test
+    void missingTokenMeansStart() {
+        assertSame(Cursor.START, Cursor.decode(null));
+        assertSame(Cursor.START, Cursor.decode(" "));
+    }
+
+    @Test
+    void rejectsMalformedTokens() {
+        String otherVersion = Base64.getUrlEncoder().withoutPadding()
+            .encodeToString("v2:1:0:1".getBytes(StandardCharsets.UTF_8));
+        String notNumbers = Base64.getUrlEncoder().withoutPadding()
+            .encodeToString("v1:a:b:c".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(RuntimeException.class, () -> Cursor.decode("not base64!"));
+        assertThrows(RuntimeException.class, () -> Cursor.decode(otherVersion));
+        assertThrows(RuntimeException.class, () -> Cursor.decode(notNumbers));
+    }
+}
@@ -0,0 +1,86 @@
+package com.jobplatform.extraction;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AhoCorasickMatcherTest {
+
+    private static AhoCorasickMatcher matcher(String... termAndSkill) {
+        Map<String, String> terms = new LinkedHashMap<>();
+        for (int i = 0; i < termAndSkill.length; i += 2) {
+            terms.put(termAndSkill[i], termAndSkill[i + 1]);
+        }
+        return new AhoCorasickMatcher(terms);
+    }
+
+    private static Map<String, List<Integer>> positions(List<SkillMatch> matches) {
+        Map<String, List<Integer>> positions = new LinkedHashMap<>();
+        matches.forEach(match -> positions.put(match.getSkill(), match.getPositions()));
+        return positions;
+    }
+
+    @Test
+    void followsFailureLinkIntoOverlappingTerm() {
+        // After "spring boot" the scan has to fall back to the "boot" prefix of "boot camp"
+        AhoCorasickMatcher matcher = matcher("spring boot", "spring boot", "boot camp", "boot camp");
+
+        Map<String, List<Integer>> found = positions(matcher.match("Spring Boot camp"));
+
+        assertEquals(Map.of("spring boot", List.of(0), "boot camp", List.of(7)), found);
+    }
+
+    @Test
+    void followsFailureLinkAfterMismatch() {
+        AhoCorasickMatcher matcher = matcher("data science", "data science", "science", "science");
+
+        Map<String, List<Integer>> found = positions(matcher.match("data scientist, science"));
+
+        assertEquals(Map.of("science", List.of(16)), found);
+    }
+
+    @Test
+    void reportsTermsReachedThroughOutputLinks() {
+        // "sql" ends inside "no sql" and is only reported through the output link of that state
+        AhoCorasickMatcher matcher = matcher("no sql", "nosql", "sql", "sql", "l", "l");
+
+        Map<String, List<Integer>> found = positions(matcher.match("no sql"));
+
+        assertEquals(Map.of("nosql", List.of(0), "sql", List.of(3)), found);
+    }
+
+    @Test
+    void requiresWordBoundaries() {
+        AhoCorasickMatcher matcher = matcher("java", "java", "script", "script");
+
+        assertTrue(matcher.match("javascript scripting java2").isEmpty());
+        assertEquals(Map.of("java", List.of(5)), positions(matcher.match("(JS, java)")));
+    }
+
+    @Test
+    void mapsAliasesToCanonicalSkillAndCountsMentions() {
+        AhoCorasickMatcher matcher = matcher("kubernetes", "kubernetes", "k8s", "kubernetes", "docker", "docker");
+
+        List<SkillMatch> matches = matcher.match("K8S and Docker; kubernetes, docker");
+
+        assertEquals(2, matches.size());
+        assertEquals("kubernetes", matches.get(0).getSkill());
+        assertEquals(List.of(0, 16), matches.get(0).getPositions());
+        assertEquals(2, matches.get(0).getCount());
+        assertEquals("docker", matches.get(1).getSkill());
+        assertEquals(List.of(8, 28), matches.get(1).getPositions());
+    }
+
+    @Test
+    void collapsesTermsEqualAfterCaseFolding() {
+        AhoCorasickMatcher matcher = matcher("Go", "golang", "go", "go", "  ", "blank");
+
+        assertEquals(1, matcher.size());
+        assertEquals(Map.of("go", List.of(0)), positions(matcher.match("go")));
+    }
+}
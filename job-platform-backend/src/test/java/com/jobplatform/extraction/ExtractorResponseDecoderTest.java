@@ -0,0 +1,83 @@
+package com.jobplatform.extraction;
+
+import com.jobplatform.dto.ExtractorResponse;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExtractorResponseDecoderTest {
+
+    @Test
+    void decodesNestedExtractFormat() throws IOException {
+        ExtractorResponse response = ExtractorResponseDecoder.decode("""
+            {
+              "error": null,
+              "job_title": {"value": "Data Engineer", "confidence": 0.9},
+              "company": {"value": ["Acme", "Other"], "confidence": 0.7},
+              "location": {"value": ["Paris", " ", null], "confidence": 0.5},
+              "contract_type": ["CDI"],
+              "salary": "45k",
+              "contacts": {"emails": ["jobs@acme.com"], "phones": [], "unknown": {"a": 1}},
+              "skills": [{"skill": "python", "confidence": 0.8, "label": "SKILL"}, "sql", {"confidence": 1}],
+              "embedding": [0.5, -1, 2.25],
+              "metadata": {"model": "x"},
+              "extra": [1, {"nested": true}]
+            }
+            """);
+
+        assertEquals("Data Engineer", response.getJobTitle().getValue());
+        assertEquals(0.9, response.getJobTitle().getConfidence());
+        assertEquals("Acme", response.getCompany().getValue());
+        assertEquals(List.of("Paris"), response.getLocation().getValue());
+        assertEquals(List.of("CDI"), response.getContractType());
+        assertEquals(List.of("45k"), response.getSalary());
+        assertEquals(List.of(), response.getDuration());
+        assertEquals(List.of("jobs@acme.com"), response.getContacts().getEmails());
+        assertEquals(List.of(), response.getContacts().getUrls());
+        assertEquals(2, response.getSkills().size());
+        assertEquals("python", response.getSkills().get(0).getSkill());
+        assertEquals("SKILL", response.getSkills().get(0).getLabel());
+        assertEquals("sql", response.getSkills().get(1).getSkill());
+        assertNull(response.getSkills().get(1).getConfidence());
+        assertArrayEquals(new float[] { 0.5f, -1f, 2.25f }, response.getEmbedding());
+        assertEquals("x", response.getMetadata().get("model"));
+    }
+
+    @Test
+    void decodesFlatBatchFormatWithoutConfidences() throws IOException {
+        ExtractorResponse response = ExtractorResponseDecoder.decode("""
+            {"job_title": "Backend Developer", "company": null, "location": ["Lyon", "Remote"], "skills": []}
+            """);
+
+        assertEquals("Backend Developer", response.getJobTitle().getValue());
+        assertNull(response.getJobTitle().getConfidence());
+        assertNull(response.getCompany());
+        assertEquals(List.of("Lyon", "Remote"), response.getLocation().getValue());
+        assertTrue(response.getSkills().isEmpty());
+    }
+
+    @Test
+    void readsLongEmbeddings() throws IOException {
+        StringBuilder json = new StringBuilder("{\"embedding\": [");
+        for (int i = 0; i < 1000; i++) {
+            json.append(i > 0 ? "," : "").append(i);
+        }
+        float[] embedding = ExtractorResponseDecoder.decode(json.append("]}").toString()).getEmbedding();
+
+        assertEquals(1000, embedding.length);
+        assertEquals(999f, embedding[999]);
+    }
+
+    @Test
+    void rejectsServiceErrorsAndNonObjects() {
+        assertThrows(IOException.class, () -> ExtractorResponseDecoder.decode("{\"error\": \"model not loaded\"}"));
+        assertThrows(IOException.class, () -> ExtractorResponseDecoder.decode("[]"));
+    }
+}
@@ -0,0 +1,104 @@
+package com.jobplatform.similarity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HnswIndexTest {
+
+    private static final int DIMENSIONS = 32;
+
+    private static float[] randomVector(Random random) {
+        float[] vector = new float[DIMENSIONS];
+        for (int i = 0; i < DIMENSIONS; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return vector;
+    }
+
+    private static Set<Long> ids(List<HnswIndex.Result> results) {
+        Set<Long> ids = new HashSet<>();
+        results.forEach(result -> ids.add(result.getId()));
+        return ids;
+    }
+
+    @Test
+    void approximateSearchRecallsMostExactNeighbours() {
+        Random random = new Random(1);
+        HnswIndex index = new HnswIndex(16, 200, 64);
+        for (long id = 0; id < 2000; id++) {
+            index.put(id, randomVector(random));
+        }
+
+        int found = 0;
+        int queries = 50;
+        for (int q = 0; q < queries; q++) {
+            float[] query = randomVector(random);
+            Set<Long> exact = ids(index.exactSearch(query, 10));
+            Set<Long> approximate = ids(index.search(query, 10));
+            approximate.retainAll(exact);
+            found += approximate.size();
+        }
+
+        assertTrue(found >= queries * 10 * 0.9, "recall@10 " + found / (queries * 10.0));
+    }
+
+    @Test
+    void returnsMostSimilarFirstAndFindsItself() {
+        Random random = new Random(2);
+        HnswIndex index = new HnswIndex(8, 100, 50);
+        for (long id = 0; id < 300; id++) {
+            index.put(id, randomVector(random));
+        }
+
+        List<HnswIndex.Result> results = index.search(index.get(123), 5);
+
+        assertEquals(123L, results.get(0).getId());
+        assertEquals(1f, results.get(0).getSimilarity(), 1e-5);
+        for (int i = 1; i < results.size(); i++) {
+            assertTrue(results.get(i - 1).getSimilarity() >= results.get(i).getSimilarity());
+        }
+    }
+
+    @Test
+    void skipsRemovedEntriesUntilCompactedAndReplacesOnPut() {
+        Random random = new Random(3);
+        HnswIndex index = new HnswIndex(8, 100, 50);
+        for (long id = 0; id < 200; id++) {
+            index.put(id, randomVector(random));
+        }
+        float[] vector = index.get(7);
+
+        index.remove(7);
+        assertFalse(index.contains(7));
+        assertNull(index.get(7));
+        assertFalse(ids(index.search(vector, 10)).contains(7L));
+        assertEquals(199, index.size());
+        assertTrue(index.deletedRatio() > 0);
+
+        index.compact();
+        assertEquals(0.0, index.deletedRatio());
+        assertEquals(199, index.size());
+
+        index.put(8, vector);
+        assertEquals(8L, index.search(vector, 1).get(0).getId());
+        assertEquals(199, index.size());
+    }
+
+    @Test
+    void rejectsVectorsOfAnotherDimension() {
+        HnswIndex index = new HnswIndex(8, 100, 50);
+        index.put(1, new float[] { 1, 0, 0 });
+
+        assertThrows(IllegalArgumentException.class, () -> index.put(2, new float[] { 1, 0 }));
+    }
+}
@@ -0,0 +1,91 @@
+package com.jobplatform.similarity;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MinHashTest {
+
+    private static final String POSTING = "Backend developer Java Spring Boot microservices REST APIs MySQL Docker "
+        + "Kubernetes CI CD pipelines code reviews agile team Paris office hybrid remote two days per week "
+        + "three years experience required competitive salary meal vouchers health insurance";
+
+    private static final String OTHER = "Data scientist internship six months machine learning Python pandas "
+        + "scikit learn deep learning PyTorch NLP research team Tunis start in February monthly stipend";
+
+    // Same settings as dedup.num-hashes, dedup.bands and dedup.shingle-size
+    private final MinHash minHash = new MinHash(128, 3);
+
+    @Test
+    void ignoresCaseWhitespaceAndPunctuation() {
+        int[] signature = minHash.signature(POSTING);
+
+        assertArrayEquals(signature, minHash.signature(POSTING.toUpperCase().replace(" ", " ,\n ")));
+        assertEquals(1.0, MinHash.similarity(signature, minHash.signature(POSTING)));
+    }
+
+    @Test
+    void estimatesSimilarityOfEditedAndUnrelatedTexts() {
+        int[] original = minHash.signature(POSTING);
+        int[] edited = minHash.signature(POSTING.replace("Paris", "Lyon"));
+        int[] unrelated = minHash.signature(OTHER);
+
+        double editedSimilarity = MinHash.similarity(original, edited);
+        assertTrue(editedSimilarity > 0.7 && editedSimilarity < 1.0, "edited " + editedSimilarity);
+        assertTrue(MinHash.similarity(original, unrelated) < 0.1);
+    }
+
+    @Test
+    void packsLittleEndianAndUnpacks() {
+        int[] signature = minHash.signature(POSTING);
+        byte[] packed = MinHash.pack(signature);
+
+        assertEquals(128 * Integer.BYTES, packed.length);
+        assertEquals((byte) signature[0], packed[0]);
+        assertArrayEquals(signature, MinHash.unpack(packed));
+    }
+
+    @Test
+    void signaturesAreStableAcrossInstances() {
+        assertArrayEquals(minHash.signature(POSTING), new MinHash(128, 3).signature(POSTING));
+    }
+
+    @Test
+    void lshFindsNearDuplicateAboveThreshold() {
+        LshIndex index = new LshIndex(128, 32);
+        index.put(1, minHash.signature(POSTING));
+        index.put(2, minHash.signature(OTHER));
+
+        int[] query = minHash.signature(POSTING.replace("Paris", "Lyon"));
+        LshIndex.Match match = index.findBest(query, 0.7, -1);
+
+        assertEquals(1L, match.getId());
+        assertEquals(MinHash.similarity(query, minHash.signature(POSTING)), match.getSimilarity());
+        assertNull(index.findBest(query, 0.7, 1));
+        assertNull(index.findBest(query, 1.0, -1));
+    }
+
+    @Test
+    void lshReplacesAndRemovesEntries() {
+        LshIndex index = new LshIndex(128, 32);
+        index.put(1, minHash.signature(POSTING));
+        index.put(1, minHash.signature(OTHER));
+
+        assertEquals(1, index.size());
+        assertNull(index.findBest(minHash.signature(POSTING), 0.5, -1));
+        assertEquals(1L, index.findBest(minHash.signature(OTHER), 0.5, -1).getId());
+
+        index.remove(1);
+        assertEquals(0, index.size());
+        assertNull(index.findBest(minHash.signature(OTHER), 0.0, -1));
+    }
+
+    @Test
+    void lshRejectsBandsNotDividingTheSignature() {
+        assertThrows(IllegalArgumentException.class, () -> new LshIndex(128, 30));
+    }
+}
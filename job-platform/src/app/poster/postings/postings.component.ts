@@ -133,6 +133,17 @@ export class PostingsComponent implements OnInit, OnDestroy {
     if (this.jobDetailsDialog) {
       this.dialog.open(this.jobDetailsDialog, { width: '700px' });
     }
+    // Rows are built from cards; load the text for the dialog
+    if (!posting.rawText) {
+      this.apiService.getJobOfferById(posting.id)
+        .pipe(takeUntil(this.destroy$))
+        .subscribe({
+          next: (jobOffer) => {
+            posting.rawText = jobOffer.rawText || jobOffer.description || '';
+          },
+          error: (error) => console.error('Error loading job offer text:', error)
+        });
+    }
   }
 
   editPosting(posting: JobOfferLite): void {
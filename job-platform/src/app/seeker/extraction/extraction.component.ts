@@ -5,6 +5,7 @@ import { MatSnackBar } from '@angular/material/snack-bar';
 import { MatTableDataSource } from '@angular/material/table';
 import { MatPaginator } from '@angular/material/paginator';
 import { MatSort } from '@angular/material/sort';
+import { switchMap } from 'rxjs/operators';
 import { ApiService, JobOffer } from '../../shared/services/api.service';
 
 export interface ExtractedJobData {
@@ -175,7 +176,9 @@ export class ExtractionComponent implements OnInit, AfterViewInit {
     let completedExtractions = 0;
 
     selectedJobsList.forEach(job => {
-      this.apiService.extractFromText(job.rawText).subscribe({
+      this.apiService.withRawText(job).pipe(
+        switchMap(fullJob => this.apiService.extractFromText(fullJob.rawText))
+      ).subscribe({
         next: (extractedData) => {
           const extractedJob: ExtractedJobData = {
             jobId: job.id,
@@ -3,6 +3,7 @@ import { FormBuilder, FormGroup } from '@angular/forms';
 import { MatDialog } from '@angular/material/dialog';
 import { MatSnackBar } from '@angular/material/snack-bar';
 import { MatTableDataSource } from '@angular/material/table';
+import { switchMap } from 'rxjs/operators';
 import { ApiService, JobOffer } from '../../shared/services/api.service';
 
 @Component({
@@ -67,6 +68,15 @@ export class SearchComponent implements OnInit {
       width: '800px',
       maxHeight: '90vh'
     });
+    // The list only carries cards; load the text for the dialog
+    this.apiService.withRawText(job).subscribe({
+      next: (fullJob) => {
+        if (this.selectedJob?.id === fullJob.id) {
+          this.selectedJob = fullJob;
+        }
+      },
+      error: (error) => console.error('Error loading job details:', error)
+    });
   }
 
   extractJobData(job: JobOffer): void {
@@ -74,7 +84,9 @@ export class SearchComponent implements OnInit {
     this.selectedJob = job;
     
     // Call the extract API with the job's raw text
-    this.apiService.extractFromText(job.rawText).subscribe({
+    this.apiService.withRawText(job).pipe(
+      switchMap(fullJob => this.apiService.extractFromText(fullJob.rawText))
+    ).subscribe({
       next: (extractedData) => {
         console.log('Extracted data:', extractedData);
         this.extractedData = extractedData;
@@ -1,6 +1,6 @@
 import { Injectable } from '@angular/core';
 import { HttpClient, HttpHeaders, HttpParams } from '@angular/common/http';
-import { Observable } from 'rxjs';
+import { Observable, of } from 'rxjs';
 import { map } from 'rxjs/operators';
 import { environment } from '../../../environments/environment';
 import { User } from '../models/user.model';
@@ -95,8 +95,10 @@ export class ApiService {
   }
 
   // Job Offer endpoints
+  // List views ask for compact cards only; rawText is loaded per offer by withRawText
   getAllJobOffers(): Observable<any> {
-    return this.http.get<any>(`${this.baseUrl}/api/job-offers`)
+    const params = new HttpParams().set('fields', 'card');
+    return this.http.get<any>(`${this.baseUrl}/api/job-offers`, { params })
       .pipe(
         map(response => response.content || response)
       );
@@ -113,7 +115,8 @@ export class ApiService {
   }
 
   getJobOffersByOfferer(offererId: number): Observable<JobOffer[]> {
-    return this.http.get<any>(`${this.baseUrl}/api/job-offers/offerer/${offererId}`)
+    const params = new HttpParams().set('fields', 'card');
+    return this.http.get<any>(`${this.baseUrl}/api/job-offers/offerer/${offererId}`, { params })
       .pipe(
         map(response => response.content || response)
       );
@@ -131,6 +134,11 @@ export class ApiService {
     return this.http.get<JobOffer>(`${this.baseUrl}/api/job-offers/${id}`);
   }
 
+  // The offer itself if it already carries its text, otherwise the full offer from the detail endpoint
+  withRawText(job: JobOffer): Observable<JobOffer> {
+    return job.rawText != null ? of(job) : this.getJobOfferById(job.id);
+  }
+
   createJobOffer(jobOffer: JobOfferRequest): Observable<JobOffer> {
     return this.http.post<JobOffer>(`${this.baseUrl}/api/job-offers`, jobOffer);
   }
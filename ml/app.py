@@ -469,14 +469,17 @@ def compute_embedding(text: str):
             return None
     return None
 
+def clean_text(text: str) -> str:
+    """Whitespace cleanup applied before extraction and embedding; line breaks are kept for structure"""
+    text = re.sub(r'\n+', '\n', text)  # Replace multiple newlines with single
+    text = re.sub(r'[ \t]+', ' ', text)  # Replace multiple spaces/tabs with single space
+    return text.strip()
+
 def process_text(text: str, min_conf=MIN_CONF_DEFAULT) -> Dict[str,Any]:
     if not text or len(text.strip())==0:
         return {"error":"empty"}
     
-    # Clean text but preserve line breaks for structure
-    text = re.sub(r'\n+', '\n', text)  # Replace multiple newlines with single
-    text = re.sub(r'[ \t]+', ' ', text)  # Replace multiple spaces/tabs with single space
-    text = text.strip()
+    text = clean_text(text)
     
     lang = detect_language_simple(text)
     chunks = chunk_text(text)
@@ -27,7 +27,7 @@ except Exception:
 
 # Add the current directory to Python path to import app.py
 sys.path.append(os.path.dirname(os.path.abspath(__file__)))
-from app import process_text
+from app import process_text, compute_embedding, clean_text
 
 app = Flask(__name__)
 CORS(app)  # Enable CORS for Spring Boot integration
@@ -344,6 +344,20 @@ def extract_text():
     except Exception as e:
         return jsonify({'error': str(e)}), 500
 
+@app.route('/api/embed', methods=['POST'])
+def embed_text():
+    """Compute only the embedding of a text, for offers extracted by the backend's local tier"""
+    try:
+        data = request.get_json()
+        if not data or not data.get('text', '').strip():
+            return jsonify({'error': 'Text field is required'}), 400
+        
+        # Same cleanup as /api/extract, so both endpoints embed a posting identically
+        return jsonify({'embedding': compute_embedding(clean_text(data['text']))})
+    
+    except Exception as e:
+        return jsonify({'error': str(e)}), 500
+
 @app.route('/api/batch-extract', methods=['POST'])
 def extract_file():
     """Extract job information from uploaded file"""